@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.bukkit.block.BlockState;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// <summary>
+/// Compares <see cref="PackedPositionMap"/> with the <c>HashMap&lt;Vector, BlockState&gt;</c> it replaced in
+/// <c>DreamBlockMask</c>, on the work one mask frame does: build a frame for a cube of blocks, look every position
+/// up in the previous frame, and walk the result.
+/// </summary>
+/// <remarks>
+/// Run with <c>mvn -Pjmh test-compile exec:exec</c>. The cube is centred on negative coordinates so the packed
+/// sign bits are exercised, and the stored state is a shared proxy because only the map work is measured.
+/// </remarks>
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedPositionMapBenchmark {
+
+    /// <summary>Half-width of the cube; 8 is ~4.9k blocks, 16 is ~36k blocks.</summary>
+    @Param({"4", "8", "16"})
+    public int radius;
+
+    private static final int ORIGIN_X = -1000;
+    private static final int ORIGIN_Y = -40;
+    private static final int ORIGIN_Z = -2000;
+
+    private final BlockState state = (BlockState) Proxy.newProxyInstance(BlockState.class.getClassLoader(),
+            new Class<?>[] {BlockState.class}, (proxy, method, args) -> method.getName().equals("hashCode") ? 0 : null);
+
+    private int[] xs, ys, zs;
+    private Map<Vector, BlockState> previousHashMap;
+    private PackedPositionMap<BlockState> previousPacked;
+
+    @Setup
+    public void setup() {
+        final int side = radius * 2 + 1;
+        final int count = side * side * side;
+        xs = new int[count];
+        ys = new int[count];
+        zs = new int[count];
+        int i = 0;
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                for (int z = -radius; z <= radius; z++, i++) {
+                    xs[i] = ORIGIN_X + x;
+                    ys[i] = ORIGIN_Y + y;
+                    zs[i] = ORIGIN_Z + z;
+                }
+            }
+        }
+        previousHashMap = buildHashMap(1);
+        previousPacked = buildPacked(1);
+    }
+
+    @Benchmark
+    public Map<Vector, BlockState> buildFrameHashMap() {
+        return buildHashMap(0);
+    }
+
+    @Benchmark
+    public PackedPositionMap<BlockState> buildFramePacked() {
+        return buildPacked(0);
+    }
+
+    @Benchmark
+    public void diffFrameHashMap(Blackhole blackhole) {
+        final Map<Vector, BlockState> frame = buildHashMap(0);
+        int unchanged = 0;
+        for (Map.Entry<Vector, BlockState> entry : frame.entrySet()) {
+            if (previousHashMap.get(entry.getKey()) == entry.getValue()) unchanged++;
+        }
+        blackhole.consume(unchanged);
+    }
+
+    @Benchmark
+    public void diffFramePacked(Blackhole blackhole) {
+        final PackedPositionMap<BlockState> frame = buildPacked(0);
+        final int[] unchanged = new int[1];
+        frame.forEach((key, value) -> {
+            if (previousPacked.get(key) == value) unchanged[0]++;
+        });
+        blackhole.consume(unchanged[0]);
+    }
+
+    /// <summary>Builds a frame shifted by <paramref name="shift"/> blocks on X, like a player walking one block.</summary>
+    private Map<Vector, BlockState> buildHashMap(int shift) {
+        final Map<Vector, BlockState> frame = new HashMap<>();
+        for (int i = 0; i < xs.length; i++) frame.put(new Vector(xs[i] + shift, ys[i], zs[i]), state);
+        return frame;
+    }
+
+    private PackedPositionMap<BlockState> buildPacked(int shift) {
+        final PackedPositionMap<BlockState> frame = new PackedPositionMap<>();
+        for (int i = 0; i < xs.length; i++) frame.put(DreamBlockPos.pack(xs[i] + shift, ys[i], zs[i]), state);
+        return frame;
+    }
+}
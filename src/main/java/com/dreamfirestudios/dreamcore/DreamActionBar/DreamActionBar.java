@@ -23,12 +23,14 @@
  */
 package com.dreamfirestudios.dreamcore.DreamActionBar;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassID;
 import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /// <summary>
 /// Represents an action bar instance that cycles through frames and displays them to viewers.
@@ -49,6 +51,14 @@ public class DreamActionBar extends DreamClassID {
         return viewers.contains(player);
     }
 
+    /// <summary>
+    /// Returns the UUIDs of all current viewers.
+    /// </summary>
+    /// <returns>A snapshot of viewer UUIDs.</returns>
+    public List<UUID> getViewerIds() {
+        return viewers.stream().map(Player::getUniqueId).toList();
+    }
+
     /// <summary>
     /// Adds a player as a viewer of this action bar.
     /// </summary>
@@ -57,8 +67,9 @@ public class DreamActionBar extends DreamClassID {
     public void addViewer(Player player, boolean multipleActionBars) {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
         if(DreamActionBarAPI.IsPlayerInActionBar(player) && !multipleActionBars) return;
-        if(viewers.contains(player) || new DreamActionBarPlayerAdded(this, player).isCancelled()) return;
+        if(viewers.contains(player) || DreamEventDispatcher.isCancelled(DreamActionBarPlayerAdded.getHandlerList(), () -> new DreamActionBarPlayerAdded(this, player))) return;
         viewers.add(player);
+        DreamCore.DreamActionBars.reindex(getClassID());
     }
 
     /// <summary>
@@ -67,16 +78,18 @@ public class DreamActionBar extends DreamClassID {
     /// <param name="player">The player to remove.</param>
     public void removeViewer(Player player) {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
-        if(!viewers.contains(player) || new DreamActionBarPlayerRemoved(this, player).isCancelled()) return;
+        if(!viewers.contains(player) || DreamEventDispatcher.isCancelled(DreamActionBarPlayerRemoved.getHandlerList(), () -> new DreamActionBarPlayerRemoved(this, player))) return;
         viewers.remove(player);
+        DreamCore.DreamActionBars.reindex(getClassID());
     }
 
     /// <summary>
     /// Clears all current viewers from this action bar.
     /// </summary>
     public void clearViewers() {
-        viewers.forEach(this::removeViewer);
+        new ArrayList<>(viewers).forEach(this::removeViewer);
         viewers.clear();
+        DreamCore.DreamActionBars.reindex(getClassID());
     }
 
     /// <summary>
@@ -107,7 +120,7 @@ public class DreamActionBar extends DreamClassID {
     /// Pauses this action bar, preventing further frame updates until resumed.
     /// </summary>
     public void pause() {
-        if (!paused && !new DreamActionBarPaused(this).isCancelled()) {
+        if (!paused && !DreamEventDispatcher.isCancelled(DreamActionBarPaused.getHandlerList(), () -> new DreamActionBarPaused(this))) {
             paused = true;
         }
     }
@@ -116,7 +129,7 @@ public class DreamActionBar extends DreamClassID {
     /// Resumes this action bar if it was previously paused.
     /// </summary>
     public void play() {
-        if (paused && !new DreamActionBarPlayed(this).isCancelled()) {
+        if (paused && !DreamEventDispatcher.isCancelled(DreamActionBarPlayed.getHandlerList(), () -> new DreamActionBarPlayed(this))) {
             paused = false;
         }
     }
@@ -125,7 +138,7 @@ public class DreamActionBar extends DreamClassID {
     /// Stops this action bar, removing it from <see cref="DreamCore"/> and clearing all viewers.
     /// </summary>
     public void stop() {
-        if(!new DreamActionBarStopped(this).isCancelled()){
+        if(!DreamEventDispatcher.isCancelled(DreamActionBarStopped.getHandlerList(), () -> new DreamActionBarStopped(this))){
             DreamCore.DreamActionBars.remove(getClassID());
             clearViewers();
         }
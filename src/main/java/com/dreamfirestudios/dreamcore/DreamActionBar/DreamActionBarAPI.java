@@ -44,11 +44,6 @@ public class DreamActionBarAPI {
     /// </exception>
     public static boolean IsPlayerInActionBar(Player player) {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
-        for (var dreamActionBar : DreamCore.DreamActionBars.values()) {
-            if (dreamActionBar.isPlayerViewing(player)) {
-                return true;
-            }
-        }
-        return false;
+        return DreamCore.DreamActionBarsByPlayer.contains(player.getUniqueId());
     }
 }
\ No newline at end of file
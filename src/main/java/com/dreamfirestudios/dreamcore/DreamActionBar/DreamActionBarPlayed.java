@@ -23,9 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamActionBar;
 
-import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -55,8 +54,7 @@ public class DreamActionBarPlayed extends Event implements Cancellable {
     /// <param name="dreamActionBar">The action bar being resumed.</param>
     public DreamActionBarPlayed(DreamActionBar dreamActionBar) {
         DreamActionBar = dreamActionBar;
-        Bukkit.getScheduler().runTask(DreamCore.DreamCore,
-                () -> Bukkit.getPluginManager().callEvent(this));
+        DreamEventDispatcher.call(this);
     }
 
     /// <summary>
@@ -23,9 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamActionBar;
 
-import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
@@ -64,8 +63,7 @@ public class DreamActionBarPlayerRemoved extends Event implements Cancellable {
     public DreamActionBarPlayerRemoved(DreamActionBar dreamActionBar, Player player) {
         DreamActionBar = dreamActionBar;
         Player = player;
-        Bukkit.getScheduler().runTask(DreamCore.DreamCore,
-                () -> Bukkit.getPluginManager().callEvent(this));
+        DreamEventDispatcher.call(this);
     }
 
     /// <summary>
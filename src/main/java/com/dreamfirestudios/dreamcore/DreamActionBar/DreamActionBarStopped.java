@@ -24,8 +24,8 @@
 package com.dreamfirestudios.dreamcore.DreamActionBar;
 
 import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -55,8 +55,7 @@ public class DreamActionBarStopped extends Event implements Cancellable {
     /// <param name="dreamActionBar">The action bar being stopped.</param>
     public DreamActionBarStopped(DreamActionBar dreamActionBar) {
         DreamActionBar = dreamActionBar;
-        Bukkit.getScheduler().runTask(DreamCore.DreamCore,
-                () -> Bukkit.getPluginManager().callEvent(this));
+        DreamEventDispatcher.call(this);
     }
 
     /// <summary>
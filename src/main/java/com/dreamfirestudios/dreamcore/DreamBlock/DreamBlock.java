@@ -23,6 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamBlock;
 
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import com.dreamfirestudios.dreamcore.DreamCollections.PackedPositionSet;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -136,6 +138,54 @@ public class DreamBlock {
         return result;
     }
 
+    /// <summary>
+    /// Collects the packed positions of all blocks within a region centered at <paramref name="location"/>,
+    /// optionally filtered by <paramref name="materials"/>.
+    /// </summary>
+    /// <param name="location">Region center; its world must be non-null.</param>
+    /// <param name="radius">Half-length of the search extent (in blocks).</param>
+    /// <param name="step">Sampling step size in blocks; must be &gt; 0.</param>
+    /// <param name="shape">Region shape: cube or sphere.</param>
+    /// <param name="materials">Optional material filter; when empty, all positions are returned.</param>
+    /// <returns>Matching positions packed with <see cref="DreamBlockPos"/>; empty if none or invalid inputs.</returns>
+    /// <remarks>
+    /// Same region as <see cref="returnAllBlocksInRadius"/>, but reads block types directly from the world and
+    /// allocates no <see cref="Block"/> per position.
+    /// </remarks>
+    /// <example>
+    /// <code>
+    /// var glass = DreamBlock.returnAllPositionsInRadius(player.getLocation(), 16, 1, RegionShape.CUBE, Material.GLASS);
+    /// glass.forEach(key -&gt; player.sendBlockChange(DreamBlockPos.toLocation(world, key), air));
+    /// </code>
+    /// </example>
+    public static PackedPositionSet returnAllPositionsInRadius(final Location location, final int radius, final int step,
+                                                               final RegionShape shape, final Material... materials) {
+        final PackedPositionSet result = new PackedPositionSet();
+        final World world = location.getWorld();
+        if (world == null || step <= 0) return result;
+
+        final int cx = location.getBlockX();
+        final int cy = location.getBlockY();
+        final int cz = location.getBlockZ();
+
+        final int r2 = radius * radius;
+        final boolean filterByMaterial = materials != null && materials.length > 0;
+        final Set<Material> materialSet = filterByMaterial ? EnumSet.copyOf(Arrays.asList(materials)) : null;
+
+        for (int x = cx - radius; x < cx + radius; x += step) {
+            for (int y = cy - radius; y < cy + radius; y += step) {
+                for (int z = cz - radius; z < cz + radius; z += step) {
+                    if (shape == RegionShape.SPHERE) {
+                        int dx = x - cx, dy = y - cy, dz = z - cz;
+                        if (dx * dx + dy * dy + dz * dz > r2) continue;
+                    }
+                    if (!filterByMaterial || materialSet.contains(world.getType(x, y, z))) result.add(DreamBlockPos.pack(x, y, z));
+                }
+            }
+        }
+        return result;
+    }
+
     /// <summary>
     /// Replaces all blocks whose material is in <paramref name="targetMaterials"/> within the region
     /// with <paramref name="replacementMaterial"/>.
@@ -23,6 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamBlockDisplay;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamWheelTask;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.BlockDisplay;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -36,7 +38,12 @@ import java.util.function.Consumer;
 /// </summary>
 /// <remarks>
 /// These helpers mutate the display’s <see cref="Transformation"/> in place each tick.
-/// Call <c>Bukkit.getScheduler().cancelTask(taskId)</c> to stop a scheduled animation.
+/// <see cref="#animateScaleTask"/> and <see cref="#animateCustomTask"/> run on <see cref="DreamCore#DreamTimingWheel"/>;
+/// call <c>cancel()</c> on the returned <see cref="DreamWheelTask"/> to stop one. Such an animation also stops once its
+/// display is no longer valid, and its display is registered with <see cref="DreamCore#DreamViewTracker"/> so frames are
+/// skipped while no player is within the display's view range.
+/// The older <see cref="#animateScale"/> and <see cref="#animateCustom"/> still return a Bukkit scheduler task ID
+/// (stop with <c>Bukkit.getScheduler().cancelTask(taskId)</c>) and are deprecated.
 /// </remarks>
 public final class BlockDisplayAnimator {
 
@@ -49,19 +56,15 @@ public final class BlockDisplayAnimator {
     /// <param name="scaleIncrement">Amount added to the scale per tick (x,y,z).</param>
     /// <param name="period">Tick period between updates (e.g., 1 = every tick).</param>
     /// <param name="plugin">Your plugin instance used for scheduling.</param>
-    /// <returns>The Bukkit scheduler task ID for the repeating animation.</returns>
+    /// <returns>The wheel task driving the repeating animation.</returns>
     /// <example>
     /// ```java
-    /// int taskId = BlockDisplayAnimator.animateScale(display, new Vector3f(0.01f, 0.01f, 0.01f), 1L, plugin);
-    /// // Later: Bukkit.getScheduler().cancelTask(taskId);
+    /// DreamWheelTask task = BlockDisplayAnimator.animateScaleTask(display, new Vector3f(0.01f, 0.01f, 0.01f), 1L, plugin);
+    /// // Later: task.cancel();
     /// ```
     /// </example>
-    public static int animateScale(BlockDisplay display, org.joml.Vector3f scaleIncrement, long period, JavaPlugin plugin) {
-        return Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            Transformation transformation = display.getTransformation();
-            transformation.getScale().add(scaleIncrement);
-            display.setTransformation(transformation);
-        }, period, period).getTaskId();
+    public static DreamWheelTask animateScaleTask(BlockDisplay display, org.joml.Vector3f scaleIncrement, long period, JavaPlugin plugin) {
+        return animateCustomTask(display, transformation -> transformation.getScale().add(scaleIncrement), period, plugin);
     }
 
     /// <summary>
@@ -71,20 +74,61 @@ public final class BlockDisplayAnimator {
     /// <param name="animator">A function that mutates the current <see cref="Transformation"/>.</param>
     /// <param name="period">Tick period between updates (e.g., 1 = every tick).</param>
     /// <param name="plugin">Your plugin instance used for scheduling.</param>
-    /// <returns>The Bukkit scheduler task ID for the repeating animation.</returns>
+    /// <returns>The wheel task driving the repeating animation.</returns>
     /// <remarks>
     /// The provided <paramref name="animator"/> receives the current transformation each tick and can mutate
     /// translation, rotation, and scale as needed before it is reapplied to the display.
     /// </remarks>
     /// <example>
     /// ```java
-    /// int taskId = BlockDisplayAnimator.animateCustom(display, t -> {
+    /// DreamWheelTask task = BlockDisplayAnimator.animateCustomTask(display, t -> {
     ///     // rotate a little around Y each tick
     ///     t.getLeftRotation().rotateY((float) Math.toRadians(2.0));
     /// }, 1L, plugin);
-    /// // Later: Bukkit.getScheduler().cancelTask(taskId);
+    /// // Later: task.cancel();
     /// ```
     /// </example>
+    public static DreamWheelTask animateCustomTask(BlockDisplay display, Consumer<Transformation> animator, long period, JavaPlugin plugin) {
+        final long ticks = Math.max(1L, period);
+        final DreamWheelTask[] task = new DreamWheelTask[1];
+        if (!DreamCore.DreamViewTracker.isTracked(display.getUniqueId())) DreamCore.DreamViewTracker.trackDisplay(display);
+        task[0] = DreamCore.DreamTimingWheel.scheduleRepeating(plugin, ticks, ticks, () -> {
+            if (!display.isValid()) {
+                task[0].cancel();
+                return;
+            }
+            if (!DreamCore.DreamViewTracker.hasViewers(display.getUniqueId())) return;
+            Transformation transformation = display.getTransformation();
+            animator.accept(transformation);
+            display.setTransformation(transformation);
+        });
+        return task[0];
+    }
+
+    /// <summary>
+    /// Animates the scale of a <see cref="BlockDisplay"/> on the Bukkit scheduler.
+    /// </summary>
+    /// <param name="display">The <see cref="BlockDisplay"/> to animate.</param>
+    /// <param name="scaleIncrement">Amount added to the scale per tick (x,y,z).</param>
+    /// <param name="period">Tick period between updates (e.g., 1 = every tick).</param>
+    /// <param name="plugin">Your plugin instance used for scheduling.</param>
+    /// <returns>The Bukkit scheduler task ID for the repeating animation.</returns>
+    /// <remarks>Deprecated: use <see cref="#animateScaleTask"/>.</remarks>
+    @Deprecated
+    public static int animateScale(BlockDisplay display, org.joml.Vector3f scaleIncrement, long period, JavaPlugin plugin) {
+        return animateCustom(display, transformation -> transformation.getScale().add(scaleIncrement), period, plugin);
+    }
+
+    /// <summary>
+    /// Animates a <see cref="BlockDisplay"/> with a custom transformation function on the Bukkit scheduler.
+    /// </summary>
+    /// <param name="display">The <see cref="BlockDisplay"/> to animate.</param>
+    /// <param name="animator">A function that mutates the current <see cref="Transformation"/>.</param>
+    /// <param name="period">Tick period between updates (e.g., 1 = every tick).</param>
+    /// <param name="plugin">Your plugin instance used for scheduling.</param>
+    /// <returns>The Bukkit scheduler task ID for the repeating animation.</returns>
+    /// <remarks>Deprecated: use <see cref="#animateCustomTask"/>.</remarks>
+    @Deprecated
     public static int animateCustom(BlockDisplay display, Consumer<Transformation> animator, long period, JavaPlugin plugin) {
         return Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             Transformation transformation = display.getTransformation();
@@ -92,4 +136,4 @@ public final class BlockDisplayAnimator {
             display.setTransformation(transformation);
         }, period, period).getTaskId();
     }
-}
\ No newline at end of file
+}
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamBlockDisplay;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -71,6 +72,7 @@ public final class BlockDisplayPool {
         if (!pool.isEmpty()) {
             display = pool.remove(pool.size() - 1);
             display.teleport(location);
+            DreamCore.DreamViewTracker.move(display.getUniqueId(), location);
             display.setBlock(blockData);
         } else {
             display = world.spawn(location, BlockDisplay.class, bd -> bd.setBlock(blockData));
@@ -91,6 +93,7 @@ public final class BlockDisplayPool {
         display.setBlock(Bukkit.createBlockData("minecraft:air"));
         if (HIDDEN_LOCATION.getWorld() != null) {
             display.teleport(HIDDEN_LOCATION);
+            DreamCore.DreamViewTracker.move(display.getUniqueId(), HIDDEN_LOCATION);
         }
         pool.add(display);
     }
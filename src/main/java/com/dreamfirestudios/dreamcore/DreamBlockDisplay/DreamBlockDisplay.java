@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamBlockDisplay;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.*;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.BlockDisplay;
@@ -39,6 +40,8 @@ import java.util.function.Consumer;
 /// Use <see cref="DreamBlockDisplay.BlockDisplayBuilder"/> to configure display properties
 /// (scale, rotation, brightness, billboard, etc.) and then spawn a configured <see cref="BlockDisplay"/>.
 /// A <see cref="BlockDisplayCreatedEvent"/> is fired after configuration.
+/// With <see cref="BlockDisplayBuilder#trackViewers()"/> the display is registered with
+/// <see cref="DreamCore#DreamViewTracker"/>, which <see cref="BlockDisplayAnimator"/> uses to pause while nobody is in range.
 /// </remarks>
 /// <example>
 /// ```java
@@ -70,6 +73,7 @@ public final class DreamBlockDisplay {
         private Color itemGlowColor = Color.RED;
         private Display.Brightness itemBrightness = new Display.Brightness(15, 15);
         private Consumer<Transformation> customTransformation;
+        private boolean trackViewers = false;
 
         /// <summary>
         /// Initializes a builder using the default world <c>"world"</c> and its spawn location.
@@ -197,6 +201,13 @@ public final class DreamBlockDisplay {
             return this;
         }
 
+        /// <summary>Registers the spawned display with <see cref="DreamCore#DreamViewTracker"/>.</summary>
+        /// <returns>This builder.</returns>
+        public BlockDisplayBuilder trackViewers() {
+            this.trackViewers = true;
+            return this;
+        }
+
         /// <summary>Spawns a <see cref="BlockDisplay"/> using a <see cref="Material"/>.</summary>
         /// <param name="material">Material to represent.</param>
         /// <returns>The spawned display.</returns>
@@ -241,6 +252,7 @@ public final class DreamBlockDisplay {
             blockDisplay.setBillboard(billboard);
             blockDisplay.setGlowColorOverride(itemGlowColor);
             blockDisplay.setBrightness(itemBrightness);
+            if (trackViewers) DreamCore.DreamViewTracker.trackDisplay(blockDisplay);
 
             BlockDisplayCreatedEvent event = new BlockDisplayCreatedEvent(blockDisplay);
             Bukkit.getPluginManager().callEvent(event);
@@ -0,0 +1,273 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamBlockMask;
+
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import com.dreamfirestudios.dreamcore.DreamCollections.PackedPositionMap;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import io.papermc.paper.math.Position;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// <summary>
+/// One off-main-thread frame of an async <see cref="DreamBlockMask"/>.
+/// </summary>
+/// <remarks>
+/// The constructor runs on the main thread and only captures <see cref="ChunkSnapshot"/>s of the loaded chunks
+/// the window touches. <see cref="#compute()"/> runs on the shared worker pool, reads nothing but those snapshots
+/// and the read-only maps handed in, and produces a change set that can be sent as is.
+/// Positions are packed with <see cref="DreamBlockPos"/>. With a <see cref="BlockMaskProfile"/> only chunks whose cached
+/// sections went stale are snapshotted, and cells are read from the profile's shared sections.
+/// <para>
+/// A cell that cannot be read this frame (its chunk unloaded, or a shared section was evicted or invalidated after
+/// the job decided not to snapshot it) keeps its previous original. It stays masked and is still restored when it
+/// leaves the window or the mask stops.
+/// </para>
+/// </remarks>
+final class BlockMaskJob {
+
+    /// <summary>Result of a frame; every map is owned by the caller once returned.</summary>
+    /// <param name="originals">Real block data of every masked cell in the new window, keyed by packed position.</param>
+    /// <param name="changes">Ready-to-send block changes: masks for new/changed cells and restores for leaving ones.</param>
+    /// <param name="trailAdded">Masked data of cells newly added to the trail.</param>
+    record Result(PackedPositionMap<BlockData> originals, Map<Position, BlockData> changes, PackedPositionMap<BlockData> trailAdded) { }
+
+    private static ExecutorService executor;
+
+    private final ChunkSnapshot[] chunks;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int chunksZ;
+    private final int minY;
+    private final int maxY;
+    private final int bx, by, bz;
+    private final int rx, ry, rz;
+    private final double minDistanceSq;
+    private final boolean ignoreAir;
+    private final boolean resetLastFrames;
+    private final boolean keepTrail;
+    private final Map<Material, Material> blockExceptions;
+    private final PackedPositionMap<BlockData> previousOriginals;
+    private final PackedPositionMap<BlockData> trail;
+    private final BlockMaskProfile profile;
+    private final UUID worldId;
+    private final int tick;
+
+    BlockMaskJob(World world, int bx, int by, int bz, int rx, int ry, int rz, double minDistanceSq,
+                 boolean ignoreAir, boolean resetLastFrames, boolean keepTrail, Map<Material, Material> blockExceptions,
+                 PackedPositionMap<BlockData> previousOriginals, PackedPositionMap<BlockData> trail, BlockMaskProfile profile) {
+        this.minY = world.getMinHeight();
+        this.maxY = world.getMaxHeight();
+        this.bx = bx;
+        this.by = by;
+        this.bz = bz;
+        this.rx = rx;
+        this.ry = ry;
+        this.rz = rz;
+        this.minDistanceSq = minDistanceSq;
+        this.ignoreAir = ignoreAir;
+        this.resetLastFrames = resetLastFrames;
+        this.keepTrail = keepTrail;
+        this.blockExceptions = blockExceptions;
+        this.previousOriginals = previousOriginals;
+        this.trail = trail;
+        this.profile = profile;
+        this.worldId = world.getUID();
+        this.tick = Bukkit.getCurrentTick();
+
+        this.minChunkX = (bx - rx) >> 4;
+        this.minChunkZ = (bz - rz) >> 4;
+        this.chunksZ = ((bz + rz) >> 4) - minChunkZ + 1;
+        this.chunks = new ChunkSnapshot[(((bx + rx) >> 4) - minChunkX + 1) * chunksZ];
+        final int minSectionY = Math.max(minY, by - ry) >> 4;
+        final int maxSectionY = Math.min(maxY - 1, by + ry) >> 4;
+        for (int cx = minChunkX; cx <= (bx + rx) >> 4; cx++) {
+            for (int cz = minChunkZ; cz <= (bz + rz) >> 4; cz++) {
+                final int index = (cx - minChunkX) * chunksZ + (cz - minChunkZ);
+                if (profile != null) chunks[index] = profile.snapshotIfStale(world, cx, cz, minSectionY, maxSectionY, tick);
+                else if (world.isChunkLoaded(cx, cz)) chunks[index] = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+            }
+        }
+    }
+
+    /// <summary>
+    /// Submits this job to the shared worker pool.
+    /// </summary>
+    /// <returns>Future completed on a worker thread.</returns>
+    CompletableFuture<Result> submit() {
+        return CompletableFuture.supplyAsync(this::compute, executor());
+    }
+
+    /// <summary>
+    /// Computes the new window and its diff against the previous one. Worker thread only.
+    /// </summary>
+    Result compute() {
+        final PackedPositionMap<BlockData> originals = new PackedPositionMap<>(Math.max(16, previousOriginals.size()));
+        final Map<Position, BlockData> changes = new HashMap<>();
+        final PackedPositionMap<BlockData> trailAdded = new PackedPositionMap<>();
+        if (profile != null) computeShared(originals, changes, trailAdded);
+        else computeDirect(originals, changes, trailAdded);
+
+        if (resetLastFrames) {
+            previousOriginals.forEach((key, original) -> {
+                final int x = DreamBlockPos.unpackX(key), y = DreamBlockPos.unpackY(key), z = DreamBlockPos.unpackZ(key);
+                if (DreamBlockMask.inWindow(x - bx, y - by, z - bz, rx, ry, rz, minDistanceSq)) return;
+                if (trail.containsKey(key) || trailAdded.containsKey(key)) return;
+                changes.put(Position.block(x, y, z), original);
+            });
+        }
+        return new Result(originals, changes, trailAdded);
+    }
+
+    /// <summary>
+    /// Reads the window straight from this job's snapshots.
+    /// </summary>
+    private void computeDirect(PackedPositionMap<BlockData> originals, Map<Position, BlockData> changes, PackedPositionMap<BlockData> trailAdded) {
+        final Map<Material, BlockData> views = new EnumMap<>(Material.class);
+        for (int x = bx - rx; x <= bx + rx; x++) {
+            for (int z = bz - rz; z <= bz + rz; z++) {
+                final ChunkSnapshot snapshot = chunks[((x >> 4) - minChunkX) * chunksZ + ((z >> 4) - minChunkZ)];
+                for (int y = Math.max(minY, by - ry); y <= Math.min(maxY - 1, by + ry); y++) {
+                    if (!DreamBlockMask.inWindow(x - bx, y - by, z - bz, rx, ry, rz, minDistanceSq)) continue;
+
+                    final long key = DreamBlockPos.pack(x, y, z);
+                    if (snapshot == null) {
+                        carryForward(key, originals);
+                        continue;
+                    }
+                    final Material viewMat = viewFor(snapshot.getBlockType(x & 15, y, z & 15), ignoreAir, blockExceptions);
+                    final BlockData previous = previousOriginals.get(key);
+                    if (viewMat == null) {
+                        // No longer masked (e.g. mined to air): show the real block again.
+                        if (previous != null && resetLastFrames && !trail.containsKey(key)) {
+                            changes.put(Position.block(x, y, z), snapshot.getBlockData(x & 15, y, z & 15));
+                        }
+                        continue;
+                    }
+
+                    final BlockData view = views.computeIfAbsent(viewMat, Material::createBlockData);
+                    addMasked(x, y, z, key, snapshot.getBlockData(x & 15, y, z & 15), view, previous, originals, changes, trailAdded);
+                }
+            }
+        }
+    }
+
+    /// <summary>
+    /// Reads the window from the profile's shared sections, computing stale ones from this job's snapshots.
+    /// </summary>
+    private void computeShared(PackedPositionMap<BlockData> originals, Map<Position, BlockData> changes, PackedPositionMap<BlockData> trailAdded) {
+        final PackedPositionMap<BlockMaskProfile.Section> sections = new PackedPositionMap<>();
+        for (int x = bx - rx; x <= bx + rx; x++) {
+            for (int z = bz - rz; z <= bz + rz; z++) {
+                final ChunkSnapshot snapshot = chunks[((x >> 4) - minChunkX) * chunksZ + ((z >> 4) - minChunkZ)];
+                for (int y = Math.max(minY, by - ry); y <= Math.min(maxY - 1, by + ry); y++) {
+                    if (!DreamBlockMask.inWindow(x - bx, y - by, z - bz, rx, ry, rz, minDistanceSq)) continue;
+
+                    final long sectionKey = DreamBlockPos.pack(x >> 4, y >> 4, z >> 4);
+                    BlockMaskProfile.Section section = sections.get(sectionKey);
+                    if (section == null) {
+                        section = profile.section(worldId, x >> 4, y >> 4, z >> 4, snapshot, minY, maxY, tick);
+                        sections.put(sectionKey, section);
+                    }
+                    final long key = DreamBlockPos.pack(x, y, z);
+                    if (section == BlockMaskProfile.Section.UNAVAILABLE) {
+                        carryForward(key, originals);
+                        continue;
+                    }
+
+                    final int index = BlockMaskProfile.Section.index(x, y, z);
+                    final BlockData previous = previousOriginals.get(key);
+                    final BlockData view = section.views[index];
+                    if (view == null) {
+                        if (previous != null && resetLastFrames && !trail.containsKey(key)) {
+                            changes.put(Position.block(x, y, z), section.real[index]);
+                        }
+                        continue;
+                    }
+                    addMasked(x, y, z, key, section.real[index], view, previous, originals, changes, trailAdded);
+                }
+            }
+        }
+    }
+
+    /// <summary>
+    /// Keeps the previous original of a cell that could not be read this frame, so it is neither dropped from
+    /// the window nor left masked forever.
+    /// </summary>
+    private void carryForward(long key, PackedPositionMap<BlockData> originals) {
+        final BlockData previous = previousOriginals.get(key);
+        if (previous != null) originals.put(key, previous);
+    }
+
+    private void addMasked(int x, int y, int z, long key, BlockData original, BlockData view, BlockData previous,
+                           PackedPositionMap<BlockData> originals, Map<Position, BlockData> changes, PackedPositionMap<BlockData> trailAdded) {
+        originals.put(key, original);
+        if (previous == null || !previous.equals(original)) changes.put(Position.block(x, y, z), view);
+        if (keepTrail && !trail.containsKey(key)) trailAdded.put(key, view);
+    }
+
+    /// <summary>
+    /// Substituted material for a real block type, or <c>null</c> when the cell is not masked.
+    /// </summary>
+    static Material viewFor(Material type, boolean ignoreAir, Map<Material, Material> blockExceptions) {
+        return type == Material.AIR && ignoreAir ? null : blockExceptions.getOrDefault(type, Material.BARRIER);
+    }
+
+    /// <summary>
+    /// Stops the worker pool; a new one is created on next use.
+    /// </summary>
+    static synchronized void shutdown() {
+        if (executor == null) return;
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            final var loader = DreamCore.class.getClassLoader();
+            final var threadId = new AtomicInteger();
+            final int workers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+            executor = Executors.newFixedThreadPool(workers, runnable -> {
+                final var thread = new Thread(runnable, "DreamCore-BlockMask-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(loader);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamBlockMask;
+
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// <summary>
+/// Shared frame cache for async <see cref="DreamBlockMask"/>s that use the same configuration.
+/// </summary>
+/// <remarks>
+/// Masks built with <see cref="DreamBlockMask.Builder#shareFrames(int)"/> acquire the profile matching their
+/// <c>blockExceptions</c>, <c>ignoreAir</c> and maximum frame age. The profile caches, per chunk section, the real
+/// block data and the substituted view of every cell, plus the chunk snapshots taken in the current tick.
+/// Players in overlapping areas then reuse the same sections; each mask only differs in the window it sends.
+/// <para>
+/// Cached sections are reused for up to <see cref="#getMaxAgeTicks()"/> ticks, so block edits can take that long to
+/// show up; call <see cref="#invalidate()"/> after large world edits. Sections are read from worker threads.
+/// </para>
+/// </remarks>
+public final class BlockMaskProfile {
+
+    private record Key(Map<Material, Material> blockExceptions, boolean ignoreAir, int maxAgeTicks) { }
+
+    private record SectionKey(UUID worldId, long section) { }
+
+    private record StampedSnapshot(int tick, ChunkSnapshot snapshot) { }
+
+    /// <summary>Computed cells of one chunk section; index with <see cref="#index(int, int, int)"/>.</summary>
+    static final class Section {
+        /// <summary>Placeholder for sections outside the world or in unloaded chunks.</summary>
+        static final Section UNAVAILABLE = new Section(Integer.MIN_VALUE, new BlockData[0], new BlockData[0]);
+
+        final int tick;
+        /// <summary>Real block data per cell.</summary>
+        final BlockData[] real;
+        /// <summary>Substituted block data per cell, or <c>null</c> when the cell is not masked.</summary>
+        final BlockData[] views;
+
+        private Section(int tick, BlockData[] real, BlockData[] views) {
+            this.tick = tick;
+            this.real = real;
+            this.views = views;
+        }
+
+        static int index(int x, int y, int z) {
+            return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+        }
+    }
+
+    private static final Map<Key, BlockMaskProfile> PROFILES = new ConcurrentHashMap<>();
+
+    private final Key key;
+    private final Map<SectionKey, Section> sections = new ConcurrentHashMap<>();
+    private final Map<SectionKey, StampedSnapshot> snapshots = new ConcurrentHashMap<>();
+    private int users;
+    private int lastEvictTick;
+
+    private BlockMaskProfile(Key key) {
+        this.key = key;
+    }
+
+    // ----------------------------- Registry -----------------------------
+
+    /// <summary>
+    /// Returns the profile for a configuration, creating it if needed, and counts one more user.
+    /// </summary>
+    static synchronized BlockMaskProfile acquire(Map<Material, Material> blockExceptions, boolean ignoreAir, int maxAgeTicks) {
+        final Key key = new Key(Collections.unmodifiableMap(new HashMap<>(blockExceptions)), ignoreAir, maxAgeTicks);
+        final BlockMaskProfile profile = PROFILES.computeIfAbsent(key, BlockMaskProfile::new);
+        profile.users++;
+        return profile;
+    }
+
+    /// <summary>
+    /// Drops one user; the profile and its cache are discarded with the last one.
+    /// </summary>
+    void release() {
+        synchronized (BlockMaskProfile.class) {
+            if (--users > 0) return;
+            PROFILES.remove(key, this);
+            sections.clear();
+            snapshots.clear();
+        }
+    }
+
+    /// <returns>All live profiles.</returns>
+    public static Collection<BlockMaskProfile> getProfiles() {
+        return Collections.unmodifiableCollection(PROFILES.values());
+    }
+
+    /// <summary>
+    /// Drops the cached sections of every profile, e.g. after a large world edit.
+    /// </summary>
+    public static void invalidateAll() {
+        for (BlockMaskProfile profile : PROFILES.values()) profile.invalidate();
+    }
+
+    // ----------------------------- Cache -----------------------------
+
+    /// <returns>Ticks a computed section is reused for.</returns>
+    public int getMaxAgeTicks() { return key.maxAgeTicks(); }
+
+    /// <returns>The substitution map of this profile.</returns>
+    public Map<Material, Material> getBlockExceptions() { return key.blockExceptions(); }
+
+    /// <returns>Whether air is left unmasked.</returns>
+    public boolean isIgnoreAir() { return key.ignoreAir(); }
+
+    /// <returns>Number of masks sharing this profile.</returns>
+    public int getUsers() {
+        synchronized (BlockMaskProfile.class) {
+            return users;
+        }
+    }
+
+    /// <returns>Number of cached sections.</returns>
+    public int getCachedSections() { return sections.size(); }
+
+    /// <summary>
+    /// Drops every cached section and snapshot of this profile.
+    /// </summary>
+    /// <remarks>
+    /// Jobs already in flight that find a section gone keep the previous originals of its cells and pick the new
+    /// data up on their next frame.
+    /// </remarks>
+    public void invalidate() {
+        sections.clear();
+        snapshots.clear();
+    }
+
+    /// <summary>
+    /// Drops the cached section containing a block, e.g. after it was edited.
+    /// </summary>
+    /// <param name="world">World of the block.</param>
+    /// <param name="x">Block X.</param>
+    /// <param name="y">Block Y.</param>
+    /// <param name="z">Block Z.</param>
+    public void invalidate(World world, int x, int y, int z) {
+        sections.remove(new SectionKey(world.getUID(), DreamBlockPos.pack(x >> 4, y >> 4, z >> 4)));
+        snapshots.remove(new SectionKey(world.getUID(), DreamBlockPos.pack(x >> 4, 0, z >> 4)));
+    }
+
+    /// <summary>
+    /// Main thread: returns a snapshot of a loaded chunk, or <c>null</c> when every section of the chunk in
+    /// <paramref name="minSectionY"/>..<paramref name="maxSectionY"/> is still fresh. Snapshots are shared within a tick.
+    /// </summary>
+    ChunkSnapshot snapshotIfStale(World world, int cx, int cz, int minSectionY, int maxSectionY, int tick) {
+        evictStale(tick);
+        final UUID worldId = world.getUID();
+        boolean stale = false;
+        for (int sy = minSectionY; sy <= maxSectionY && !stale; sy++) {
+            final Section section = sections.get(new SectionKey(worldId, DreamBlockPos.pack(cx, sy, cz)));
+            stale = section == null || tick - section.tick > key.maxAgeTicks();
+        }
+        if (!stale || !world.isChunkLoaded(cx, cz)) return null;
+
+        final SectionKey chunkKey = new SectionKey(worldId, DreamBlockPos.pack(cx, 0, cz));
+        final StampedSnapshot stamped = snapshots.get(chunkKey);
+        if (stamped != null && stamped.tick() == tick) return stamped.snapshot();
+        final ChunkSnapshot snapshot = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+        snapshots.put(chunkKey, new StampedSnapshot(tick, snapshot));
+        return snapshot;
+    }
+
+    /// <summary>
+    /// Worker thread: returns the cached section, recomputing it from <paramref name="snapshot"/> when stale.
+    /// </summary>
+    /// <returns>The section, or <see cref="Section#UNAVAILABLE"/> when it is stale and no snapshot was taken.</returns>
+    Section section(UUID worldId, int sx, int sy, int sz, ChunkSnapshot snapshot, int minY, int maxY, int tick) {
+        final SectionKey sectionKey = new SectionKey(worldId, DreamBlockPos.pack(sx, sy, sz));
+        final Section cached = sections.get(sectionKey);
+        if (cached != null && tick - cached.tick <= key.maxAgeTicks()) return cached;
+        if (snapshot == null || sy << 4 < minY || sy << 4 >= maxY) return cached != null ? cached : Section.UNAVAILABLE;
+
+        final BlockData[] real = new BlockData[4096];
+        final BlockData[] views = new BlockData[4096];
+        final Map<Material, BlockData> viewData = new EnumMap<>(Material.class);
+        for (int y = 0; y < 16; y++) {
+            final int wy = (sy << 4) + y;
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    final int index = Section.index(x, y, z);
+                    real[index] = snapshot.getBlockData(x, wy, z);
+                    final Material viewMat = BlockMaskJob.viewFor(real[index].getMaterial(), key.ignoreAir(), key.blockExceptions());
+                    if (viewMat != null) views[index] = viewData.computeIfAbsent(viewMat, Material::createBlockData);
+                }
+            }
+        }
+        final Section section = new Section(tick, real, views);
+        sections.put(sectionKey, section);
+        return section;
+    }
+
+    private void evictStale(int tick) {
+        if (tick - lastEvictTick < 100) return;
+        lastEvictTick = tick;
+        final int maxAge = key.maxAgeTicks();
+        sections.values().removeIf(section -> tick - section.tick > maxAge);
+        snapshots.values().removeIf(stamped -> stamped.tick() != tick);
+    }
+}
@@ -23,17 +23,27 @@
  */
 package com.dreamfirestudios.dreamcore.DreamBlockMask;
 
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import com.dreamfirestudios.dreamcore.DreamCollections.PackedPositionMap;
 import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrBlockMaskFrame;
+import io.papermc.paper.math.Position;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Level;
 
 /// <summary>
 /// Renders a per-player “block mask” viewport by sending ephemeral block changes around the player.
@@ -42,6 +52,10 @@ import java.util.Map;
 /// Use <see cref="DreamBlockMask.Builder"/> to construct an instance. Call <see cref="#play()"/>,
 /// <see cref="#pause()"/>, <see cref="#displayNextFrame()"/>, and <see cref="#stop()"/> to control the lifecycle.
 /// This class relies on your scheduler/tick loop; it does not schedule itself.
+/// With <see cref="Builder#incremental(boolean)"/> the window is tracked in block coordinates and only the
+/// cells entering or leaving it are computed and sent when the player crosses a block boundary.
+/// With <see cref="Builder#async(boolean)"/> the main thread only snapshots the touched chunks and sends the
+/// result; the frame itself is computed on a worker pool.
 /// </remarks>
 /// <example>
 /// ```java
@@ -69,11 +83,27 @@ public class DreamBlockMask {
     @Getter private double maxX;
     @Getter private double maxY;
     @Getter private double maxZ;
+    @Getter private boolean incremental;
+    @Getter private boolean async;
+    @Getter private int sharedFrameTicks;
+    /// <summary>Shared frame cache, when <see cref="#getSharedFrameTicks()"/> is positive.</summary>
+    @Getter private BlockMaskProfile profile;
 
     @Getter private Map<Material, Material> blockExceptions;
 
-    private Map<Vector, BlockState> lastFrameBlockStates = new HashMap<>();
-    private final Map<Vector, BlockState> visitedTrailLocations = new HashMap<>();
+    private PackedPositionMap<BlockState> lastFrameBlockStates = new PackedPositionMap<>();
+    private final PackedPositionMap<BlockState> visitedTrailLocations = new PackedPositionMap<>();
+
+    private boolean windowValid;
+    private World windowWorld;
+    private int windowX;
+    private int windowY;
+    private int windowZ;
+
+    private PackedPositionMap<BlockData> asyncOriginals = new PackedPositionMap<>();
+    private final PackedPositionMap<BlockData> asyncTrail = new PackedPositionMap<>();
+    private boolean asyncInFlight;
+    private int asyncGeneration;
 
     /// <summary>
     /// Indicates whether the mask is currently paused (true) or playing (false).
@@ -93,6 +123,10 @@ public class DreamBlockMask {
     public void addToExceptions(Map<Material, Material> blockExceptions){
         if (blockExceptions == null) throw new IllegalArgumentException("Block exceptions cannot be null.");
         this.blockExceptions = mergeExceptions(this.blockExceptions, blockExceptions);
+        if (profile != null) {
+            profile.release();
+            profile = BlockMaskProfile.acquire(this.blockExceptions, ignoreAir, sharedFrameTicks);
+        }
     }
 
     // ----------------------------- Frame cycle -----------------------------
@@ -104,18 +138,30 @@ public class DreamBlockMask {
     /// <remarks>
     /// Fires <see cref="BlockMaskFrameComputedEvent"/> before sending,
     /// and <see cref="BlockMaskFrameAppliedEvent"/> after sending.
+    /// In incremental mode both events only carry the delta of the frame, and frames where the player
+    /// stays in the same block return immediately without firing them.
     /// </remarks>
     /// <returns><c>true</c> when no work was performed (no player or paused); otherwise <c>false</c>.</returns>
     public boolean displayNextFrame(){
         if (player == null || !player.isOnline() || actionBarPaused) return true;
+        if (async) {
+            displayAsyncFrame();
+            return false;
+        }
+        if (incremental) {
+            displayIncrementalFrame();
+            return false;
+        }
 
+        final var jfr = new JfrBlockMaskFrame();
+        jfr.begin();
         final Location playerLoc = player.getLocation();
         final double px = playerLoc.getX();
         final double py = playerLoc.getY();
         final double pz = playerLoc.getZ();
 
-        final Map<Vector, BlockState> previousFrameStates = new HashMap<>();
-        final Map<Vector, BlockState> newFrameStates = new HashMap<>();
+        final PackedPositionMap<BlockState> previousFrameStates = new PackedPositionMap<>();
+        final PackedPositionMap<BlockState> newFrameStates = new PackedPositionMap<>();
 
         // NOTE: Iterate using doubles to preserve exact behavior of your original logic.
         for (double x = px - maxX; x < px + maxX; x++){
@@ -132,54 +178,238 @@ public class DreamBlockMask {
                     final Material viewMat = blockExceptions.getOrDefault(block.getType(), Material.BARRIER);
                     if (viewMat == null) continue;
 
-                    final Vector key = block.getLocation().toVector();
+                    final long key = DreamBlockPos.pack(block.getX(), block.getY(), block.getZ());
                     previousFrameStates.put(key, block.getState());
 
                     final BlockState newState = block.getState();
                     newState.setType(viewMat);
                     newFrameStates.put(key, newState);
 
-                    if (keepTrailTheSame && !visitedTrailLocations.containsKey(key)) {
-                        visitedTrailLocations.put(key, newState);
-                    }
+                    if (keepTrailTheSame) visitedTrailLocations.putIfAbsent(key, newState);
                 }
             }
         }
 
         // Restore areas from last frame that are no longer present (unless retained in the trail map).
         if (resetLastFrames) {
-            for (Map.Entry<Vector, BlockState> e : lastFrameBlockStates.entrySet()) {
-                if (!newFrameStates.containsKey(e.getKey()) && !visitedTrailLocations.containsKey(e.getKey())) {
-                    newFrameStates.put(e.getKey(), e.getValue());
+            lastFrameBlockStates.forEach((key, state) -> {
+                if (!newFrameStates.containsKey(key) && !visitedTrailLocations.containsKey(key)) {
+                    newFrameStates.put(key, state);
                 }
-            }
+            });
         }
 
         // Pre-apply event hook
-        new BlockMaskFrameComputedEvent(player, this,
-                Collections.unmodifiableMap(newFrameStates),
-                Collections.unmodifiableMap(previousFrameStates));
+        DreamEventDispatcher.fire(BlockMaskFrameComputedEvent.getHandlerList(), () -> new BlockMaskFrameComputedEvent(player, this, toVectorMap(newFrameStates), toVectorMap(previousFrameStates)));
 
         // Apply and swap
-        player.sendBlockChanges(newFrameStates.values());
+        sendBlockChanges(newFrameStates.values());
         lastFrameBlockStates = previousFrameStates;
 
         // Post-apply event hook
-        new BlockMaskFrameAppliedEvent(player, this,
-                Collections.unmodifiableMap(newFrameStates));
+        DreamEventDispatcher.post(BlockMaskFrameAppliedEvent.getHandlerList(), () -> new BlockMaskFrameAppliedEvent(player, this,
+                toVectorMap(newFrameStates)));
 
+        if (jfr.finish()) jfr.commit(player.getUniqueId(), newFrameStates.size(), 1);
         return false;
     }
 
+    /// <summary>
+    /// Incremental frame: diffs the block-aligned window at the player's current block against the one
+    /// that was last sent and only touches the cells that entered or left it.
+    /// </summary>
+    private void displayIncrementalFrame(){
+        final Location playerLoc = player.getLocation();
+        final World world = playerLoc.getWorld();
+        final int bx = playerLoc.getBlockX();
+        final int by = playerLoc.getBlockY();
+        final int bz = playerLoc.getBlockZ();
+        if (windowValid && world == windowWorld && bx == windowX && by == windowY && bz == windowZ) return;
+
+        final var jfr = new JfrBlockMaskFrame();
+        jfr.begin();
+        final int rx = windowRadius(maxX);
+        final int ry = windowRadius(maxY);
+        final int rz = windowRadius(maxZ);
+        final double minDistanceSq = minDistance * minDistance;
+        final boolean sameWorld = windowValid && world == windowWorld;
+
+        final PackedPositionMap<BlockState> previousFrameStates = new PackedPositionMap<>();
+        final PackedPositionMap<BlockState> newFrameStates = new PackedPositionMap<>();
+
+        if (sameWorld) {
+            // Leaving cells: inside the old window, outside the new one.
+            for (int x = windowX - rx; x <= windowX + rx; x++){
+                for (int y = windowY - ry; y <= windowY + ry; y++){
+                    for (int z = windowZ - rz; z <= windowZ + rz; z++){
+                        if (!inWindow(x - windowX, y - windowY, z - windowZ, rx, ry, rz, minDistanceSq)) continue;
+                        if (inWindow(x - bx, y - by, z - bz, rx, ry, rz, minDistanceSq)) continue;
+                        final long key = DreamBlockPos.pack(x, y, z);
+                        final BlockState original = lastFrameBlockStates.remove(key);
+                        if (original != null && resetLastFrames && !visitedTrailLocations.containsKey(key)) {
+                            newFrameStates.put(key, original);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Rebuilding in the same world (after a pause or refresh): what is no longer covered gets restored below.
+        final PackedPositionMap<BlockState> staleFrameStates = !sameWorld && world == windowWorld ? lastFrameBlockStates : null;
+        if (!sameWorld) lastFrameBlockStates = new PackedPositionMap<>();
+
+        // Entering cells: inside the new window, outside the old one (everything when rebuilding).
+        for (int x = bx - rx; x <= bx + rx; x++){
+            for (int y = by - ry; y <= by + ry; y++){
+                for (int z = bz - rz; z <= bz + rz; z++){
+                    if (!inWindow(x - bx, y - by, z - bz, rx, ry, rz, minDistanceSq)) continue;
+                    if (sameWorld && inWindow(x - windowX, y - windowY, z - windowZ, rx, ry, rz, minDistanceSq)) continue;
+
+                    final var block = world.getBlockAt(x, y, z);
+                    final Material type = block.getType();
+                    if (type == Material.AIR && ignoreAir) continue;
+
+                    final Material viewMat = blockExceptions.getOrDefault(type, Material.BARRIER);
+                    if (viewMat == null) continue;
+
+                    final long key = DreamBlockPos.pack(x, y, z);
+                    final BlockState original = block.getState();
+                    lastFrameBlockStates.put(key, original);
+                    previousFrameStates.put(key, original);
+
+                    final BlockState newState = block.getState();
+                    newState.setType(viewMat);
+                    newFrameStates.put(key, newState);
+
+                    if (keepTrailTheSame) visitedTrailLocations.putIfAbsent(key, newState);
+                }
+            }
+        }
+
+        if (staleFrameStates != null && resetLastFrames) {
+            staleFrameStates.forEach((key, state) -> {
+                if (!lastFrameBlockStates.containsKey(key) && !visitedTrailLocations.containsKey(key)) {
+                    newFrameStates.put(key, state);
+                }
+            });
+        }
+
+        windowValid = true;
+        windowWorld = world;
+        windowX = bx;
+        windowY = by;
+        windowZ = bz;
+
+        DreamEventDispatcher.fire(BlockMaskFrameComputedEvent.getHandlerList(), () -> new BlockMaskFrameComputedEvent(player, this, toVectorMap(newFrameStates), toVectorMap(previousFrameStates)));
+
+        if (!newFrameStates.isEmpty()) sendBlockChanges(newFrameStates.values());
+
+        DreamEventDispatcher.post(BlockMaskFrameAppliedEvent.getHandlerList(), () -> new BlockMaskFrameAppliedEvent(player, this,
+                toVectorMap(newFrameStates)));
+
+        if (jfr.finish()) jfr.commit(player.getUniqueId(), newFrameStates.size(), 1);
+    }
+
+    /// <summary>
+    /// Async frame: snapshots the chunks under the window and hands the computation to a worker; the result is
+    /// applied by <see cref="#applyAsyncFrame(int, World, BlockMaskJob.Result, Throwable)"/> on the main thread.
+    /// At most one frame per mask is in flight.
+    /// </summary>
+    private void displayAsyncFrame(){
+        if (asyncInFlight) return;
+        final Location playerLoc = player.getLocation();
+        final World world = playerLoc.getWorld();
+        final int bx = playerLoc.getBlockX();
+        final int by = playerLoc.getBlockY();
+        final int bz = playerLoc.getBlockZ();
+        if (incremental && windowValid && world == windowWorld && bx == windowX && by == windowY && bz == windowZ) return;
+        if (world != windowWorld) asyncOriginals = new PackedPositionMap<>();
+
+        windowValid = true;
+        windowWorld = world;
+        windowX = bx;
+        windowY = by;
+        windowZ = bz;
+
+        final int generation = asyncGeneration;
+        final var job = new BlockMaskJob(world, bx, by, bz, windowRadius(maxX), windowRadius(maxY), windowRadius(maxZ),
+                minDistance * minDistance, ignoreAir, resetLastFrames, keepTrailTheSame, blockExceptions,
+                asyncOriginals, asyncTrail, profile);
+        asyncInFlight = true;
+        job.submit().whenComplete((result, error) -> {
+            if (!DreamCore.DreamCore.isEnabled()) return;
+            Bukkit.getScheduler().runTask(DreamCore.DreamCore, () -> applyAsyncFrame(generation, world, result, error));
+        });
+    }
+
+    /// <summary>
+    /// Main-thread half of an async frame: adopts the computed window and sends the change set.
+    /// Results from before a pause/stop, or for a world the player has left, are dropped.
+    /// </summary>
+    private void applyAsyncFrame(int generation, World world, BlockMaskJob.Result result, Throwable error){
+        asyncInFlight = false;
+        if (error != null) {
+            DreamCore.DreamCore.getLogger().log(Level.WARNING, "Block mask frame failed", error);
+            windowValid = false;
+            return;
+        }
+        if (generation != asyncGeneration || actionBarPaused || player == null || !player.isOnline()) return;
+        if (player.getWorld() != world) {
+            windowValid = false;
+            return;
+        }
+
+        final var jfr = new JfrBlockMaskFrame();
+        jfr.begin();
+        asyncOriginals = result.originals();
+        asyncTrail.putAll(result.trailAdded());
+        final Map<Position, BlockData> changes = result.changes();
+
+        DreamEventDispatcher.fire(BlockMaskFrameComputedEvent.getHandlerList(), () -> new BlockMaskFrameComputedEvent(player, this,
+                Collections.unmodifiableMap(toBlockStates(world, changes, true)),
+                Collections.unmodifiableMap(toBlockStates(world, changes, false))));
+
+        if (!changes.isEmpty()) sendBlockData(changes);
+
+        DreamEventDispatcher.post(BlockMaskFrameAppliedEvent.getHandlerList(), () -> new BlockMaskFrameAppliedEvent(player, this,
+                Collections.unmodifiableMap(toBlockStates(world, changes, true))));
+
+        if (jfr.finish()) jfr.commit(player.getUniqueId(), changes.size(), 1);
+    }
+
+    /// <summary>
+    /// Restores everything an async mask currently shows, keeping the trail masked.
+    /// </summary>
+    private void restoreAsync(){
+        final Map<Position, BlockData> restore = new HashMap<>();
+        asyncOriginals.forEach((key, data) -> restore.put(DreamBlockPos.toPosition(key), data));
+        asyncTrail.forEach((key, data) -> restore.put(DreamBlockPos.toPosition(key), data));
+        if (!restore.isEmpty()) sendBlockData(restore);
+        asyncOriginals = new PackedPositionMap<>();
+    }
+
+    /// <summary>
+    /// Forces the next incremental frame to recompute the whole window, e.g. after the blocks under
+    /// the mask changed. Has no effect in full-recompute mode or in async mode without incremental frames.
+    /// </summary>
+    public void refresh() {
+        windowValid = false;
+    }
+
     /// <summary>
     /// Pauses the mask and restores any pending last/trail states to the player.
     /// </summary>
     public void pause() {
         if (!actionBarPaused) {
             actionBarPaused = true;
+            windowValid = false;
+            asyncGeneration++;
             // restore what the player currently sees for last frame and persistent trail
-            player.sendBlockChanges(lastFrameBlockStates.values());
-            player.sendBlockChanges(visitedTrailLocations.values());
+            if (async) restoreAsync();
+            else {
+                sendBlockChanges(lastFrameBlockStates.values());
+                sendBlockChanges(visitedTrailLocations.values());
+            }
             new BlockMaskPausedEvent(player, this);
         }
     }
@@ -205,8 +435,17 @@ public class DreamBlockMask {
     /// </remarks>
     public DreamBlockMask stop(){
         actionBarPaused = true;
-        player.sendBlockChanges(lastFrameBlockStates.values());
-        player.sendBlockChanges(visitedTrailLocations.values());
+        windowValid = false;
+        asyncGeneration++;
+        if (async) restoreAsync();
+        else {
+            sendBlockChanges(lastFrameBlockStates.values());
+            sendBlockChanges(visitedTrailLocations.values());
+        }
+        if (profile != null) {
+            profile.release();
+            profile = null;
+        }
         new BlockMaskStoppedEvent(player, this);
         return DreamCore.DreamBlockMasks.remove(player.getUniqueId());
     }
@@ -214,10 +453,72 @@ public class DreamBlockMask {
     // ----------------------------- Utilities -----------------------------
 
     /// <summary>
-    /// Returns an immutable view of the persistent trail entries.
+    /// Queues block states for the masked player on the shared <see cref="DreamCore#DreamBlockChangeBatcher"/>.
+    /// </summary>
+    /// <param name="states">States to send.</param>
+    private void sendBlockChanges(Collection<BlockState> states) {
+        DreamCore.DreamBlockChangeBatcher.queue(player, states);
+    }
+
+    /// <summary>
+    /// Queues positioned block data for the masked player on the shared <see cref="DreamCore#DreamBlockChangeBatcher"/>.
+    /// </summary>
+    /// <param name="changes">Block data per position.</param>
+    private void sendBlockData(Map<Position, BlockData> changes) {
+        DreamCore.DreamBlockChangeBatcher.queue(player, changes);
+    }
+
+    /// <summary>
+    /// Builds block states for an async change set; only used when an event listener needs them.
+    /// </summary>
+    /// <param name="world">World of the change set.</param>
+    /// <param name="changes">Change set.</param>
+    /// <param name="applied">When <c>true</c> the states carry the sent data, otherwise the live world state.</param>
+    private static Map<Vector, BlockState> toBlockStates(World world, Map<Position, BlockData> changes, boolean applied) {
+        final Map<Vector, BlockState> states = new HashMap<>();
+        for (Map.Entry<Position, BlockData> e : changes.entrySet()) {
+            final Position pos = e.getKey();
+            final BlockState state = world.getBlockAt(pos.blockX(), pos.blockY(), pos.blockZ()).getState();
+            if (applied) state.setBlockData(e.getValue());
+            states.put(new Vector(pos.blockX(), pos.blockY(), pos.blockZ()), state);
+        }
+        return states;
+    }
+
+    /// <summary>
+    /// Copies packed-position states into the read-only vector-keyed map exposed by the frame events.
     /// </summary>
+    private static Map<Vector, BlockState> toVectorMap(PackedPositionMap<BlockState> states) {
+        final Map<Vector, BlockState> out = new HashMap<>(states.size() * 2);
+        states.forEach((key, state) -> out.put(DreamBlockPos.toVector(key), state));
+        return Collections.unmodifiableMap(out);
+    }
+
+    /// <summary>
+    /// Returns an immutable snapshot of the persistent trail entries.
+    /// </summary>
+    /// <remarks>Built on each call; the trail itself is stored by packed position.</remarks>
     public Map<Vector, BlockState> getVisitedTrailLocationsView() {
-        return Collections.unmodifiableMap(visitedTrailLocations);
+        return toVectorMap(visitedTrailLocations);
+    }
+
+    /// <summary>
+    /// Stops the shared worker pool used by async masks. Called by DreamCore on disable.
+    /// </summary>
+    public static void shutdownWorkers() {
+        BlockMaskJob.shutdown();
+    }
+
+    /// <summary>
+    /// Number of whole blocks covered on each side of the player's block for an axis bound.
+    /// </summary>
+    private static int windowRadius(double max) {
+        return (int) Math.ceil(max) - 1;
+    }
+
+    static boolean inWindow(int dx, int dy, int dz, int rx, int ry, int rz, double minDistanceSq) {
+        if (Math.abs(dx) > rx || Math.abs(dy) > ry || Math.abs(dz) > rz) return false;
+        return dx * dx + dy * dy + dz * dz >= minDistanceSq;
     }
 
     private static Map<Material, Material> mergeExceptions(Map<Material, Material> base, Map<Material, Material> add) {
@@ -242,6 +543,9 @@ public class DreamBlockMask {
         private double maxX = 5.0d;
         private double maxY = 5.0d;
         private double maxZ = 5.0d;
+        private boolean incremental = false;
+        private boolean async = false;
+        private int sharedFrameTicks = 0;
 
         /// <summary>
         /// Bulk add block exceptions (actual → view).
@@ -344,6 +648,55 @@ public class DreamBlockMask {
             return this;
         }
 
+        /// <summary>
+        /// Track the window in block coordinates and only send the cells entering or leaving it when
+        /// the player crosses a block boundary, instead of recomputing the full cube every frame.
+        /// </summary>
+        /// <param name="incremental">Whether to use incremental frames.</param>
+        /// <returns>This builder.</returns>
+        /// <remarks>
+        /// Cells are whole blocks within <c>ceil(max) - 1</c> of the player's block on each axis, and
+        /// <see cref="#minDistance(double)"/> is measured between block positions. Blocks that change
+        /// inside an unchanged window are not picked up until <see cref="DreamBlockMask#refresh()"/>.
+        /// </remarks>
+        public Builder incremental(boolean incremental){
+            this.incremental = incremental;
+            return this;
+        }
+
+        /// <summary>
+        /// Compute frames off the main thread from chunk snapshots. The main thread only captures the
+        /// snapshots and sends the resulting change set, which contains only cells whose real block changed.
+        /// </summary>
+        /// <param name="async">Whether to compute frames on the worker pool.</param>
+        /// <returns>This builder.</returns>
+        /// <remarks>
+        /// Uses the same block-aligned window as <see cref="#incremental(boolean)"/>; combined with it, frames
+        /// are skipped while the player stays in the same block. Cells in unloaded chunks are left alone, and
+        /// <see cref="DreamBlockMask#getVisitedTrailLocationsView()"/> stays empty.
+        /// </remarks>
+        public Builder async(boolean async){
+            this.async = async;
+            return this;
+        }
+
+        /// <summary>
+        /// Share computed frames with every other mask that uses the same <c>blockExceptions</c>, <c>ignoreAir</c>
+        /// and frame age, through a <see cref="BlockMaskProfile"/>. Implies <see cref="#async(boolean)"/>.
+        /// </summary>
+        /// <param name="maxAgeTicks">Ticks a computed chunk section is reused for; <c>0</c> disables sharing.</param>
+        /// <returns>This builder.</returns>
+        /// <remarks>
+        /// Overlapping masks then reuse the same block substitutions and only differ in the window they send.
+        /// Block edits can take up to <paramref name="maxAgeTicks"/> to show through the mask.
+        /// </remarks>
+        public Builder shareFrames(int maxAgeTicks){
+            if (maxAgeTicks < 0) throw new IllegalArgumentException("maxAgeTicks cannot be negative.");
+            this.sharedFrameTicks = maxAgeTicks;
+            if (maxAgeTicks > 0) this.async = true;
+            return this;
+        }
+
         /// <summary>
         /// Creates (or merges with) the player's mask. If a mask already exists for the player,
         /// it will be returned with new exceptions merged.
@@ -371,7 +724,11 @@ public class DreamBlockMask {
             mask.maxY = maxY;
             mask.maxZ = maxZ;
             mask.ignoreAir = ignoreAir;
+            mask.incremental = incremental;
+            mask.async = async;
+            mask.sharedFrameTicks = sharedFrameTicks;
             mask.blockExceptions = Collections.unmodifiableMap(new HashMap<>(this.blockExceptions));
+            if (sharedFrameTicks > 0) mask.profile = BlockMaskProfile.acquire(mask.blockExceptions, ignoreAir, sharedFrameTicks);
 
             new BlockMaskCreatedEvent(mask, player);
             // NOTE: As written, this returns the previous value (if any) — not the newly created mask.
@@ -104,11 +104,7 @@ public class DreamBook extends DreamClassID {
     public void openBook(Player player, int durationInSeconds) {
         if (durationInSeconds < 0) throw new IllegalArgumentException("Duration cannot be negative.");
         openBook(player);
-        Bukkit.getScheduler().runTaskLater(
-                DreamCore.DreamCore,
-                () -> closeBook(player),
-                durationInSeconds * 20L
-        );
+        DreamCore.DreamTimingWheel.schedule(DreamCore.DreamCore, durationInSeconds * 20L, () -> closeBook(player));
     }
 
     /// <summary>
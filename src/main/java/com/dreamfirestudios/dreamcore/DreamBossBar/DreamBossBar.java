@@ -24,6 +24,7 @@
 package com.dreamfirestudios.dreamcore.DreamBossBar;
 
 import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassID;
 import lombok.Getter;
 import org.bukkit.Bukkit;
@@ -86,6 +87,14 @@ public class DreamBossBar extends DreamClassID {
         }
     }
 
+    /// <summary>
+    /// Returns the UUIDs of all current viewers.
+    /// </summary>
+    /// <returns>A snapshot of viewer UUIDs.</returns>
+    public List<UUID> getViewerIds() {
+        return List.copyOf(viewers);
+    }
+
     /// <summary>Adds one or more players to the boss bar.</summary>
     /// <param name="players">Players to add (nulls ignored).</param>
     public void addPlayer(Player... players){
@@ -108,6 +117,7 @@ public class DreamBossBar extends DreamClassID {
         ensureBossBarInitialized();
         bossBar.addPlayer(player);
         viewers.add(id);
+        DreamCore.DreamBossBars.reindex(getClassID());
     }
 
     /// <summary>
@@ -122,6 +132,7 @@ public class DreamBossBar extends DreamClassID {
         new BossBarPlayerRemovedEvent(this, player);
         if (bossBar != null) bossBar.removePlayer(player);
         viewers.remove(id);
+        DreamCore.DreamBossBars.reindex(getClassID());
     }
 
     /// <summary>
@@ -151,7 +162,8 @@ public class DreamBossBar extends DreamClassID {
             frame.DisplayBarData(bossBar, player);
         }
 
-        new BossBarFrameAdvancedEvent(this, currentFrameIndex);
+        final int frameIndex = currentFrameIndex;
+        DreamEventDispatcher.post(BossBarFrameAdvancedEvent.getHandlerList(), () -> new BossBarFrameAdvancedEvent(this, frameIndex));
         currentFrameIndex = (currentFrameIndex + 1) % frames.size();
     }
 
@@ -23,6 +23,9 @@
  */
 package com.dreamfirestudios.dreamcore.DreamCam;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimingSection;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -37,8 +40,10 @@ import java.util.List;
 /// <remarks>
 /// This runnable does not manage its own lifecycle beyond signalling completion
 /// (by calling <see cref="DreamCamPath.endCamPath(boolean)"/> when all points are consumed).
+/// Each step is recorded in the <c>DreamCamPath</c> timings section.
 /// </remarks>
 public class DreamCamPathRunnable extends BukkitRunnable {
+    private static final DreamTimingSection TIMINGS = DreamCore.DreamTimings.section("DreamCamPath");
     private final List<Location> combinedLocations = new ArrayList<>();
     private final DreamCamPath camPath;
     private int index;
@@ -59,6 +64,19 @@ public class DreamCamPathRunnable extends BukkitRunnable {
     /// </summary>
     @Override
     public void run() {
+        long start = TIMINGS.start();
+        try {
+            step();
+        } finally {
+            if (start != 0L) {
+                long nanos = System.nanoTime() - start;
+                TIMINGS.record(nanos, camPath.getPlayers().size());
+                TIMINGS.recordObject(camPath, camPath.getClassID(), nanos);
+            }
+        }
+    }
+
+    private void step() {
         if (index >= combinedLocations.size()) {
             camPath.endCamPath(true);
             return;
@@ -71,12 +89,13 @@ public class DreamCamPathRunnable extends BukkitRunnable {
             nextLocation = camSet.setRotation(nextLocation, lastPoint);
         }
 
+        final var reached = nextLocation;
         for (var playerUUID : camPath.getPlayers()) {
             var player = Bukkit.getPlayer(playerUUID);
-            if (player != null) player.teleport(nextLocation);
+            if (player != null) player.teleport(reached);
         }
 
-        new CamPathPointReachedEvent(camPath, nextLocation);
+        DreamEventDispatcher.fire(CamPathPointReachedEvent.getHandlerList(), () -> new CamPathPointReachedEvent(camPath, reached));
         index++;
     }
 }
\ No newline at end of file
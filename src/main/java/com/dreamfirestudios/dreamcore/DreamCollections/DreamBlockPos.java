@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import io.papermc.paper.math.Position;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+/// <summary>
+/// Packs block coordinates into a single <c>long</c> (26 bits X, 26 bits Z, 12 bits Y), the same layout the
+/// server uses for block positions.
+/// </summary>
+/// <remarks>
+/// X/Z cover ±33,554,431 and Y covers -2048..2047, which spans every world height the server allows.
+/// Packed positions carry no world; keep one collection per world.
+/// </remarks>
+/// <example>
+/// <code>
+/// long key = DreamBlockPos.pack(block.getX(), block.getY(), block.getZ());
+/// int y = DreamBlockPos.unpackY(key);
+/// </code>
+/// </example>
+public final class DreamBlockPos {
+
+    private DreamBlockPos() { }
+
+    /// <summary>Packs block coordinates.</summary>
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | ((long) y & 0xFFFL);
+    }
+
+    /// <summary>Packs the block coordinates of a location.</summary>
+    public static long pack(Location location) {
+        return pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /// <returns>Block X of a packed position.</returns>
+    public static int unpackX(long key) { return (int) (key >> 38); }
+
+    /// <returns>Block Y of a packed position.</returns>
+    public static int unpackY(long key) { return (int) (key << 52 >> 52); }
+
+    /// <returns>Block Z of a packed position.</returns>
+    public static int unpackZ(long key) { return (int) (key << 26 >> 38); }
+
+    /// <returns>A new location at the block corner of a packed position.</returns>
+    public static Location toLocation(World world, long key) {
+        return new Location(world, unpackX(key), unpackY(key), unpackZ(key));
+    }
+
+    /// <returns>A new vector at the block corner of a packed position.</returns>
+    public static Vector toVector(long key) {
+        return new Vector(unpackX(key), unpackY(key), unpackZ(key));
+    }
+
+    /// <returns>A Paper block position for a packed position.</returns>
+    public static Position toPosition(long key) {
+        return Position.block(unpackX(key), unpackY(key), unpackZ(key));
+    }
+
+    /// <summary>Spreads a packed position over an open-addressing table of <paramref name="mask"/> + 1 slots.</summary>
+    static int slot(long key, int mask) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    /// <summary>Smallest power-of-two table size that holds <paramref name="expected"/> entries under the load factor.</summary>
+    static int tableSize(int expected) {
+        int size = 16;
+        while (size * 2 / 3 < expected) size <<= 1;
+        return size;
+    }
+}
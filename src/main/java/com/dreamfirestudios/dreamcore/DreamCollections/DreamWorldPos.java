@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.UUID;
+
+/// <summary>
+/// A packed block or chunk position together with its world, for use as a map or index key.
+/// </summary>
+/// <remarks>
+/// Block keys pack the block coordinates with <see cref="DreamBlockPos"/>; chunk keys pack the chunk
+/// coordinates the same way with Y fixed to 0. Block and chunk keys are not interchangeable.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamFakeBlocksByChunk.values(DreamWorldPos.chunk(world, cx, cz));
+/// </code>
+/// </example>
+/// <param name="worldId">World UUID.</param>
+/// <param name="packed">Packed block or chunk coordinates.</param>
+public record DreamWorldPos(UUID worldId, long packed) {
+
+    /// <returns>The block key of a location, or <c>null</c> when it has no world.</returns>
+    public static DreamWorldPos block(Location location) {
+        if (location == null || location.getWorld() == null) return null;
+        return new DreamWorldPos(location.getWorld().getUID(), DreamBlockPos.pack(location));
+    }
+
+    /// <returns>The block key of block coordinates in a world.</returns>
+    public static DreamWorldPos block(World world, int x, int y, int z) {
+        return new DreamWorldPos(world.getUID(), DreamBlockPos.pack(x, y, z));
+    }
+
+    /// <returns>The chunk key of a location, or <c>null</c> when it has no world.</returns>
+    public static DreamWorldPos chunk(Location location) {
+        if (location == null || location.getWorld() == null) return null;
+        return chunk(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /// <returns>The chunk key of chunk coordinates in a world.</returns>
+    public static DreamWorldPos chunk(World world, int chunkX, int chunkZ) {
+        return new DreamWorldPos(world.getUID(), DreamBlockPos.pack(chunkX, 0, chunkZ));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import java.util.Arrays;
+
+/// <summary>
+/// Open-addressing map from packed block positions (<see cref="DreamBlockPos"/>) to <c>int</c>s, e.g. palette indices.
+/// </summary>
+/// <remarks>
+/// Same table layout as <see cref="PackedPositionMap"/>, without boxing the values. Not thread-safe, and the
+/// map must not be modified while iterating it.
+/// </remarks>
+public final class PackedPositionIntMap {
+
+    /// <summary>Receives one entry during <see cref="#forEach(EntryConsumer)"/>.</summary>
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+
+    public PackedPositionIntMap() {
+        this(16);
+    }
+
+    /// <param name="expected">Number of entries to hold without resizing.</param>
+    public PackedPositionIntMap(int expected) {
+        allocate(DreamBlockPos.tableSize(expected));
+    }
+
+    /// <returns>Number of entries.</returns>
+    public int size() { return size; }
+
+    /// <returns><c>true</c> if there are no entries.</returns>
+    public boolean isEmpty() { return size == 0; }
+
+    /// <returns><c>true</c> if the position has an entry.</returns>
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /// <returns>The value at the position, or <paramref name="fallback"/>.</returns>
+    public int getOrDefault(long key, int fallback) {
+        final int slot = find(key);
+        return slot < 0 ? fallback : values[slot];
+    }
+
+    /// <summary>Associates a value with a position.</summary>
+    /// <returns>The previous value, or <paramref name="fallback"/> if there was none.</returns>
+    public int put(long key, int value, int fallback) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                final int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size * 3 > keys.length * 2) rehash(keys.length << 1);
+        return fallback;
+    }
+
+    /// <summary>Removes the entry at a position.</summary>
+    /// <returns>The removed value, or <paramref name="fallback"/> if there was none.</returns>
+    public int remove(long key, int fallback) {
+        int gap = find(key);
+        if (gap < 0) return fallback;
+        final int previous = values[gap];
+        final int mask = keys.length - 1;
+        int i = (gap + 1) & mask;
+        while (used[i]) {
+            final int ideal = DreamBlockPos.slot(keys[i], mask);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        used[gap] = false;
+        size--;
+        return previous;
+    }
+
+    /// <summary>Removes every entry, keeping the table size.</summary>
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /// <summary>Visits every entry in table order.</summary>
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    private int find(long key) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        final boolean[] oldUsed = used;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = DreamBlockPos.slot(oldKeys[i], mask);
+            while (used[slot]) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            used[slot] = true;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/// <summary>
+/// Open-addressing map from packed block positions (<see cref="DreamBlockPos"/>) to objects.
+/// </summary>
+/// <remarks>
+/// Linear probing with backward-shift deletion, so there are no tombstones and no per-entry allocation.
+/// Not thread-safe, and the map must not be modified while iterating it.
+/// </remarks>
+/// <example>
+/// <code>
+/// var states = new PackedPositionMap&lt;BlockData&gt;();
+/// states.put(DreamBlockPos.pack(x, y, z), data);
+/// states.forEach((key, value) -&gt; player.sendBlockChange(DreamBlockPos.toLocation(world, key), value));
+/// </code>
+/// </example>
+/// <typeparam name="V">Value type.</typeparam>
+public final class PackedPositionMap<V> {
+
+    /// <summary>Receives one entry during <see cref="#forEach(EntryConsumer)"/>.</summary>
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int size;
+
+    public PackedPositionMap() {
+        this(16);
+    }
+
+    /// <param name="expected">Number of entries to hold without resizing.</param>
+    public PackedPositionMap(int expected) {
+        allocate(DreamBlockPos.tableSize(expected));
+    }
+
+    /// <returns>Number of entries.</returns>
+    public int size() { return size; }
+
+    /// <returns><c>true</c> if there are no entries.</returns>
+    public boolean isEmpty() { return size == 0; }
+
+    /// <returns><c>true</c> if the position has an entry.</returns>
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /// <returns>The value at the position, or <c>null</c>.</returns>
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /// <returns>The value at the position, or <paramref name="fallback"/>.</returns>
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V fallback) {
+        final int slot = find(key);
+        return slot < 0 ? fallback : (V) values[slot];
+    }
+
+    /// <summary>Associates a value with a position.</summary>
+    /// <returns>The previous value, or <c>null</c>.</returns>
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                final V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size * 3 > keys.length * 2) rehash(keys.length << 1);
+        return null;
+    }
+
+    /// <summary>Associates a value with a position unless it already has one.</summary>
+    /// <returns><c>true</c> if the value was added.</returns>
+    public boolean putIfAbsent(long key, V value) {
+        if (containsKey(key)) return false;
+        put(key, value);
+        return true;
+    }
+
+    /// <summary>Copies every entry of another map into this one.</summary>
+    public void putAll(PackedPositionMap<? extends V> other) {
+        other.forEach(this::put);
+    }
+
+    /// <summary>Removes the entry at a position.</summary>
+    /// <returns>The removed value, or <c>null</c>.</returns>
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        final int slot = find(key);
+        if (slot < 0) return null;
+        final V previous = (V) values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    /// <summary>Removes every entry, keeping the table size.</summary>
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(used, false);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /// <summary>Visits every entry in table order.</summary>
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) consumer.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    /// <returns>A new list of every value, in table order.</returns>
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        final List<V> out = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) out.add((V) values[i]);
+        }
+        return out;
+    }
+
+    private int find(long key) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeSlot(int gap) {
+        final int mask = keys.length - 1;
+        int i = (gap + 1) & mask;
+        while (used[i]) {
+            final int ideal = DreamBlockPos.slot(keys[i], mask);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        used[gap] = false;
+        values[gap] = null;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final boolean[] oldUsed = used;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = DreamBlockPos.slot(oldKeys[i], mask);
+            while (used[slot]) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            used[slot] = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/// <summary>
+/// Open-addressing set of packed block positions (<see cref="DreamBlockPos"/>).
+/// </summary>
+/// <remarks>
+/// Same table layout as <see cref="PackedPositionMap"/>. Not thread-safe, and the set must not be modified
+/// while iterating it.
+/// </remarks>
+public final class PackedPositionSet {
+
+    private long[] keys;
+    private boolean[] used;
+    private int size;
+
+    public PackedPositionSet() {
+        this(16);
+    }
+
+    /// <param name="expected">Number of positions to hold without resizing.</param>
+    public PackedPositionSet(int expected) {
+        allocate(DreamBlockPos.tableSize(expected));
+    }
+
+    /// <returns>Number of positions.</returns>
+    public int size() { return size; }
+
+    /// <returns><c>true</c> if the set is empty.</returns>
+    public boolean isEmpty() { return size == 0; }
+
+    /// <returns><c>true</c> if the position is in the set.</returns>
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    /// <summary>Adds a position.</summary>
+    /// <returns><c>true</c> if it was not present.</returns>
+    public boolean add(long key) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        if (++size * 3 > keys.length * 2) rehash(keys.length << 1);
+        return true;
+    }
+
+    /// <summary>Removes a position.</summary>
+    /// <returns><c>true</c> if it was present.</returns>
+    public boolean remove(long key) {
+        int gap = find(key);
+        if (gap < 0) return false;
+        final int mask = keys.length - 1;
+        int i = (gap + 1) & mask;
+        while (used[i]) {
+            final int ideal = DreamBlockPos.slot(keys[i], mask);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        used[gap] = false;
+        size--;
+        return true;
+    }
+
+    /// <summary>Removes every position, keeping the table size.</summary>
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /// <summary>Visits every position in table order.</summary>
+    public void forEach(LongConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) consumer.accept(keys[i]);
+        }
+    }
+
+    private int find(long key) {
+        final int mask = keys.length - 1;
+        int slot = DreamBlockPos.slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final boolean[] oldUsed = used;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = DreamBlockPos.slot(oldKeys[i], mask);
+            while (used[slot]) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            used[slot] = true;
+        }
+    }
+}
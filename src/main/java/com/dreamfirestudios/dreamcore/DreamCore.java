@@ -30,19 +30,38 @@ import com.dreamfirestudios.dreamcore.DreamBlockMask.DreamBlockMask;
 import com.dreamfirestudios.dreamcore.DreamBook.DreamBook;
 import com.dreamfirestudios.dreamcore.DreamBossBar.DreamBossBar;
 import com.dreamfirestudios.dreamcore.DreamCam.DreamCamPath;
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamWorldPos;
 import com.dreamfirestudios.dreamcore.DreamEnchantment.IDreamEnchantment;
 import com.dreamfirestudios.dreamcore.DreamEntityMask.DreamEntityMask;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import com.dreamfirestudios.dreamcore.DreamFakeBlock.DreamFakeBlock;
+import com.dreamfirestudios.dreamcore.DreamFakeBlock.DreamFakeScene;
+import com.dreamfirestudios.dreamcore.DreamFakeBlock.FakeBlockListener;
+import com.dreamfirestudios.dreamcore.DreamFakeBlock.FakeBlockPacketAdapter;
 import com.dreamfirestudios.dreamcore.DreamHologram.DreamHologram;
 import com.dreamfirestudios.dreamcore.DreamItems.IDreamItemStack;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassAPI;
 import com.dreamfirestudios.dreamcore.DreamLocationLimiter.DreamLocationLimiter;
+import com.dreamfirestudios.dreamcore.DreamLocationLimiter.LocationLimiterListener;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamClockDriver;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamTickLane;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamTickScheduler;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamTimingWheel;
 import com.dreamfirestudios.dreamcore.DreamLoop.IDreamLoop;
+import com.dreamfirestudios.dreamcore.DreamPacket.DreamBlockChangeBatcher;
 import com.dreamfirestudios.dreamcore.DreamPlaceholder.DreamPlaceholderManager;
+import com.dreamfirestudios.dreamcore.DreamRegistry.DreamRegistry;
+import com.dreamfirestudios.dreamcore.DreamRegistry.DreamRegistryIndex;
 import com.dreamfirestudios.dreamcore.DreamScoreboard.DreamScoreboard;
 import com.dreamfirestudios.dreamcore.DreamStopwatch.DreamStopwatch;
 import com.dreamfirestudios.dreamcore.DreamTeleport.DreamTeleport;
-import com.dreamfirestudios.dreamcore.DreamVanish.DreamVanish;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimingSection;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimings;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimingsCommand;
+import com.dreamfirestudios.dreamcore.DreamVanish.DreamVanishMatrix;
+import com.dreamfirestudios.dreamcore.DreamVanish.VanishListener;
+import com.dreamfirestudios.dreamcore.DreamViewTracker.DreamViewTracker;
+import com.dreamfirestudios.dreamcore.DreamViewTracker.ViewTrackerListener;
 import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTest;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.SmartInvsPlugin;
 import com.dreamfirestudios.dreamcore.DreamWorld.DreamWorld;
@@ -51,10 +70,11 @@ import net.luckperms.api.LuckPermsProvider;
 import org.bukkit.conversations.Conversation;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DreamCore extends JavaPlugin {
 
@@ -64,29 +84,56 @@ public class DreamCore extends JavaPlugin {
     public static DreamPlaceholderManager DreamPlaceholderManager;
     public static com.dreamfirestudios.dreamcore.DreamfireStorage.DreamfireStorageManager DreamfireStorageManager;
     public static SmartInvsPlugin SmartInvsPlugin;
+    public static DreamTickScheduler DreamTickScheduler;
+    public static final DreamTimingWheel DreamTimingWheel = new DreamTimingWheel();
+    public static final DreamClockDriver DreamClockDriver = new DreamClockDriver();
+    public static final DreamBlockChangeBatcher DreamBlockChangeBatcher = new DreamBlockChangeBatcher();
+    public static final DreamVanishMatrix DreamVanishMatrix = new DreamVanishMatrix();
+    /// <summary>Deprecated: read-only view of <see cref="DreamVanishMatrix"/>; use <c>DreamVanish</c> to hide and show.</summary>
+    @Deprecated
+    public static final Map<UUID, List<UUID>> DreamVanishs = DreamVanishMatrix.asMap();
+    public static final DreamViewTracker DreamViewTracker = new DreamViewTracker();
+    public static final DreamTimings DreamTimings = new DreamTimings();
+    private static final DreamTimingSection OneTickTimings = DreamTimings.section("OneTickClasses");
+    private static final DreamTimingSection TwentyTickTimings = DreamTimings.section("TwentyTickClasses");
+    private static final DreamTimingSection TimingWheelTimings = DreamTimings.section("TimingWheel");
+    private static final DreamTimingSection QueuedEventTimings = DreamTimings.section("QueuedEvents");
+    private static final DreamTimingSection BlockChangeTimings = DreamTimings.section("BlockChanges");
 
-    public static final LinkedHashMap<UUID, DreamActionBar> DreamActionBars = new LinkedHashMap<>();
+    public static final DreamRegistry<UUID, DreamActionBar> DreamActionBars = new DreamRegistry<>();
     public static final LinkedHashMap<Class<?>, DreamVariableTest> DreamVariableTests = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamBook> DreamBooks = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamBossBar> DreamBossBars = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamBlockMask> DreamBlockMasks = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamCamPath> DreamCamPaths = new LinkedHashMap<>();
-    public static final ArrayList<IDreamEnchantment> IDreamEnchantments = new ArrayList<>();
-    public static final LinkedHashMap<UUID, List<UUID>> DreamVanishs = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamEntityMask> DreamEntityMasks = new LinkedHashMap<>();
-    public static final LinkedHashMap<String, DreamFakeBlock> DreamFakeBlocks = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamHologram> DreamHolograms = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamLocationLimiter> DreamLocationLimiters = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, IDreamLoop> IDreamLoops = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, Conversation> Conversations = new LinkedHashMap<>();
-    public static final LinkedHashMap<UUID, DreamScoreboard> DreamScoreboards = new LinkedHashMap<>();
-    public static final ArrayList<DreamStopwatch> DreamStopWatchs = new ArrayList<>();
-    public static final ArrayList<DreamTeleport> DreamTeleports = new ArrayList<>();
-    public static final LinkedHashMap<UUID, DreamWorld> DreamWorlds = new LinkedHashMap<>();
-    public static final ArrayList<IDreamItemStack> IDreamItemStacks = new ArrayList<>();
+    public static final DreamRegistry<UUID, DreamBook> DreamBooks = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamBossBar> DreamBossBars = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamBlockMask> DreamBlockMasks = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamCamPath> DreamCamPaths = new DreamRegistry<>();
+    public static final CopyOnWriteArrayList<IDreamEnchantment> IDreamEnchantments = new CopyOnWriteArrayList<>();
+    public static final DreamRegistry<UUID, DreamEntityMask> DreamEntityMasks = new DreamRegistry<>();
+    public static final DreamRegistry<String, DreamFakeBlock> DreamFakeBlocks = new DreamRegistry<>();
+    public static final DreamRegistry<String, DreamFakeScene> DreamFakeScenes = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamHologram> DreamHolograms = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamLocationLimiter> DreamLocationLimiters = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, IDreamLoop> IDreamLoops = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, Conversation> Conversations = new DreamRegistry<>();
+    public static final DreamRegistry<UUID, DreamScoreboard> DreamScoreboards = new DreamRegistry<>();
+    public static final CopyOnWriteArrayList<DreamStopwatch> DreamStopWatchs = new CopyOnWriteArrayList<>();
+    public static final CopyOnWriteArrayList<DreamTeleport> DreamTeleports = new CopyOnWriteArrayList<>();
+    public static final DreamRegistry<UUID, DreamWorld> DreamWorlds = new DreamRegistry<>();
+    public static final CopyOnWriteArrayList<IDreamItemStack> IDreamItemStacks = new CopyOnWriteArrayList<>();
+
+    public static final DreamRegistryIndex<UUID, UUID, DreamActionBar> DreamActionBarsByPlayer = DreamActionBars.addIndex(DreamActionBar::getViewerIds);
+    public static final DreamRegistryIndex<UUID, UUID, DreamLocationLimiter> DreamLocationLimitersByPlayer = DreamLocationLimiters.addIndex(DreamLocationLimiter::getPlayerIds);
+    public static final DreamRegistryIndex<DreamWorldPos, String, DreamFakeBlock> DreamFakeBlocksByChunk = DreamFakeBlocks.addIndex(fakeBlock -> ListOf(DreamWorldPos.chunk(fakeBlock.getLocation())));
+    public static final DreamRegistryIndex<DreamWorldPos, String, DreamFakeBlock> DreamFakeBlocksByPosition = DreamFakeBlocks.addIndex(fakeBlock -> ListOf(DreamWorldPos.block(fakeBlock.getLocation())));
+    public static final DreamRegistryIndex<UUID, String, DreamFakeBlock> DreamFakeBlocksByObserver = DreamFakeBlocks.addIndex(DreamFakeBlock::getObserverIds);
+    public static final DreamRegistryIndex<DreamWorldPos, String, DreamFakeScene> DreamFakeScenesByChunk = DreamFakeScenes.addIndex(DreamFakeScene::getChunkKeys);
+    public static final DreamRegistryIndex<UUID, String, DreamFakeScene> DreamFakeScenesByObserver = DreamFakeScenes.addIndex(DreamFakeScene::getObserverIds);
 
     public static com.dreamfirestudios.dreamcore.DreamfireStorage.DreamfireStorageManager GetDreamfireStorageManager(){return DreamfireStorageManager;}
 
+    private static <T> List<T> ListOf(T value){
+        return value == null ? List.of() : List.of(value);
+    }
+
     @Override
     public void onEnable() {
         DreamCore = this;
@@ -94,34 +141,64 @@ public class DreamCore extends JavaPlugin {
         ProtocolManager = ProtocolLibrary.getProtocolManager();
         DreamPlaceholderManager = new DreamPlaceholderManager("dreamcore", "Dreamfire Studios", "1.0.0");
         SmartInvsPlugin = new SmartInvsPlugin(this);
+        DreamTickScheduler = new DreamTickScheduler();
+        RegisterTickLanes();
+        ProtocolManager.addPacketListener(new FakeBlockPacketAdapter(this));
+        getServer().getPluginManager().registerEvents(new FakeBlockListener(), this);
+        getServer().getPluginManager().registerEvents(new VanishListener(), this);
+        getServer().getPluginManager().registerEvents(new LocationLimiterListener(), this);
+        getServer().getPluginManager().registerEvents(new ViewTrackerListener(), this);
+        for(var player : getServer().getOnlinePlayers()) DreamVanishMatrix.onJoin(player);
+        var dreamCoreCommand = getCommand("dreamcore");
+        if (dreamCoreCommand != null) dreamCoreCommand.setExecutor(new DreamTimingsCommand());
         DreamClassAPI.RegisterClasses(this);
     }
 
     @Override
     public void onDisable() {
-        for(var blockMask : DreamBlockMasks.values().stream().toList()) blockMask.stop();
-        for(var dreamfireLoop : IDreamLoops.values().stream().toList()) dreamfireLoop.CancelLoop();
-        for(var dreamfireCamPath : DreamCamPaths.values().stream().toList()) dreamfireCamPath.onDisable();
-        for(var dreamfireEntityMask : DreamEntityMasks.values().stream().toList()) dreamfireEntityMask.stop();
-        for(var dreamfireHologram : DreamHolograms.values().stream().toList()) dreamfireHologram.deleteHologram();
+        for(var blockMask : DreamBlockMasks.values()) blockMask.stop();
+        DreamBlockMask.shutdownWorkers();
+        for(var fakeScene : DreamFakeScenes.values()) fakeScene.removeAllObservers();
+        DreamBlockChangeBatcher.flush();
+        for(var dreamfireLoop : IDreamLoops.values()) dreamfireLoop.CancelLoop();
+        for(var dreamfireCamPath : DreamCamPaths.values()) dreamfireCamPath.onDisable();
+        for(var dreamfireEntityMask : DreamEntityMasks.values()) dreamfireEntityMask.stop();
+        DreamVanishMatrix.clear();
+        for(var dreamfireHologram : DreamHolograms.values()) dreamfireHologram.deleteHologram();
+        DreamViewTracker.clear();
     }
 
     public void OneTickClasses(){
-        DreamActionBars.values().removeIf(DreamActionBar::displayNextFrame);
-        for(var dreamfireBossBar : DreamBossBars.values()) dreamfireBossBar.displayNextFrame();
-        for(var dreamfireLocationLimiter : DreamLocationLimiters.values()) dreamfireLocationLimiter.tickLocationLimiter();
-        for(var dreamfireFakeBlock : DreamFakeBlocks.values()) dreamfireFakeBlock.displayNextFrame();
-        for(var dreamfireScoreBoard : DreamScoreboards.values()) dreamfireScoreBoard.displayNextFrame();
-        for(var dreamfireWorld : DreamWorlds.values()) dreamfireWorld.TickWorld();
+        long wheelStart = TimingWheelTimings.start();
+        TimingWheelTimings.stop(wheelStart, DreamTimingWheel.advance() + DreamClockDriver.advance());
+        long start = OneTickTimings.start();
+        OneTickTimings.stop(start, DreamTickScheduler.runLoop(1L));
+        FlushTickQueues();
     }
 
     public void TwentyTickClasses(){
-        DreamVanish.updateVanishOnAllPlayers();
-        for(var dreamfireBook : DreamBooks.values()) dreamfireBook.displayNextFrame();
-        for(var blockMask : DreamBlockMasks.values()) blockMask.displayNextFrame();
-        for(var dreamfireEntityMask : DreamEntityMasks.values()) dreamfireEntityMask.displayNextFrame();
-        for(var dreamfireHologram : DreamHolograms.values()) dreamfireHologram.displayNextFrame();
+        long start = TwentyTickTimings.start();
+        TwentyTickTimings.stop(start, DreamTickScheduler.runLoop(20L));
+        FlushTickQueues();
     }
 
+    private void FlushTickQueues(){
+        long start = QueuedEventTimings.start();
+        QueuedEventTimings.stop(start, DreamEventDispatcher.flush());
+        long blockStart = BlockChangeTimings.start();
+        BlockChangeTimings.stop(blockStart, DreamBlockChangeBatcher.flush());
+    }
+
+    private void RegisterTickLanes(){
+        DreamTickScheduler.registerLane(new DreamTickLane<>("ActionBars", DreamActionBars, 1L, (id, actionBar) -> actionBar.displayNextFrame()));
+        DreamTickScheduler.registerLane(new DreamTickLane<>("BossBars", DreamBossBars, 1L, (id, bossBar) -> { bossBar.displayNextFrame(); return false; }));
+        DreamTickScheduler.registerLane(new DreamTickLane<>("Scoreboards", DreamScoreboards, 1L, (id, scoreboard) -> { scoreboard.displayNextFrame(); return false; }));
+        DreamTickScheduler.registerLane(new DreamTickLane<>("Worlds", DreamWorlds, 1L, (id, world) -> { world.TickWorld(); return false; }));
+        DreamTickScheduler.registerLane(new DreamTickLane<>("LocationLimiters", DreamLocationLimiters, 1L, (id, limiter) -> { limiter.recheckOutside(); return false; }));
 
+        DreamTickScheduler.registerLane(new DreamTickLane<>("Books", DreamBooks, 20L, (id, book) -> { book.displayNextFrame(); return false; })).setPhased(true);
+        DreamTickScheduler.registerLane(new DreamTickLane<>("BlockMasks", DreamBlockMasks, 20L, (id, blockMask) -> { blockMask.displayNextFrame(); return false; })).setPhased(true);
+        DreamTickScheduler.registerLane(new DreamTickLane<>("EntityMasks", DreamEntityMasks, 20L, (id, entityMask) -> { entityMask.displayNextFrame(); return false; })).setPhased(true);
+        DreamTickScheduler.registerLane(new DreamTickLane<>("Holograms", DreamHolograms, 20L, (id, hologram) -> { hologram.displayNextFrame(); return false; })).setPhased(true);
+    }
 }
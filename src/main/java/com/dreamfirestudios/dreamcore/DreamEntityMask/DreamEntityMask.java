@@ -26,13 +26,16 @@ package com.dreamfirestudios.dreamcore.DreamEntityMask;
 import com.dreamfirestudios.dreamcore.DreamCore;
 import com.dreamfirestudios.dreamcore.DreamVanish.DreamVanish;
 import lombok.Getter;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -42,6 +45,8 @@ import java.util.UUID;
  /// <remarks>
  /// A mask controls which entities are hidden or shown to a player,
  /// depending on distance, entity type, and defined exceptions.
+ /// Each frame only queries the entity sections within <c>maxDistance</c> and only shows or hides
+ /// the entities that entered or left the mask since the previous frame.
  /// Lifecycle: {@link #play()}, {@link #pause()}, and {@link #stop()}.
  /// </remarks>
  */
@@ -63,13 +68,16 @@ public class DreamEntityMask {
     private EntityMaskType entityMaskType;
 
     /// <summary>Exceptions by entity type (these remain visible).</summary>
-    private final List<EntityType> entityTypeExceptions = new ArrayList<>();
+    private final Set<EntityType> entityTypeExceptions = EnumSet.noneOf(EntityType.class);
 
     /// <summary>Exceptions by entity UUID (these remain visible).</summary>
-    private final List<UUID> uuidExceptions = new ArrayList<>();
+    private final Set<UUID> uuidExceptions = new HashSet<>();
 
-    /// <summary>Snapshot of entities hidden in the last frame.</summary>
-    private List<Entity> lastFrameEntities = new ArrayList<>();
+    /// <summary>Entities hidden in the last frame.</summary>
+    private Set<Entity> lastFrameEntities = new HashSet<>();
+
+    /// <summary>Beyond this radius (in blocks) a frame scans the world's entity list instead of nearby sections.</summary>
+    private static final double MAX_QUERY_RADIUS = 512;
 
     /// <summary>True if the mask is currently paused.</summary>
     @Getter private boolean actionBarPaused = true;
@@ -83,9 +91,7 @@ public class DreamEntityMask {
      /// <param name="entityType">The entity type to add.</param>
      */
     public void addToExceptions(EntityType entityType){
-        if (!entityTypeExceptions.contains(entityType)) {
-            entityTypeExceptions.add(entityType);
-        }
+        if (entityType != null) entityTypeExceptions.add(entityType);
     }
 
     /**
@@ -95,9 +101,7 @@ public class DreamEntityMask {
      /// <param name="entityUUID">The entity UUID to add.</param>
      */
     public void addToExceptions(UUID entityUUID){
-        if (!uuidExceptions.contains(entityUUID)) {
-            uuidExceptions.add(entityUUID);
-        }
+        if (entityUUID != null) uuidExceptions.add(entityUUID);
     }
 
     // ---------------- Frame update ----------------
@@ -109,46 +113,51 @@ public class DreamEntityMask {
      /// <remarks>
      /// - Entities matching the mask rules are hidden.
      /// - Entities no longer matched are revealed again.
+     /// Only entities whose state changed since the last frame are shown or hidden.
      /// This should be called periodically (e.g., per tick).
      /// </remarks>
      */
     public void displayNextFrame(){
         if (player == null || !player.isOnline() || actionBarPaused) return;
 
-        var newEntityStates = new ArrayList<Entity>();
+        var origin = player.getLocation();
+        var minDistanceSquared = minDistance * minDistance;
+        var maxDistanceSquared = maxDistance * maxDistance;
+        var newEntityStates = new HashSet<Entity>();
 
-        var playerWorld = player.getWorld();
-        for (var entity : playerWorld.getEntities()){
+        for (var entity : candidates(origin)){
+            if (entity == player) continue;
             if (entityTypeExceptions.contains(entity.getType())) continue;
-            if (uuidExceptions.contains(entity.getUniqueId())) continue;
-            if (!isCorrectForMaskType(entity)) continue;
+            if (!uuidExceptions.isEmpty() && uuidExceptions.contains(entity.getUniqueId())) continue;
 
-            double distance = player.getLocation().distance(entity.getLocation());
-            if (distance < minDistance || distance > maxDistance) continue;
+            double distanceSquared = origin.distanceSquared(entity.getLocation());
+            if (distanceSquared < minDistanceSquared || distanceSquared > maxDistanceSquared) continue;
 
             newEntityStates.add(entity);
         }
 
-        // Reveal old entities, hide new ones
-        for (var entity : lastFrameEntities) DreamVanish.showTargetToViewer(entity, player);
-        for (var entity : newEntityStates) DreamVanish.hideTargetFromViewer(entity, player);
+        // Reveal entities that left the mask, hide those that entered it
+        for (var entity : lastFrameEntities) {
+            if (!newEntityStates.contains(entity)) DreamVanish.showTargetToViewer(entity, player);
+        }
+        for (var entity : newEntityStates) {
+            if (!lastFrameEntities.contains(entity)) DreamVanish.hideTargetFromViewer(entity, player);
+        }
 
         lastFrameEntities = newEntityStates;
     }
 
     /**
      /// <summary>
-     /// Checks if an entity matches the current mask type filter.
+     /// Entities of the mask type that may lie within <c>maxDistance</c> of the player.
      /// </summary>
-     /// <param name="entity">The entity to check.</param>
-     /// <returns><c>true</c> if the entity is valid for this mask type.</returns>
+     /// <param name="origin">The player's location.</param>
+     /// <returns>Candidates from the entity sections around the player; the whole world when the range is very large.</returns>
      */
-    private boolean isCorrectForMaskType(Entity entity){
-        return switch (entityMaskType) {
-            case Entity -> true;
-            case LivingEntity -> entity instanceof LivingEntity;
-            case Player -> entity instanceof Player;
-        };
+    private Collection<? extends Entity> candidates(Location origin){
+        var world = origin.getWorld();
+        if (maxDistance > MAX_QUERY_RADIUS) return world.getEntitiesByClass(entityMaskType.getEntityClass());
+        return world.getNearbyEntitiesByType(entityMaskType.getEntityClass(), origin, maxDistance, maxDistance, maxDistance);
     }
 
     // ---------------- Lifecycle ----------------
@@ -204,16 +213,14 @@ public class DreamEntityMask {
         private double minDistance = 0;
         private double maxDistance = 5;
         private EntityMaskType entityMaskType = EntityMaskType.Player;
-        private final List<UUID> uuidExceptions = new ArrayList<>();
-        private final List<EntityType> entityTypeExceptions = new ArrayList<>();
+        private final Set<UUID> uuidExceptions = new HashSet<>();
+        private final Set<EntityType> entityTypeExceptions = EnumSet.noneOf(EntityType.class);
 
         /**
          /// <summary>Adds entity type exceptions to this mask.</summary>
          */
         public Builder entityTypeExceptions(List<EntityType> exceptions){
-            for (var type : exceptions) {
-                if (!entityTypeExceptions.contains(type)) entityTypeExceptions.add(type);
-            }
+            entityTypeExceptions.addAll(exceptions);
             return this;
         }
 
@@ -221,9 +228,7 @@ public class DreamEntityMask {
          /// <summary>Adds entity UUID exceptions to this mask.</summary>
          */
         public Builder uuidExceptions(List<UUID> exceptions){
-            for (var id : exceptions) {
-                if (!uuidExceptions.contains(id)) uuidExceptions.add(id);
-            }
+            uuidExceptions.addAll(exceptions);
             return this;
         }
 
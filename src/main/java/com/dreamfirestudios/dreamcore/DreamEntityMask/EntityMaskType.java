@@ -23,14 +23,23 @@
  */
 package com.dreamfirestudios.dreamcore.DreamEntityMask;
 
+import lombok.Getter;
+
 /**
  * Defines the filter scope for an entity mask.
  */
 public enum EntityMaskType {
     /** Match all entities regardless of type. */
-    Entity,
+    Entity(org.bukkit.entity.Entity.class),
     /** Match only living entities (mobs, animals, players). */
-    LivingEntity,
+    LivingEntity(org.bukkit.entity.LivingEntity.class),
     /** Match only players. */
-    Player
+    Player(org.bukkit.entity.Player.class);
+
+    /** Entity class matched by this scope, used to narrow entity queries. */
+    @Getter private final Class<? extends org.bukkit.entity.Entity> entityClass;
+
+    EntityMaskType(Class<? extends org.bukkit.entity.Entity> entityClass) {
+        this.entityClass = entityClass;
+    }
 }
\ No newline at end of file
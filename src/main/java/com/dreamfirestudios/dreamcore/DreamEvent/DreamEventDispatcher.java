@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamEvent;
+
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/// <summary>
+/// Central, listener-aware dispatch for DreamCore events.
+/// </summary>
+/// <remarks>
+/// DreamCore events dispatch from their constructor, so building one is the expensive part. Every helper here
+/// checks the event's <see cref="HandlerList"/> first and never invokes the factory when nobody listens.
+/// <list type="bullet">
+/// <item><see cref="#isCancelled(HandlerList, Supplier)"/> / <see cref="#fire(HandlerList, Supplier)"/>: synchronous, for events whose
+/// result (cancellation, mutation) the caller reads straight away.</item>
+/// <item><see cref="#post(HandlerList, Supplier)"/>: purely informational events; queued and dispatched as one batch at the end of the
+/// current tick by <see cref="#flush()"/>.</item>
+/// <item><see cref="#call(Event)"/>: used by event constructors; dispatches synchronously on the main thread and hands off to it otherwise.</item>
+/// </list>
+/// </remarks>
+/// <example>
+/// <code>
+/// if (DreamEventDispatcher.isCancelled(MyEvent.getHandlerList(), () -&gt; new MyEvent(player))) return;
+/// DreamEventDispatcher.fire(MyTickEvent.getHandlerList(), () -&gt; new MyTickEvent(this, elapsed));
+/// DreamEventDispatcher.post(MyFrameEvent.getHandlerList(), () -&gt; new MyFrameEvent(frame));
+/// </code>
+/// </example>
+public final class DreamEventDispatcher {
+
+    private static final Object LOCK = new Object();
+    private static List<Supplier<? extends Event>> queued = new ArrayList<>();
+
+    private DreamEventDispatcher() { }
+
+    /// <summary>
+    /// Checks whether any plugin listens to an event type.
+    /// </summary>
+    /// <param name="handlers">The event's handler list.</param>
+    /// <returns><c>true</c> if at least one listener is registered.</returns>
+    public static boolean hasListeners(HandlerList handlers) {
+        return handlers.getRegisteredListeners().length != 0;
+    }
+
+    /// <summary>
+    /// Dispatches an already constructed event.
+    /// </summary>
+    /// <param name="event">Event to dispatch.</param>
+    /// <returns>The same event.</returns>
+    /// <remarks>
+    /// Synchronous events raised off the main thread are handed to the main thread; cancellation set by
+    /// listeners is then not visible to the caller.
+    /// </remarks>
+    public static <E extends Event> E call(E event) {
+        if (event.isAsynchronous() || Bukkit.isPrimaryThread()) Bukkit.getPluginManager().callEvent(event);
+        else Bukkit.getScheduler().runTask(DreamCore.DreamCore, () -> Bukkit.getPluginManager().callEvent(event));
+        return event;
+    }
+
+    /// <summary>
+    /// Constructs (and thereby dispatches) an event only when it has listeners.
+    /// </summary>
+    /// <param name="handlers">The event's handler list.</param>
+    /// <param name="factory">Creates the event.</param>
+    /// <returns>The dispatched event, or <c>null</c> when nobody listens.</returns>
+    public static <E extends Event> E fire(HandlerList handlers, Supplier<E> factory) {
+        return hasListeners(handlers) ? factory.get() : null;
+    }
+
+    /// <summary>
+    /// Dispatches a cancellable event synchronously and reports whether a listener cancelled it.
+    /// </summary>
+    /// <param name="handlers">The event's handler list.</param>
+    /// <param name="factory">Creates the event.</param>
+    /// <returns><c>true</c> if cancelled; always <c>false</c> when nobody listens.</returns>
+    public static boolean isCancelled(HandlerList handlers, Supplier<? extends Cancellable> factory) {
+        return hasListeners(handlers) && factory.get().isCancelled();
+    }
+
+    /// <summary>
+    /// Queues an informational event for the end-of-tick batch.
+    /// </summary>
+    /// <param name="handlers">The event's handler list.</param>
+    /// <param name="factory">Creates (and dispatches) the event; must only capture values that stay valid until the end of the tick.</param>
+    /// <remarks>Events that do not dispatch from their constructor should wrap it in <see cref="#call(Event)"/>.</remarks>
+    public static void post(HandlerList handlers, Supplier<? extends Event> factory) {
+        if (!hasListeners(handlers)) return;
+        synchronized (LOCK) {
+            queued.add(factory);
+        }
+    }
+
+    /// <summary>
+    /// Dispatches every queued informational event in posting order.
+    /// </summary>
+    /// <returns>Number of events dispatched.</returns>
+    /// <remarks>Called by DreamCore once per tick; main thread only.</remarks>
+    public static int flush() {
+        final List<Supplier<? extends Event>> batch;
+        synchronized (LOCK) {
+            if (queued.isEmpty()) return 0;
+            batch = queued;
+            queued = new ArrayList<>();
+        }
+        for (var factory : batch) {
+            try {
+                factory.get();
+            } catch (RuntimeException e) {
+                DreamCore.DreamCore.getLogger().log(Level.WARNING, "Queued event failed", e);
+            }
+        }
+        return batch.size();
+    }
+}
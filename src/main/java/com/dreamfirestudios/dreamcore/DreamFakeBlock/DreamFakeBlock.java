@@ -23,13 +23,21 @@
  */
 package com.dreamfirestudios.dreamcore.DreamFakeBlock;
 
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <summary>
@@ -38,18 +46,32 @@ import java.util.Set;
  * </summary>
  *
  * <remarks>
- * Internally uses {@link Player#sendBlockChange(Location, org.bukkit.block.data.BlockData)}
- * which is supported on both Bukkit and Paper.
+ * Changes are queued on the shared {@link com.dreamfirestudios.dreamcore.DreamPacket.DreamBlockChangeBatcher},
+ * which sends them once per tick grouped by chunk section.
+ * Fake blocks registered through {@link DreamFakeBlockAPI} know their registry ID and keep the
+ * {@link DreamCore#DreamFakeBlocksByObserver} index up to date when observers change.
+ * Registered fake blocks are not resent every tick: {@link FakeBlockPacketAdapter} patches them into outgoing
+ * block updates and resends them after chunk packets, and {@link FakeBlockListener} resends them on interaction.
+ * Observers and the block data are therefore safe to read from the network threads.
  * </remarks>
  */
 public class DreamFakeBlock {
     @Getter private final Location location;
-    private Material material;
-    private final Set<Player> observers = new HashSet<>();
+    /** <summary>Block position of {@link #location}, packed with {@link DreamBlockPos}.</summary> */
+    @Getter private final long packedPosition;
+    private final UUID worldId;
+    private volatile Material material;
+    private volatile BlockData blockData;
+    private final Set<Player> observers = ConcurrentHashMap.newKeySet();
+    /** <summary>Registry ID in {@link DreamCore#DreamFakeBlocks}, or null when not registered through the API.</summary> */
+    @Getter private String id;
 
     /** <returns>The current fake block material.</returns> */
     public Material getMaterial(){ return material; }
 
+    /** <returns>The block data shown to observers.</returns> */
+    public BlockData getBlockData(){ return blockData; }
+
     /**
      * <summary>Creates a new fake block at a location with a specific material.</summary>
      *
@@ -60,7 +82,32 @@ public class DreamFakeBlock {
     public DreamFakeBlock(Location location, Material material) {
         if (location == null || material == null) throw new IllegalArgumentException("Location and material cannot be null");
         this.location = location;
+        this.packedPosition = DreamBlockPos.pack(location);
+        this.worldId = location.getWorld() == null ? null : location.getWorld().getUID();
         this.material = material;
+        this.blockData = material.createBlockData();
+    }
+
+    /** <summary>Called by {@link DreamFakeBlockAPI} when the block is registered.</summary> */
+    void setId(String id) {
+        this.id = id;
+    }
+
+    /** <returns>UUIDs of the current observers.</returns> */
+    public List<UUID> getObserverIds() {
+        final List<UUID> ids = new ArrayList<>(observers.size());
+        for (Player player : observers) ids.add(player.getUniqueId());
+        return ids;
+    }
+
+    /**
+     * <summary>Checks if a player is observing this block.</summary>
+     *
+     * <param name="player">The player to check.</param>
+     * <returns>True if the player is an observer.</returns>
+     */
+    public boolean isObserver(Player player) {
+        return player != null && observers.contains(player);
     }
 
     /**
@@ -70,8 +117,8 @@ public class DreamFakeBlock {
      */
     public void addObserver(Player player) {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
-        player.sendBlockChange(location, material.createBlockData());
-        observers.add(player);
+        DreamCore.DreamBlockChangeBatcher.queue(player, location, blockData);
+        if (observers.add(player)) reindex();
         new FakeBlockObserverAddedEvent(this, player);
     }
 
@@ -82,8 +129,8 @@ public class DreamFakeBlock {
      */
     public void removeObserver(Player player) {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
-        player.sendBlockChange(location, location.getBlock().getType().createBlockData());
-        observers.remove(player);
+        DreamCore.DreamBlockChangeBatcher.queue(player, location, location.getBlock().getBlockData());
+        if (observers.remove(player)) reindex();
         new FakeBlockObserverRemovedEvent(this, player);
     }
 
@@ -94,7 +141,10 @@ public class DreamFakeBlock {
         for (Player player : new HashSet<>(observers)) {
             removeObserver(player);
         }
-        observers.clear();
+        if (!observers.isEmpty()) {
+            observers.clear();
+            reindex();
+        }
         new FakeBlockClearedEvent(this);
     }
 
@@ -107,17 +157,18 @@ public class DreamFakeBlock {
      */
     public boolean isPlayerObservingAtLocation(Player player, Location location) {
         if (player == null || location == null) throw new IllegalArgumentException("Player and location cannot be null");
-        return observers.contains(player) && this.location.equals(location);
+        return observers.contains(player) && isLocation(location);
     }
 
     /**
-     * <summary>Checks if a given location matches this fake block’s location.</summary>
+     * <summary>Checks if a given location is in the same block as this fake block.</summary>
      *
      * <param name="location">The location to check.</param>
-     * <returns>True if same location, otherwise false.</returns>
+     * <returns>True if same block in the same world, otherwise false.</returns>
      */
     public boolean isLocation(Location location) {
-        return this.location.equals(location);
+        if (location == null || location.getWorld() == null) return false;
+        return DreamBlockPos.pack(location) == packedPosition && location.getWorld().getUID().equals(worldId);
     }
 
     /**
@@ -127,20 +178,42 @@ public class DreamFakeBlock {
      */
     public void updateMaterialForAllObservers(Material newMaterial) {
         if (newMaterial == null) throw new IllegalArgumentException("Material cannot be null");
+        final BlockData data = newMaterial.createBlockData();
         this.material = newMaterial;
+        this.blockData = data;
         for (Player player : observers) {
-            player.sendBlockChange(location, newMaterial.createBlockData());
+            DreamCore.DreamBlockChangeBatcher.queue(player, location, data);
         }
-        new FakeBlockUpdatedEvent(this, newMaterial);
+        DreamEventDispatcher.fire(FakeBlockUpdatedEvent.getHandlerList(), () -> new FakeBlockUpdatedEvent(this, newMaterial));
     }
 
     /**
-     * <summary>Re-sends the current block state to all observers (e.g. for a frame update).</summary>
+     * <summary>Re-sends the current block state to all observers.</summary>
+     *
+     * <remarks>
+     * Registered fake blocks are kept in sync by their packet adapter; this is only needed for fake blocks
+     * used outside {@link DreamFakeBlockAPI} or after sending block changes that bypass ProtocolLib.
+     * </remarks>
      */
     public void displayNextFrame() {
-        for (Player player : observers) {
-            player.sendBlockChange(location, material.createBlockData());
-        }
+        if (observers.isEmpty()) return;
+        for (Player player : observers) resend(player);
+    }
+
+    /**
+     * <summary>Re-sends the current block state to one observer, if they are in this block's world.</summary>
+     *
+     * <param name="player">The observer.</param>
+     * <returns>True if the change was queued.</returns>
+     */
+    public boolean resend(Player player) {
+        if (player == null || !observers.contains(player) || player.getWorld() != location.getWorld()) return false;
+        DreamCore.DreamBlockChangeBatcher.queue(player, location, blockData);
+        return true;
+    }
+
+    private void reindex() {
+        if (id != null && DreamCore.DreamFakeBlocks.get(id) == this) DreamCore.DreamFakeBlocks.reindex(id);
     }
 
     /** <returns>The number of players observing this fake block.</returns> */
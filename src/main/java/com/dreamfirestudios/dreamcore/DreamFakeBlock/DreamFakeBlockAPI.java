@@ -23,16 +23,26 @@
  */
 package com.dreamfirestudios.dreamcore.DreamFakeBlock;
 
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamWorldPos;
 import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 /**
  * <summary>
  * Static utility methods for creating, managing and querying fake blocks.
  * Relies on {@link DreamCore} as the central storage.
  * </summary>
+ *
+ * <remarks>
+ * Location lookups go through {@link DreamCore#DreamFakeBlocksByPosition} and player lookups through
+ * {@link DreamCore#DreamFakeBlocksByObserver}, so they cost O(1) regardless of how many fake blocks exist.
+ * Locations match by block position and world.
+ * </remarks>
  */
 public class DreamFakeBlockAPI {
 
@@ -46,6 +56,7 @@ public class DreamFakeBlockAPI {
      */
     public static void createFakeBlock(String id, Location location, Material material, Player... players){
         var fakeBlock = new DreamFakeBlock(location, material);
+        fakeBlock.setId(id);
         for (var player : players) {
             fakeBlock.addObserver(player);
         }
@@ -57,11 +68,9 @@ public class DreamFakeBlockAPI {
      * <summary>Remove a player from observing the fake block at a specific location.</summary>
      */
     public static void removePlayerFromFakeBlock(Player player, Location location){
-        for (var fakeBlock : DreamCore.DreamFakeBlocks.values()){
-            if (fakeBlock.isPlayerObservingAtLocation(player, location)) {
-                fakeBlock.removeObserver(player);
-            }
-        }
+        DreamCore.DreamFakeBlocksByPosition.forEach(DreamWorldPos.block(location), fakeBlock -> {
+            if (fakeBlock.isObserver(player)) fakeBlock.removeObserver(player);
+        });
     }
 
     /**
@@ -76,11 +85,7 @@ public class DreamFakeBlockAPI {
      * <summary>Remove and clear a fake block by location.</summary>
      */
     public static void removeFakeBlock(Location location){
-        for (var fakeBlock : DreamCore.DreamFakeBlocks.values()){
-            if (fakeBlock.isLocation(location)) {
-                fakeBlock.removeAllObservers();
-            }
-        }
+        DreamCore.DreamFakeBlocksByPosition.forEach(DreamWorldPos.block(location), DreamFakeBlock::removeAllObservers);
     }
 
     /**
@@ -95,14 +100,33 @@ public class DreamFakeBlockAPI {
      * <summary>Returns the fake material a player sees at a location, or null if none.</summary>
      */
     public static Material returnMaterialForPlayer(Player player, Location location){
-        for (var fakeBlock : DreamCore.DreamFakeBlocks.values()){
-            if (fakeBlock.isPlayerObservingAtLocation(player, location)) {
-                return fakeBlock.getMaterial();
-            }
+        if (player == null || !DreamCore.DreamFakeBlocksByObserver.contains(player.getUniqueId())) return null;
+        for (var fakeBlock : DreamCore.DreamFakeBlocksByPosition.values(DreamWorldPos.block(location))){
+            if (fakeBlock.isObserver(player)) return fakeBlock.getMaterial();
         }
         return null;
     }
 
+    /**
+     * <summary>Returns every registered fake block inside a chunk.</summary>
+     *
+     * <param name="world">World of the chunk.</param>
+     * <param name="chunkX">Chunk X.</param>
+     * <param name="chunkZ">Chunk Z.</param>
+     */
+    public static List<DreamFakeBlock> returnFakeBlocksInChunk(World world, int chunkX, int chunkZ){
+        if (world == null) throw new IllegalArgumentException("World cannot be null");
+        return DreamCore.DreamFakeBlocksByChunk.values(DreamWorldPos.chunk(world, chunkX, chunkZ));
+    }
+
+    /**
+     * <summary>Returns every registered fake block a player currently observes.</summary>
+     */
+    public static List<DreamFakeBlock> returnFakeBlocksForPlayer(Player player){
+        if (player == null) throw new IllegalArgumentException("Player cannot be null");
+        return DreamCore.DreamFakeBlocksByObserver.values(player.getUniqueId());
+    }
+
     /**
      * <summary>Returns the fake material for a block ID, or null if not present.</summary>
      */
@@ -0,0 +1,318 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamFakeBlock;
+
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamWorldPos;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <summary>
+ * A box of fake blocks shown to a set of players as one unit, e.g. a fake build shown to a party.
+ * </summary>
+ *
+ * <remarks>
+ * Blocks are stored palette-encoded, so memory grows with the volume and not with the number of observers;
+ * observers are a set of UUIDs per scene. Empty cells show whatever is below them.
+ * <para>
+ * Scenes stack by {@link #getPriority()}: where several scenes visible to a player overlap, the highest
+ * priority wins, and among equal priorities the most recently created one. Registered
+ * {@link DreamFakeBlock}s are drawn over every scene. Showing, hiding and editing a scene queue the affected
+ * cells on the {@link com.dreamfirestudios.dreamcore.DreamPacket.DreamBlockChangeBatcher}, which sends them as
+ * one packet per chunk section; hiding resolves each cell to the next scene below or to the real block.
+ * </para>
+ * Registered scenes are kept in sync like fake blocks: {@link FakeBlockPacketAdapter} patches them into block
+ * updates and resends them after chunk packets. Observers may be offline; they see the scene again when they
+ * rejoin. Edits are main thread only.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * var scene = new DreamFakeScene(origin, 32, 16, 32, 10);
+ * scene.copyFrom(templateCorner, false);
+ * DreamFakeSceneAPI.registerFakeScene("arena-preview", scene, party.toArray(Player[]::new));
+ * </code>
+ * </example>
+ */
+public class DreamFakeScene {
+    /** <summary>Orders scenes from the top layer down.</summary> */
+    static final Comparator<DreamFakeScene> TOP_FIRST = Comparator.comparingInt(DreamFakeScene::getPriority)
+            .thenComparingLong(scene -> scene.order).reversed();
+    private static final AtomicLong ORDER = new AtomicLong();
+
+    @Getter private final World world;
+    @Getter private final int minX, minY, minZ;
+    @Getter private final int sizeX, sizeY, sizeZ;
+    /** <summary>Layer priority; higher priorities are drawn over lower ones.</summary> */
+    @Getter private final int priority;
+    private final long order = ORDER.incrementAndGet();
+    private final PalettedBlockVolume volume;
+    private final Set<UUID> observers = ConcurrentHashMap.newKeySet();
+    /** <summary>Registry ID in {@link DreamCore#DreamFakeScenes}, or null when not registered through the API.</summary> */
+    @Getter private String id;
+
+    /**
+     * <summary>Creates an empty scene.</summary>
+     *
+     * <param name="origin">Minimum corner of the box.</param>
+     * <param name="sizeX">Width along X in blocks.</param>
+     * <param name="sizeY">Height in blocks.</param>
+     * <param name="sizeZ">Depth along Z in blocks.</param>
+     * <param name="priority">Layer priority.</param>
+     * <exception cref="IllegalArgumentException">If the origin has no world or the size is not positive.</exception>
+     */
+    public DreamFakeScene(Location origin, int sizeX, int sizeY, int sizeZ, int priority) {
+        if (origin == null || origin.getWorld() == null) throw new IllegalArgumentException("Origin must have a world");
+        this.volume = new PalettedBlockVolume(sizeX, sizeY, sizeZ);
+        this.world = origin.getWorld();
+        this.minX = origin.getBlockX();
+        this.minY = origin.getBlockY();
+        this.minZ = origin.getBlockZ();
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.priority = priority;
+    }
+
+    /** <summary>Called by {@link DreamFakeSceneAPI} when the scene is registered.</summary> */
+    void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * <summary>Returns a cell of the scene.</summary>
+     *
+     * <param name="dx">X offset from the origin.</param>
+     * <param name="dy">Y offset from the origin.</param>
+     * <param name="dz">Z offset from the origin.</param>
+     * <returns>The block data, or null if the cell is empty.</returns>
+     * <exception cref="IllegalArgumentException">If the offset is outside the scene.</exception>
+     */
+    public BlockData getBlock(int dx, int dy, int dz) {
+        return volume.get(indexOf(dx, dy, dz));
+    }
+
+    /**
+     * <summary>Sets or clears a cell and updates it for all online observers.</summary>
+     *
+     * <param name="dx">X offset from the origin.</param>
+     * <param name="dy">Y offset from the origin.</param>
+     * <param name="dz">Z offset from the origin.</param>
+     * <param name="data">Block data to show, or null to let the layers below show through.</param>
+     * <exception cref="IllegalArgumentException">If the offset is outside the scene.</exception>
+     */
+    public void setBlock(int dx, int dy, int dz, BlockData data) {
+        if (!volume.set(indexOf(dx, dy, dz), data) || observers.isEmpty()) return;
+        final int x = minX + dx, y = minY + dy, z = minZ + dz;
+        for (Player player : onlineObservers()) send(player, x, y, z, x, y, z, false);
+    }
+
+    /**
+     * <summary>Sets every cell to the same block data and updates all online observers.</summary>
+     *
+     * <param name="data">Block data to show, or null to empty the scene.</param>
+     */
+    public void fill(BlockData data) {
+        boolean changed = false;
+        for (int i = 0, cells = sizeX * sizeY * sizeZ; i < cells; i++) changed |= volume.set(i, data);
+        if (changed) resendAll();
+    }
+
+    /**
+     * <summary>Copies the real blocks of a same-sized region into the scene and updates all online observers.</summary>
+     *
+     * <param name="sourceMin">Minimum corner of the source region; its chunks are loaded if needed.</param>
+     * <param name="includeAir">Whether air is copied as a block; otherwise air cells are left empty.</param>
+     */
+    public void copyFrom(Location sourceMin, boolean includeAir) {
+        if (sourceMin == null || sourceMin.getWorld() == null) throw new IllegalArgumentException("Source must have a world");
+        final World source = sourceMin.getWorld();
+        final int sx = sourceMin.getBlockX(), sy = sourceMin.getBlockY(), sz = sourceMin.getBlockZ();
+        boolean changed = false;
+        for (int dy = 0; dy < sizeY; dy++) {
+            for (int dz = 0; dz < sizeZ; dz++) {
+                for (int dx = 0; dx < sizeX; dx++) {
+                    final BlockData data = source.getBlockAt(sx + dx, sy + dy, sz + dz).getBlockData();
+                    changed |= volume.set(volume.index(dx, dy, dz), includeAir || !data.getMaterial().isAir() ? data : null);
+                }
+            }
+        }
+        if (changed) resendAll();
+    }
+
+    /** <returns>Number of non-empty cells.</returns> */
+    public int getBlockCount() {
+        return volume.filled();
+    }
+
+    /**
+     * <summary>Returns the scene's block at a world position. Safe to call from any thread.</summary>
+     *
+     * <param name="x">World block X.</param>
+     * <param name="y">World block Y.</param>
+     * <param name="z">World block Z.</param>
+     * <returns>The block data, or null if the position is outside the scene or the cell is empty.</returns>
+     */
+    public BlockData blockAt(int x, int y, int z) {
+        final int index = volume.index(x - minX, y - minY, z - minZ);
+        return index < 0 ? null : volume.get(index);
+    }
+
+    /** <returns>True if the box overlaps the given inclusive block range.</returns> */
+    public boolean intersects(int x0, int y0, int z0, int x1, int y1, int z1) {
+        return x0 < minX + sizeX && x1 >= minX && y0 < minY + sizeY && y1 >= minY && z0 < minZ + sizeZ && z1 >= minZ;
+    }
+
+    /** <returns>Keys of every chunk the box overlaps.</returns> */
+    public List<DreamWorldPos> getChunkKeys() {
+        final int cx0 = minX >> 4, cz0 = minZ >> 4, cx1 = (minX + sizeX - 1) >> 4, cz1 = (minZ + sizeZ - 1) >> 4;
+        final List<DreamWorldPos> keys = new ArrayList<>((cx1 - cx0 + 1) * (cz1 - cz0 + 1));
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cz = cz0; cz <= cz1; cz++) keys.add(DreamWorldPos.chunk(world, cx, cz));
+        }
+        return keys;
+    }
+
+    /** <returns>UUIDs of the current observers.</returns> */
+    public List<UUID> getObserverIds() {
+        return new ArrayList<>(observers);
+    }
+
+    /** <returns>True if the player sees this scene.</returns> */
+    public boolean isObserver(Player player) {
+        return player != null && observers.contains(player.getUniqueId());
+    }
+
+    /**
+     * <summary>Shows the scene to a player.</summary>
+     *
+     * <param name="player">The player.</param>
+     */
+    public void addObserver(Player player) {
+        if (player == null) throw new IllegalArgumentException("Player cannot be null");
+        if (!observers.add(player.getUniqueId())) return;
+        reindex();
+        resend(player);
+    }
+
+    /**
+     * <summary>Hides the scene from a player, revealing the layers below.</summary>
+     *
+     * <param name="player">The player.</param>
+     */
+    public void removeObserver(Player player) {
+        if (player == null) throw new IllegalArgumentException("Player cannot be null");
+        if (!observers.remove(player.getUniqueId())) return;
+        reindex();
+        resend(player);
+    }
+
+    /**
+     * <summary>Hides the scene from every observer.</summary>
+     */
+    public void removeAllObservers() {
+        if (observers.isEmpty()) return;
+        final List<Player> online = onlineObservers();
+        observers.clear();
+        reindex();
+        for (Player player : online) resend(player);
+    }
+
+    /**
+     * <summary>Re-sends every non-empty cell to a player, resolved against the player's other scenes.</summary>
+     *
+     * <param name="player">The player; ignored when in another world.</param>
+     */
+    public void resend(Player player) {
+        send(player, minX, minY, minZ, minX + sizeX - 1, minY + sizeY - 1, minZ + sizeZ - 1, true);
+    }
+
+    /** <summary>Re-sends the scene's part of a chunk to a player, e.g. after the chunk was sent.</summary> */
+    void resendChunk(Player player, int chunkX, int chunkZ) {
+        send(player, chunkX << 4, minY, chunkZ << 4, (chunkX << 4) + 15, minY + sizeY - 1, (chunkZ << 4) + 15, true);
+    }
+
+    private void resendAll() {
+        if (observers.isEmpty()) return;
+        for (Player player : onlineObservers()) send(player, minX, minY, minZ, minX + sizeX - 1, minY + sizeY - 1, minZ + sizeZ - 1, false);
+    }
+
+    /**
+     * <summary>Queues what a player should see for the cells of this scene within an inclusive block range.</summary>
+     *
+     * <param name="filledOnly">Skip cells this scene leaves empty.</param>
+     */
+    private void send(Player player, int x0, int y0, int z0, int x1, int y1, int z1, boolean filledOnly) {
+        if (player.getWorld() != world) return;
+        x0 = Math.max(x0, minX); y0 = Math.max(y0, minY); z0 = Math.max(z0, minZ);
+        x1 = Math.min(x1, minX + sizeX - 1); y1 = Math.min(y1, minY + sizeY - 1); z1 = Math.min(z1, minZ + sizeZ - 1);
+        if (x0 > x1 || y0 > y1 || z0 > z1) return;
+        final List<DreamFakeScene> layers = DreamFakeSceneAPI.layersFor(player, world, x0, y0, z0, x1, y1, z1);
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    if (filledOnly && blockAt(x, y, z) == null) continue;
+                    BlockData data = DreamFakeSceneAPI.topBlock(layers, x, y, z);
+                    if (data == null) {
+                        if (!world.isChunkLoaded(x >> 4, z >> 4)) continue;
+                        data = world.getBlockAt(x, y, z).getBlockData();
+                    }
+                    DreamCore.DreamBlockChangeBatcher.queue(player, world, x, y, z, data);
+                }
+            }
+        }
+    }
+
+    private List<Player> onlineObservers() {
+        final List<Player> online = new ArrayList<>(observers.size());
+        for (UUID observer : observers) {
+            final Player player = Bukkit.getPlayer(observer);
+            if (player != null) online.add(player);
+        }
+        return online;
+    }
+
+    private int indexOf(int dx, int dy, int dz) {
+        final int index = volume.index(dx, dy, dz);
+        if (index < 0) throw new IllegalArgumentException("Offset " + dx + ", " + dy + ", " + dz + " is outside the scene");
+        return index;
+    }
+
+    private void reindex() {
+        if (id != null && DreamCore.DreamFakeScenes.get(id) == this) DreamCore.DreamFakeScenes.reindex(id);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamFakeBlock;
+
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamWorldPos;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <summary>
+ * Static utility methods for registering, showing and querying fake scenes.
+ * Relies on {@link DreamCore} as the central storage.
+ * </summary>
+ *
+ * <remarks>
+ * Lookups go through {@link DreamCore#DreamFakeScenesByChunk} and {@link DreamCore#DreamFakeScenesByObserver}.
+ * </remarks>
+ */
+public class DreamFakeSceneAPI {
+
+    /**
+     * <summary>Register a scene and show it to players.</summary>
+     *
+     * <param name="id">Unique ID for storing the scene.</param>
+     * <param name="scene">The scene.</param>
+     * <param name="players">Initial observers.</param>
+     */
+    public static void registerFakeScene(String id, DreamFakeScene scene, Player... players){
+        if (id == null || scene == null) throw new IllegalArgumentException("ID and scene cannot be null");
+        var previous = DreamCore.DreamFakeScenes.get(id);
+        if (previous != null && previous != scene) removeFakeScene(id);
+        scene.setId(id);
+        DreamCore.DreamFakeScenes.put(id, scene);
+        for (var player : players) {
+            scene.addObserver(player);
+        }
+    }
+
+    /**
+     * <summary>Hide a scene from everyone and unregister it.</summary>
+     */
+    public static void removeFakeScene(String id){
+        var scene = DreamCore.DreamFakeScenes.get(id);
+        if (scene == null) return;
+        scene.removeAllObservers();
+        DreamCore.DreamFakeScenes.remove(id);
+    }
+
+    /**
+     * <summary>Show a registered scene to a player.</summary>
+     */
+    public static void showFakeScene(Player player, String id){
+        var scene = DreamCore.DreamFakeScenes.get(id);
+        if (scene != null) scene.addObserver(player);
+    }
+
+    /**
+     * <summary>Hide a registered scene from a player.</summary>
+     */
+    public static void hideFakeScene(Player player, String id){
+        var scene = DreamCore.DreamFakeScenes.get(id);
+        if (scene != null) scene.removeObserver(player);
+    }
+
+    /**
+     * <summary>Returns every registered scene a player currently sees.</summary>
+     */
+    public static List<DreamFakeScene> returnFakeScenesForPlayer(Player player){
+        if (player == null) throw new IllegalArgumentException("Player cannot be null");
+        return DreamCore.DreamFakeScenesByObserver.values(player.getUniqueId());
+    }
+
+    /**
+     * <summary>Returns the scene block a player sees at a location, or null if no scene covers it.</summary>
+     */
+    public static BlockData returnBlockDataForPlayer(Player player, Location location){
+        if (player == null || location == null || location.getWorld() == null) return null;
+        if (!DreamCore.DreamFakeScenesByObserver.contains(player.getUniqueId())) return null;
+        var layers = layersInChunk(player, location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        return topBlock(layers, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * <summary>Scenes a player sees that overlap an inclusive block range, top layer first.</summary>
+     */
+    static List<DreamFakeScene> layersFor(Player player, World world, int x0, int y0, int z0, int x1, int y1, int z1){
+        var layers = new ArrayList<DreamFakeScene>();
+        DreamCore.DreamFakeScenesByObserver.forEach(player.getUniqueId(), scene -> {
+            if (scene.getWorld() == world && scene.intersects(x0, y0, z0, x1, y1, z1)) layers.add(scene);
+        });
+        layers.sort(DreamFakeScene.TOP_FIRST);
+        return layers;
+    }
+
+    /**
+     * <summary>Scenes a player sees that overlap a chunk, top layer first. Safe to call from any thread.</summary>
+     */
+    static List<DreamFakeScene> layersInChunk(Player player, World world, int chunkX, int chunkZ){
+        var candidates = DreamCore.DreamFakeScenesByChunk.values(DreamWorldPos.chunk(world, chunkX, chunkZ));
+        if (candidates.isEmpty()) return candidates;
+        var layers = new ArrayList<DreamFakeScene>(candidates.size());
+        for (var scene : candidates) {
+            if (scene.isObserver(player)) layers.add(scene);
+        }
+        layers.sort(DreamFakeScene.TOP_FIRST);
+        return layers;
+    }
+
+    /**
+     * <summary>Block data of the topmost layer with a block at a position, or null if every layer is empty there.</summary>
+     */
+    static BlockData topBlock(List<DreamFakeScene> layers, int x, int y, int z){
+        for (int i = 0, size = layers.size(); i < size; i++) {
+            var data = layers.get(i).blockAt(x, y, z);
+            if (data != null) return data;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamFakeBlock;
+
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+
+import java.util.List;
+
+/**
+ * <summary>
+ * Resends fake blocks and fake scene blocks a player interacts with.
+ * </summary>
+ *
+ * <remarks>
+ * Clicking or breaking a fake block makes the client predict the result locally, so the clicked block and the
+ * block on the clicked face are resent at the end of the tick. Registered by DreamCore on enable.
+ * </remarks>
+ */
+public final class FakeBlockListener implements Listener {
+
+    /** <summary>Maximum reach used to find the targeted block when the client reports an air click.</summary> */
+    private static final int AIR_CLICK_REACH = 6;
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        final Player player = event.getPlayer();
+        if (!DreamCore.DreamFakeBlocksByObserver.contains(player.getUniqueId())
+                && !DreamCore.DreamFakeScenesByObserver.contains(player.getUniqueId())) return;
+        Block block = event.getClickedBlock();
+        if (block == null && event.getAction() == Action.LEFT_CLICK_AIR) block = player.getTargetBlockExact(AIR_CLICK_REACH);
+        if (block == null) return;
+        resendAt(player, block);
+        resendAt(player, block.getRelative(event.getBlockFace()));
+    }
+
+    private static void resendAt(Player player, Block block) {
+        final DreamFakeBlock fakeBlock = FakeBlockPacketAdapter.observedAt(player, block.getWorld(), block.getX(), block.getY(), block.getZ());
+        if (fakeBlock != null) {
+            fakeBlock.resend(player);
+            return;
+        }
+        final List<DreamFakeScene> layers = DreamFakeSceneAPI.layersInChunk(player, block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        final BlockData data = DreamFakeSceneAPI.topBlock(layers, block.getX(), block.getY(), block.getZ());
+        if (data != null) DreamCore.DreamBlockChangeBatcher.queue(player, block.getWorld(), block.getX(), block.getY(), block.getZ(), data);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamFakeBlock;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamWorldPos;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <summary>
+ * Keeps registered fake blocks and fake scenes visible by patching them into the packets that would overwrite them.
+ * </summary>
+ *
+ * <remarks>
+ * <list type="bullet">
+ * <item>Block change and multi-block change packets: entries at a position where the recipient sees a fake
+ * block or scene block are rewritten to that block data; fake blocks win over scenes. The packet is cloned
+ * first, since the server may send the same packet instance to several players.</item>
+ * <item>Chunk packets: the recipient's fake blocks and scenes in that chunk are queued on the
+ * {@link com.dreamfirestudios.dreamcore.DreamPacket.DreamBlockChangeBatcher} and arrive right after the chunk.</item>
+ * </list>
+ * Runs on the network threads; lookups go through the concurrent DreamCore indexes and return
+ * immediately for players that see no fake blocks or scenes. Registered by DreamCore on enable.
+ * </remarks>
+ */
+public final class FakeBlockPacketAdapter extends PacketAdapter {
+
+    /**
+     * <summary>Creates the adapter for the outgoing block and chunk packets.</summary>
+     *
+     * <param name="plugin">Owning plugin.</param>
+     */
+    public FakeBlockPacketAdapter(Plugin plugin) {
+        super(plugin, ListenerPriority.HIGH, PacketType.Play.Server.BLOCK_CHANGE, PacketType.Play.Server.MULTI_BLOCK_CHANGE, PacketType.Play.Server.MAP_CHUNK);
+    }
+
+    @Override
+    public void onPacketSending(PacketEvent event) {
+        if (event.isPlayerTemporary()) return;
+        final Player player = event.getPlayer();
+        if (player == null) return;
+        final boolean fakeBlocks = DreamCore.DreamFakeBlocksByObserver.contains(player.getUniqueId());
+        final boolean fakeScenes = DreamCore.DreamFakeScenesByObserver.contains(player.getUniqueId());
+        if (!fakeBlocks && !fakeScenes) return;
+        final PacketType type = event.getPacketType();
+        if (type == PacketType.Play.Server.BLOCK_CHANGE) patchBlockChange(event, player, fakeBlocks, fakeScenes);
+        else if (type == PacketType.Play.Server.MULTI_BLOCK_CHANGE) patchMultiBlockChange(event, player, fakeBlocks, fakeScenes);
+        else resendChunk(event, player, fakeBlocks, fakeScenes);
+    }
+
+    private static void patchBlockChange(PacketEvent event, Player player, boolean fakeBlocks, boolean fakeScenes) {
+        final BlockPosition position = event.getPacket().getBlockPositionModifier().read(0);
+        final World world = player.getWorld();
+        final int x = position.getX(), y = position.getY(), z = position.getZ();
+        final List<DreamFakeScene> layers = fakeScenes ? DreamFakeSceneAPI.layersInChunk(player, world, x >> 4, z >> 4) : List.of();
+        final BlockData data = overrideAt(player, world, x, y, z, fakeBlocks, layers);
+        if (data == null) return;
+        final PacketContainer packet = event.getPacket().shallowClone();
+        packet.getBlockData().write(0, WrappedBlockData.createData(data));
+        event.setPacket(packet);
+    }
+
+    private static void patchMultiBlockChange(PacketEvent event, Player player, boolean fakeBlocks, boolean fakeScenes) {
+        final World world = player.getWorld();
+        final BlockPosition section = event.getPacket().getSectionPositions().read(0);
+        final boolean blocksInChunk = fakeBlocks && DreamCore.DreamFakeBlocksByChunk.contains(DreamWorldPos.chunk(world, section.getX(), section.getZ()));
+        final List<DreamFakeScene> layers = fakeScenes ? DreamFakeSceneAPI.layersInChunk(player, world, section.getX(), section.getZ()) : List.of();
+        if (!blocksInChunk && layers.isEmpty()) return;
+        final short[] positions = event.getPacket().getShortArrays().read(0);
+        WrappedBlockData[] data = event.getPacket().getBlockDataArrays().read(0);
+        boolean patched = false;
+        for (int i = 0; i < positions.length; i++) {
+            final int local = positions[i];
+            final BlockData override = overrideAt(player, world,
+                    section.getX() << 4 | (local >> 8 & 15), section.getY() << 4 | (local & 15), section.getZ() << 4 | (local >> 4 & 15), blocksInChunk, layers);
+            if (override == null) continue;
+            if (!patched) {
+                data = data.clone();
+                patched = true;
+            }
+            data[i] = WrappedBlockData.createData(override);
+        }
+        if (!patched) return;
+        final PacketContainer packet = event.getPacket().shallowClone();
+        packet.getBlockDataArrays().write(0, data);
+        event.setPacket(packet);
+    }
+
+    private static void resendChunk(PacketEvent event, Player player, boolean fakeBlocks, boolean fakeScenes) {
+        final World world = player.getWorld();
+        final int chunkX = event.getPacket().getIntegers().read(0);
+        final int chunkZ = event.getPacket().getIntegers().read(1);
+        final List<DreamFakeScene> layers = fakeScenes ? DreamFakeSceneAPI.layersInChunk(player, world, chunkX, chunkZ) : List.of();
+        final List<DreamFakeBlock> blocks = new ArrayList<>();
+        if (fakeBlocks) {
+            DreamCore.DreamFakeBlocksByChunk.forEach(DreamWorldPos.chunk(world, chunkX, chunkZ), fakeBlock -> {
+                if (fakeBlock.isObserver(player)) blocks.add(fakeBlock);
+            });
+        }
+        if (blocks.isEmpty() && layers.isEmpty()) return;
+        final Runnable resend = () -> {
+            for (DreamFakeScene scene : layers) scene.resendChunk(player, chunkX, chunkZ);
+            for (DreamFakeBlock fakeBlock : blocks) fakeBlock.resend(player);
+        };
+        if (Bukkit.isPrimaryThread()) resend.run();
+        else Bukkit.getScheduler().runTask(DreamCore.DreamCore, resend);
+    }
+
+    private static BlockData overrideAt(Player player, World world, int x, int y, int z, boolean fakeBlocks, List<DreamFakeScene> layers) {
+        if (fakeBlocks) {
+            final DreamFakeBlock fakeBlock = observedAt(player, world, x, y, z);
+            if (fakeBlock != null) return fakeBlock.getBlockData();
+        }
+        return layers.isEmpty() ? null : DreamFakeSceneAPI.topBlock(layers, x, y, z);
+    }
+
+    /**
+     * <summary>Finds the fake block a player observes at a block position.</summary>
+     *
+     * <returns>The fake block, or null if the player observes none there.</returns>
+     */
+    static DreamFakeBlock observedAt(Player player, World world, int x, int y, int z) {
+        for (DreamFakeBlock fakeBlock : DreamCore.DreamFakeBlocksByPosition.values(DreamWorldPos.block(world, x, y, z))) {
+            if (fakeBlock.isObserver(player)) return fakeBlock;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamFakeBlock;
+
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <summary>
+ * Box of block data stored as palette indices packed into longs, in the same layout the client uses for
+ * chunk sections: entries never straddle two longs and the bit width grows with the palette.
+ * </summary>
+ *
+ * <remarks>
+ * Palette index 0 means "not part of the volume". Memory is one palette plus
+ * <c>volume × bits / 8</c> bytes, independent of who looks at it. The palette only grows.
+ * Writes are main thread only; reads are safe from any thread and may briefly see an older value.
+ * </remarks>
+ */
+final class PalettedBlockVolume {
+    private static final int MAX_BITS = 16;
+
+    private final int sizeX, sizeY, sizeZ;
+    private final int volume;
+    private final Map<BlockData, Integer> ids = new HashMap<>();
+    private volatile Storage storage;
+    private int filled;
+
+    /** <summary>Palette and packed indices, swapped as a whole when the bit width grows.</summary> */
+    private record Storage(BlockData[] palette, int bits, long[] words) {
+        private int perWord() { return 64 / bits; }
+
+        private int read(int index) {
+            final int perWord = perWord();
+            return (int) (words[index / perWord] >>> (index % perWord * bits)) & ((1 << bits) - 1);
+        }
+
+        private void write(int index, int id) {
+            final int perWord = perWord();
+            final int shift = index % perWord * bits;
+            final long mask = ((1L << bits) - 1) << shift;
+            words[index / perWord] = words[index / perWord] & ~mask | (long) id << shift;
+        }
+    }
+
+    PalettedBlockVolume(int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) throw new IllegalArgumentException("Volume size must be positive");
+        final long cells = (long) sizeX * sizeY * sizeZ;
+        if (cells > Integer.MAX_VALUE) throw new IllegalArgumentException("Volume is too large: " + cells + " blocks");
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.volume = (int) cells;
+        this.storage = allocate(1);
+    }
+
+    /** <returns>Cell index of a relative position, or -1 when outside the volume.</returns> */
+    int index(int dx, int dy, int dz) {
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= sizeX || dy >= sizeY || dz >= sizeZ) return -1;
+        return (dy * sizeZ + dz) * sizeX + dx;
+    }
+
+    /** <returns>Block data of a cell, or null when the cell is empty.</returns> */
+    BlockData get(int index) {
+        final Storage current = storage;
+        return current.palette[current.read(index)];
+    }
+
+    /**
+     * <summary>Sets or clears a cell.</summary>
+     *
+     * <returns>True if the cell changed.</returns>
+     */
+    boolean set(int index, BlockData data) {
+        final int id = data == null ? 0 : idFor(data);
+        final Storage current = storage;
+        final int previous = current.read(index);
+        if (previous == id) return false;
+        current.write(index, id);
+        if (previous == 0) filled++;
+        else if (id == 0) filled--;
+        return true;
+    }
+
+    /** <returns>Number of non-empty cells.</returns> */
+    int filled() {
+        return filled;
+    }
+
+    /** <returns>Number of distinct block data values ever stored.</returns> */
+    int paletteSize() {
+        return ids.size();
+    }
+
+    private int idFor(BlockData data) {
+        final Integer known = ids.get(data);
+        if (known != null) return known;
+        final int id = ids.size() + 1;
+        Storage current = storage;
+        if (id >= current.palette.length) {
+            final int bits = 32 - Integer.numberOfLeadingZeros(id);
+            if (bits > MAX_BITS) throw new IllegalStateException("Palette is full");
+            current = grow(current, bits);
+        }
+        current.palette[id] = data.clone();
+        ids.put(current.palette[id], id);
+        return id;
+    }
+
+    private Storage grow(Storage from, int bits) {
+        final Storage to = allocate(bits);
+        System.arraycopy(from.palette, 0, to.palette, 0, from.palette.length);
+        for (int i = 0; i < volume; i++) {
+            final int id = from.read(i);
+            if (id != 0) to.write(i, id);
+        }
+        storage = to;
+        return to;
+    }
+
+    private Storage allocate(int bits) {
+        final int perWord = 64 / bits;
+        final long[] words = new long[(int) (((long) volume + perWord - 1) / perWord)];
+        return new Storage(new BlockData[1 << bits], bits, words);
+    }
+}
@@ -27,18 +27,27 @@ import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageFormatter;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamCore;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassID;
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrHologramUpdate;
+import com.dreamfirestudios.dreamcore.DreamViewTracker.IDreamViewListener;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -51,6 +60,20 @@ import java.util.function.Function;
  *   <li>Custom names use Kyori Adventure {@link Component}.</li>
  *   <li>Hologram lines are configured as marker ArmorStands (no hitbox) and invisible.</li>
  * </ul>
+ * <p>
+ * In packet-only mode ({@link HologramBuilder#packetOnly(boolean)}) no entity is spawned: each line is a
+ * client-side marker ArmorStand sent with ProtocolLib to players within {@link #getViewRange()}, so lines are
+ * never ticked, tracked or saved with the chunk. Text can then be resolved per viewer
+ * ({@link HologramBuilder#viewerLines(BiFunction)}).
+ * <p>
+ * Every hologram is registered with {@link DreamCore#DreamViewTracker}, which keeps the set of players within
+ * {@link #getViewRange()} up to date as they move. Frames are skipped while nobody is in range and caught up
+ * when the first viewer arrives; packet-only lines are spawned, updated and destroyed only for those viewers.
+ * <p>
+ * Each line caches its last generated and formatted text. A frame only re-runs the formatter when the generator
+ * returns a different Component, and only touches the stand (or sends metadata) when the formatted text changed.
+ * Generators that change rarely can use {@link HologramBuilder#refreshInterval(int)} or
+ * {@link HologramBuilder#refreshOnDirtyOnly()} together with {@link #markDirty()} instead of being polled every frame.
  */
 public class DreamHologram extends DreamClassID {
 
@@ -76,6 +99,51 @@ public class DreamHologram extends DreamClassID {
      */
     private Function<Integer, Component> lineGenerator;
 
+    /** True if lines are client-side entities sent with ProtocolLib instead of spawned ArmorStands. */
+    @Getter private boolean packetOnly = false;
+
+    /** Distance (blocks) within which lines are updated, and packet-only lines are shown to players. */
+    @Getter private double viewRange = 48.0;
+
+    /** Resolves a packet-only line for one viewer; when null, {@link #lineGenerator} is used for everyone. */
+    private BiFunction<Player, Integer, Component> viewerLineGenerator;
+
+    /** Client-side line entities in packet-only mode, index 0 is the top line. */
+    private final List<HologramPackets.VirtualLine> virtualLines = new ArrayList<>();
+
+    /** Players that currently have the packet-only lines spawned. */
+    private final Set<UUID> viewers = new HashSet<>();
+
+    /** Render cache per line, parallel to the line list. */
+    private final List<LineCache> lineCaches = new ArrayList<>();
+
+    /** Lines flagged by {@link #markDirty(int)} for the next frame. */
+    private final BitSet dirtyLines = new BitSet();
+
+    /** Minimum ticks between polling refreshes; 0 re-runs the generator every frame. */
+    @Getter private int refreshInterval = 0;
+
+    /** True if frames only regenerate lines flagged with {@link #markDirty(int)}. */
+    @Getter private boolean refreshOnDirtyOnly = false;
+
+    private int nextRefreshTick = 0;
+
+    /** True if frames were skipped because nobody was in range. */
+    private boolean framesSkipped = false;
+
+    /** Receives viewer transitions from {@link DreamCore#DreamViewTracker}. */
+    private final IDreamViewListener viewListener = new IDreamViewListener() {
+        @Override
+        public void onViewerEnter(Player player) {
+            viewerEntered(player);
+        }
+
+        @Override
+        public void onViewerLeave(Player player) {
+            viewerLeft(player);
+        }
+    };
+
     // -----------------------------------------------------------------------
     // Query
     // -----------------------------------------------------------------------
@@ -92,19 +160,28 @@ public class DreamHologram extends DreamClassID {
      * @return current number of lines in this hologram
      */
     public int size() {
-        return armorStands.size();
+        return packetOnly ? virtualLines.size() : armorStands.size();
     }
 
     /**
      * Returns the Component name of a line.
+     * In packet-only mode this is the last shared text sent, not a viewer-specific one; reading it never
+     * runs the generator unless the line has not been rendered yet.
      *
      * @param index zero-based index
      * @return line Component, or null if index out of bounds
      */
     @Nullable
     public Component line(int index) {
-        if (index < 0 || index >= armorStands.size()) return null;
-        return armorStands.get(index).customName();
+        if (index < 0 || index >= size()) return null;
+        return packetOnly ? cachedLine(index) : armorStands.get(index).customName();
+    }
+
+    /**
+     * @return UUIDs of the players that currently see the packet-only lines
+     */
+    public Set<UUID> getViewerIds() {
+        return Set.copyOf(viewers);
     }
 
     // -----------------------------------------------------------------------
@@ -120,14 +197,25 @@ public class DreamHologram extends DreamClassID {
      */
     public void addNewLine(int index) {
         ensureMainThread();
-        if (index < 0 || index > armorStands.size())
+        if (index < 0 || index > size())
             throw new IllegalArgumentException("Index out of bounds: " + index);
         if (startLocation == null) return;
         final World world = startLocation.getWorld();
         if (world == null) return;
 
         // Compute name via generator (null-safe)
-        final Component name = formatLine(index);
+        lineCaches.add(index, new LineCache());
+        dirtyLines.set(index + 1, size() + 1);
+        final Component name = render(index);
+
+        if (packetOnly) {
+            despawnVirtualFrom(index);
+            virtualLines.add(index, HologramPackets.VirtualLine.allocate());
+            spawnVirtualFrom(index);
+            HologramAddLineEvent.fire(this, name);
+            HologramUpdateEvent.fire(this);
+            return;
+        }
 
         // Spawn and configure a new marker ArmorStand
         final Location spawnLoc = lineLocation(index);
@@ -142,22 +230,48 @@ public class DreamHologram extends DreamClassID {
     }
 
     /**
-     * Updates the content (custom name) of an existing line.
+     * Re-runs the generator for an existing line and applies the result if it changed.
+     * {@link HologramEditLineEvent} is only fired when the displayed text actually changed.
      *
      * @param index line index to edit
      * @throws IllegalArgumentException if index invalid
      */
     public void editLine(int index) {
         ensureMainThread();
-        if (index < 0 || index >= armorStands.size())
+        if (index < 0 || index >= size())
             throw new IllegalArgumentException("Invalid line index: " + index);
 
-        final Component name = formatLine(index);
-        ArmorStand stand = armorStands.get(index);
-        stand.customName(name);
-        stand.setCustomNameVisible(customNameVisible);
+        if (packetOnly && viewerLineGenerator != null) {
+            // Viewers only ever see their own text, so the shared generator is not run.
+            if (sendVirtualText(index, null, false)) HologramEditLineEvent.fire(this, index, cachedLine(index));
+            return;
+        }
+        final Component previous = lineCaches.get(index).formatted;
+        final Component name = render(index);
+        boolean changed = name != previous;
+        if (packetOnly) {
+            changed = sendVirtualText(index, name, changed);
+        } else if (changed) {
+            armorStands.get(index).customName(name);
+        }
+        if (changed) HologramEditLineEvent.fire(this, index, name);
+    }
 
-        HologramEditLineEvent.fire(this, index, name);
+    /**
+     * Flags every line for regeneration on the next {@link #displayNextFrame()}.
+     */
+    public void markDirty() {
+        dirtyLines.set(0, size());
+    }
+
+    /**
+     * Flags one line for regeneration on the next {@link #displayNextFrame()}.
+     * Use as the change signal for holograms built with {@link HologramBuilder#refreshOnDirtyOnly()}.
+     *
+     * @param index line index
+     */
+    public void markDirty(int index) {
+        if (index >= 0 && index < size()) dirtyLines.set(index);
     }
 
     /**
@@ -168,8 +282,18 @@ public class DreamHologram extends DreamClassID {
      */
     public void removeLine(int index) {
         ensureMainThread();
-        if (index < 0 || index >= armorStands.size()) return;
-
+        if (index < 0 || index >= size()) return;
+
+        lineCaches.remove(index);
+        dirtyLines.set(index, size());
+        if (packetOnly) {
+            despawnVirtualFrom(index);
+            virtualLines.remove(index);
+            spawnVirtualFrom(index);
+            HologramRemoveLineEvent.fire(this, index);
+            HologramUpdateEvent.fire(this);
+            return;
+        }
         ArmorStand stand = armorStands.remove(index);
         stand.remove();
 
@@ -184,30 +308,92 @@ public class DreamHologram extends DreamClassID {
      */
     public void updateHologram() {
         ensureMainThread();
-        restackFrom(0);
+        DreamCore.DreamViewTracker.move(getClassID(), startLocation);
+        if (packetOnly) {
+            despawnVirtualFrom(0);
+            spawnVirtualFrom(0);
+        } else {
+            restackFrom(0);
+        }
         HologramUpdateEvent.fire(this);
     }
 
     /**
-     * Re-applies the line generator to all lines (useful for animated text).
+     * Re-applies the line generator to all lines that are due (useful for animated text).
+     * Lines are due every frame by default, every {@link #getRefreshInterval()} ticks when an interval is set,
+     * and additionally whenever they were flagged with {@link #markDirty(int)}.
+     * Does nothing while no player is within {@link #getViewRange()}; the skipped frame is applied when the
+     * first viewer arrives.
      */
     public void displayNextFrame() {
         ensureMainThread();
-        for (int i = 0; i < armorStands.size(); i++) {
-            editLine(i);
+        if (!DreamCore.DreamViewTracker.hasViewers(getClassID())) {
+            framesSkipped = true;
+            return;
+        }
+        final var jfr = new JfrHologramUpdate();
+        jfr.begin();
+        if (isRefreshDue()) {
+            for (int i = 0; i < size(); i++) editLine(i);
+        } else {
+            for (int i = dirtyLines.nextSetBit(0); i >= 0 && i < size(); i = dirtyLines.nextSetBit(i + 1)) editLine(i);
+        }
+        dirtyLines.clear();
+        if (jfr.finish()) {
+            final World world = startLocation == null ? null : startLocation.getWorld();
+            jfr.commit(getClassID(), size(), world == null ? 0 : world.getPlayerCount());
+        }
+    }
+
+    /**
+     * Packet-only mode: re-syncs the spawned lines with the players {@link DreamCore#DreamViewTracker} reports
+     * in range, spawning them for players that do not have them and removing them from everyone else.
+     * The tracker keeps this in sync on its own; call it after {@link #forgetViewer(UUID)}.
+     */
+    public void refreshViewers() {
+        ensureMainThread();
+        if (!packetOnly || startLocation == null || startLocation.getWorld() == null) return;
+        final Set<UUID> inRange = DreamCore.DreamViewTracker.getViewers(getClassID());
+        for (UUID viewerId : new ArrayList<>(viewers)) {
+            if (inRange.contains(viewerId)) continue;
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player != null && !virtualLines.isEmpty()) HologramPackets.send(player, HologramPackets.destroy(virtualLines));
+            forgetViewer(viewerId);
+        }
+        for (UUID viewerId : inRange) {
+            if (!viewers.add(viewerId)) continue;
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player != null) spawnVirtualFor(player, 0);
         }
     }
 
+    /**
+     * Packet-only mode: forgets that a player has the lines, e.g. after their client dropped its entities;
+     * the next {@link #refreshViewers()} spawns them again if the player is in range.
+     *
+     * @param playerId player UUID
+     */
+    public void forgetViewer(@NotNull UUID playerId) {
+        if (!viewers.remove(playerId)) return;
+        for (LineCache cache : lineCaches) cache.byViewer.remove(playerId);
+    }
+
     /**
      * Deletes the entire hologram and removes all ArmorStands.
      * Also unregisters this hologram from {@link DreamCore#DreamHolograms}.
      */
     public void deleteHologram() {
         ensureMainThread();
+        DreamCore.DreamViewTracker.untrack(getClassID());
         for (ArmorStand stand : armorStands) {
             stand.remove();
         }
         armorStands.clear();
+        despawnVirtualFrom(0);
+        virtualLines.clear();
+        viewers.clear();
+        lineCaches.clear();
+        dirtyLines.clear();
         HologramDeleteEvent.fire(this);
         DreamCore.DreamHolograms.remove(getClassID());
     }
@@ -227,17 +413,145 @@ public class DreamHologram extends DreamClassID {
         }
     }
 
+    private void viewerEntered(Player player) {
+        if (packetOnly && viewers.add(player.getUniqueId())) spawnVirtualFor(player, 0);
+        if (!framesSkipped) return;
+        framesSkipped = false;
+        for (int i = 0; i < size(); i++) editLine(i);
+        dirtyLines.clear();
+    }
+
+    private void viewerLeft(Player player) {
+        if (!packetOnly || !viewers.contains(player.getUniqueId())) return;
+        if (!virtualLines.isEmpty()) HologramPackets.send(player, HologramPackets.destroy(virtualLines));
+        forgetViewer(player.getUniqueId());
+    }
+
+    private void spawnVirtualFrom(int startIndex) {
+        if (startLocation == null || viewers.isEmpty()) return;
+        for (UUID viewerId : viewers) {
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player != null) spawnVirtualFor(player, startIndex);
+        }
+    }
+
+    private void spawnVirtualFor(Player player, int startIndex) {
+        for (int i = startIndex; i < virtualLines.size(); i++) {
+            final HologramPackets.VirtualLine line = virtualLines.get(i);
+            HologramPackets.send(player, HologramPackets.spawn(line, lineLocation(i)));
+            HologramPackets.send(player, HologramPackets.metadata(line, render(i, player), visible, customNameVisible));
+        }
+    }
+
+    private void despawnVirtualFrom(int startIndex) {
+        if (viewers.isEmpty() || startIndex >= virtualLines.size()) return;
+        final var destroy = HologramPackets.destroy(virtualLines.subList(startIndex, virtualLines.size()));
+        for (UUID viewerId : viewers) {
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player != null) HologramPackets.send(player, destroy);
+        }
+    }
+
+    /**
+     * Sends changed line text to the viewers.
+     *
+     * @return true if the text changed for at least one viewer (or for everyone, with a shared generator)
+     */
+    private boolean sendVirtualText(int index, Component shared, boolean sharedChanged) {
+        final HologramPackets.VirtualLine line = virtualLines.get(index);
+        if (viewerLineGenerator == null) {
+            if (!sharedChanged || viewers.isEmpty()) return sharedChanged;
+            final var packet = HologramPackets.metadata(line, shared, visible, customNameVisible);
+            for (UUID viewerId : viewers) {
+                final Player player = Bukkit.getPlayer(viewerId);
+                if (player != null) HologramPackets.send(player, packet);
+            }
+            return true;
+        }
+        final Map<UUID, Rendered> byViewer = lineCaches.get(index).byViewer;
+        boolean changed = false;
+        for (UUID viewerId : viewers) {
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player == null) continue;
+            final Rendered previous = byViewer.get(viewerId);
+            final Component name = render(index, player);
+            if (previous != null && previous.formatted() == name) continue;
+            HologramPackets.send(player, HologramPackets.metadata(line, name, visible, customNameVisible));
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean isRefreshDue() {
+        if (refreshOnDirtyOnly) return false;
+        if (refreshInterval <= 0) return true;
+        final int now = Bukkit.getCurrentTick();
+        if (now < nextRefreshTick) return false;
+        nextRefreshTick = now + refreshInterval;
+        return true;
+    }
+
     @NotNull
     private Location lineLocation(int index) {
         return startLocation.clone().add(0.0, index * gapBetweenLines, 0.0);
     }
 
+    /**
+     * Returns the cached shared line, rendering it only if it has never been rendered. Keeps
+     * {@link #line(int)} from consuming the change {@link #editLine(int)} compares against.
+     */
+    @NotNull
+    private Component cachedLine(int index) {
+        final Component formatted = lineCaches.get(index).formatted;
+        return formatted != null ? formatted : render(index);
+    }
+
+    /**
+     * Runs the shared generator and returns the formatted line, reusing the cached result when the
+     * generator returned an equal Component. The returned instance only changes when the text changed.
+     */
     @NotNull
-    private Component formatLine(int index) {
+    private Component render(int index) {
+        final LineCache cache = lineCaches.get(index);
         Component generated = lineGenerator != null
                 ? lineGenerator.apply(index)
-                : Component.empty();
-        return DreamMessageFormatter.format(generated, DreamMessageSettings.all());
+                : null;
+        if (generated == null) generated = Component.empty();
+        if (cache.formatted != null && generated.equals(cache.generated)) return cache.formatted;
+        final Component formatted = DreamMessageFormatter.format(generated, DreamMessageSettings.all());
+        cache.generated = generated;
+        if (!formatted.equals(cache.formatted)) cache.formatted = formatted;
+        return cache.formatted;
+    }
+
+    /**
+     * Per-viewer variant of {@link #render(int)}, cached per line and viewer.
+     */
+    @NotNull
+    private Component render(int index, Player viewer) {
+        if (viewerLineGenerator == null) return render(index);
+        final Map<UUID, Rendered> byViewer = lineCaches.get(index).byViewer;
+        final Rendered previous = byViewer.get(viewer.getUniqueId());
+        Component generated = viewerLineGenerator.apply(viewer, index);
+        if (generated == null) generated = Component.empty();
+        if (previous != null && generated.equals(previous.generated())) return previous.formatted();
+        final Component formatted = DreamMessageFormatter.format(generated, DreamMessageSettings.all());
+        if (previous != null && formatted.equals(previous.formatted())) {
+            byViewer.put(viewer.getUniqueId(), new Rendered(generated, previous.formatted()));
+            return previous.formatted();
+        }
+        byViewer.put(viewer.getUniqueId(), new Rendered(generated, formatted));
+        return formatted;
+    }
+
+    /** Last generator output and its formatted form. */
+    private record Rendered(Component generated, Component formatted) { }
+
+    /** Render cache of one line. */
+    private static final class LineCache {
+        private Component generated;
+        private Component formatted;
+        private final Map<UUID, Rendered> byViewer = new HashMap<>();
     }
 
     @NotNull
@@ -278,6 +592,11 @@ public class DreamHologram extends DreamClassID {
         private boolean useGravity = false;
         private float gapBetweenLines = -0.5f;
         private int linesToAdd = 0;
+        private boolean packetOnly = false;
+        private double viewRange = 48.0;
+        private BiFunction<Player, Integer, Component> viewerLineGenerator;
+        private int refreshInterval = 0;
+        private boolean refreshOnDirtyOnly = false;
 
         public HologramBuilder hologramName(@NotNull String hologramName) {
             this.hologramName = hologramName;
@@ -310,6 +629,51 @@ public class DreamHologram extends DreamClassID {
             return this;
         }
 
+        /**
+         * Sends lines as client-side entities through ProtocolLib instead of spawning ArmorStands.
+         */
+        public HologramBuilder packetOnly(boolean packetOnly) {
+            this.packetOnly = packetOnly;
+            return this;
+        }
+
+        /**
+         * Distance (blocks) within which lines are updated and packet-only lines are shown.
+         */
+        public HologramBuilder viewRange(double viewRange) {
+            if (viewRange <= 0) throw new IllegalArgumentException("viewRange must be > 0");
+            this.viewRange = viewRange;
+            return this;
+        }
+
+        /**
+         * Resolves each line per viewer, e.g. for personal stats or localisation. Implies {@link #packetOnly(boolean)}.
+         */
+        public HologramBuilder viewerLines(@NotNull BiFunction<Player, Integer, Component> viewerLineGenerator) {
+            this.viewerLineGenerator = viewerLineGenerator;
+            this.packetOnly = true;
+            return this;
+        }
+
+        /**
+         * Polls the generators at most every {@code ticks} ticks instead of every frame.
+         * Frames run at the hologram lane's period, so shorter intervals have no effect.
+         */
+        public HologramBuilder refreshInterval(int ticks) {
+            if (ticks < 0) throw new IllegalArgumentException("refreshInterval cannot be negative");
+            this.refreshInterval = ticks;
+            return this;
+        }
+
+        /**
+         * Never polls the generators; lines are regenerated only after {@link DreamHologram#markDirty()} or
+         * {@link DreamHologram#markDirty(int)}, or on an explicit {@link DreamHologram#editLine(int)}.
+         */
+        public HologramBuilder refreshOnDirtyOnly() {
+            this.refreshOnDirtyOnly = true;
+            return this;
+        }
+
         /**
          * Creates and spawns a new hologram at the given location.
          *
@@ -331,12 +695,18 @@ public class DreamHologram extends DreamClassID {
             hologram.useGravity = useGravity;
             hologram.gapBetweenLines = gapBetweenLines;
             hologram.lineGenerator = lineGenerator;
+            hologram.packetOnly = packetOnly;
+            hologram.viewRange = viewRange;
+            hologram.viewerLineGenerator = viewerLineGenerator;
+            hologram.refreshInterval = refreshInterval;
+            hologram.refreshOnDirtyOnly = refreshOnDirtyOnly;
 
             for (int i = 0; i < linesToAdd; i++) {
                 hologram.addNewLine(i);
             }
 
             DreamCore.DreamHolograms.put(hologram.getClassID(), hologram);
+            DreamCore.DreamViewTracker.track(hologram.getClassID(), hologram.startLocation, viewRange, hologram.viewListener);
             HologramSpawnEvent.fire(hologram);
             return hologram;
         }
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -73,7 +74,7 @@ public class HologramAddLineEvent extends Event {
     /// <param name="hologram">Target hologram.</param>
     /// <param name="line">Line component that was added.</param>
     public static void fire(@NotNull DreamHologram hologram, @NotNull Component line) {
-        Bukkit.getPluginManager().callEvent(new HologramAddLineEvent(hologram, line));
+        DreamEventDispatcher.fire(HANDLERS, () -> DreamEventDispatcher.call(new HologramAddLineEvent(hologram, line)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
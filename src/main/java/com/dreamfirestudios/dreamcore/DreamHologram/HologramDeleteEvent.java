@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
@@ -66,7 +67,7 @@ public class HologramDeleteEvent extends Event {
     /// </summary>
     /// <param name="hologram">The deleted hologram.</param>
     public static void fire(@NotNull DreamHologram hologram) {
-        Bukkit.getPluginManager().callEvent(new HologramDeleteEvent(hologram));
+        DreamEventDispatcher.fire(HANDLERS, () -> DreamEventDispatcher.call(new HologramDeleteEvent(hologram)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -73,13 +74,13 @@ public class HologramEditLineEvent extends Event {
     }
 
     /// <summary>
-    /// Fires this event via the plugin manager.
+    /// Queues this event; it is dispatched with the end-of-tick batch, and only when something listens.
     /// </summary>
     /// <param name="hologram">Target hologram.</param>
     /// <param name="index">Edited line index.</param>
     /// <param name="line">Updated line component.</param>
     public static void fire(@NotNull DreamHologram hologram, int index, @NotNull Component line) {
-        Bukkit.getPluginManager().callEvent(new HologramEditLineEvent(hologram, index, line));
+        DreamEventDispatcher.post(HANDLERS, () -> DreamEventDispatcher.call(new HologramEditLineEvent(hologram, index, line)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamHologram;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Builds and sends the packets for client-side hologram lines (packet-only mode).
+ * <p>
+ * Each line is a small marker ArmorStand that exists only on the clients it was sent to: it is never
+ * added to a world, ticked, tracked or saved. Metadata indices match the 1.21 ArmorStand layout.
+ */
+final class HologramPackets {
+
+    private static final int FLAGS_INDEX = 0;
+    private static final int CUSTOM_NAME_INDEX = 2;
+    private static final int CUSTOM_NAME_VISIBLE_INDEX = 3;
+    private static final int NO_GRAVITY_INDEX = 5;
+    private static final int ARMOR_STAND_FLAGS_INDEX = 15;
+
+    private static final byte INVISIBLE = 0x20;
+    private static final byte SMALL_MARKER = 0x01 | 0x10;
+
+    private HologramPackets() { }
+
+    /**
+     * A client-side line entity.
+     *
+     * @param entityId network entity ID, reserved from the server's ID counter
+     * @param uuid     entity UUID sent with the spawn packet
+     */
+    record VirtualLine(int entityId, UUID uuid) {
+        static VirtualLine allocate() {
+            return new VirtualLine(Bukkit.getUnsafe().nextEntityId(), UUID.randomUUID());
+        }
+    }
+
+    /**
+     * Creates the spawn packet of a line.
+     *
+     * @param line     line entity
+     * @param location where the line stands
+     */
+    static PacketContainer spawn(VirtualLine line, Location location) {
+        final PacketContainer packet = DreamCore.ProtocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, line.entityId());
+        packet.getUUIDs().write(0, line.uuid());
+        packet.getEntityTypeModifier().write(0, EntityType.ARMOR_STAND);
+        packet.getDoubles()
+                .write(0, location.getX())
+                .write(1, location.getY())
+                .write(2, location.getZ());
+        return packet;
+    }
+
+    /**
+     * Creates the metadata packet that sets a line's text and marker flags.
+     *
+     * @param line        line entity
+     * @param name        text to show
+     * @param visible     whether the stand's body is visible
+     * @param nameVisible whether the name tag is visible
+     */
+    static PacketContainer metadata(VirtualLine line, Component name, boolean visible, boolean nameVisible) {
+        final PacketContainer packet = DreamCore.ProtocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, line.entityId());
+        final Object handle = WrappedChatComponent.fromJson(GsonComponentSerializer.gson().serialize(name)).getHandle();
+        packet.getDataValueCollectionModifier().write(0, List.of(
+                new WrappedDataValue(FLAGS_INDEX, WrappedDataWatcher.Registry.get(Byte.class), visible ? (byte) 0 : INVISIBLE),
+                new WrappedDataValue(CUSTOM_NAME_INDEX, WrappedDataWatcher.Registry.getChatComponentSerializer(true), Optional.of(handle)),
+                new WrappedDataValue(CUSTOM_NAME_VISIBLE_INDEX, WrappedDataWatcher.Registry.get(Boolean.class), nameVisible),
+                new WrappedDataValue(NO_GRAVITY_INDEX, WrappedDataWatcher.Registry.get(Boolean.class), true),
+                new WrappedDataValue(ARMOR_STAND_FLAGS_INDEX, WrappedDataWatcher.Registry.get(Byte.class), SMALL_MARKER)));
+        return packet;
+    }
+
+    /**
+     * Creates a packet that removes lines from a client.
+     *
+     * @param lines line entities to remove
+     */
+    static PacketContainer destroy(Collection<VirtualLine> lines) {
+        final List<Integer> ids = new ArrayList<>(lines.size());
+        for (VirtualLine line : lines) ids.add(line.entityId());
+        final PacketContainer packet = DreamCore.ProtocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntLists().write(0, ids);
+        return packet;
+    }
+
+    /** Sends a packet to a player. */
+    static void send(Player player, PacketContainer packet) {
+        DreamCore.ProtocolManager.sendServerPacket(player, packet);
+    }
+}
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
@@ -72,7 +73,7 @@ public class HologramRemoveLineEvent extends Event {
     /// <param name="hologram">Affected hologram.</param>
     /// <param name="index">Removed line index.</param>
     public static void fire(@NotNull DreamHologram hologram, int index) {
-        Bukkit.getPluginManager().callEvent(new HologramRemoveLineEvent(hologram, index));
+        DreamEventDispatcher.fire(HANDLERS, () -> DreamEventDispatcher.call(new HologramRemoveLineEvent(hologram, index)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
@@ -67,7 +68,7 @@ public class HologramSpawnEvent extends Event {
     /// </summary>
     /// <param name="hologram">The newly spawned hologram.</param>
     public static void fire(@NotNull DreamHologram hologram) {
-        Bukkit.getPluginManager().callEvent(new HologramSpawnEvent(hologram));
+        DreamEventDispatcher.fire(HANDLERS, () -> DreamEventDispatcher.call(new HologramSpawnEvent(hologram)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamHologram;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
@@ -62,11 +63,11 @@ public class HologramUpdateEvent extends Event {
     }
 
     /// <summary>
-    /// Fires this event via the Bukkit plugin manager.
+    /// Queues this event; it is dispatched with the end-of-tick batch, and only when something listens.
     /// </summary>
     /// <param name="hologram">The hologram instance that was updated.</param>
     public static void fire(@NotNull DreamHologram hologram) {
-        Bukkit.getPluginManager().callEvent(new HologramUpdateEvent(hologram));
+        DreamEventDispatcher.post(HANDLERS, () -> DreamEventDispatcher.call(new HologramUpdateEvent(hologram)));
     }
 
     @Override public @NotNull HandlerList getHandlers() { return HANDLERS; }
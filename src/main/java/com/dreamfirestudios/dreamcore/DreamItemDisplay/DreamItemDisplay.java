@@ -23,6 +23,7 @@
  */
 package com.dreamfirestudios.dreamcore.DreamItemDisplay;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -43,6 +44,8 @@ import org.joml.Vector3f;
 /// shadow radius/strength, zero display width/height). Rotations are provided as quaternions or
 /// via a convenience Euler degrees method. Non-uniform scaling is supported.
 /// <para>⚠ Spawning must occur on the main server thread.</para>
+/// <para><see cref="ItemDisplayBuilder#trackViewers()"/> registers the display with <see cref="DreamCore#DreamViewTracker"/>;
+/// <see cref="#setItem"/> then defers item changes until a player is in range.</para>
 /// </remarks>
 /// <example>
 /// <code>
@@ -63,6 +66,26 @@ public final class DreamItemDisplay {
 
     private DreamItemDisplay() {}
 
+    /// <summary>
+    /// Replaces the displayed item, deferring the change while a tracked display has no viewers.
+    /// </summary>
+    /// <param name="display">Display to update.</param>
+    /// <param name="itemStack">New item (must not be null or AIR); copied, so later edits to it are not applied.</param>
+    /// <exception cref="IllegalArgumentException">If the item is null or AIR.</exception>
+    /// <remarks>
+    /// For displays spawned with <see cref="ItemDisplayBuilder#trackViewers()"/> that nobody is in range of, the item
+    /// is applied when the first viewer arrives; only the latest item is kept. Untracked displays update immediately.
+    /// </remarks>
+    /// <example>
+    /// <code>DreamItemDisplay.setItem(display, new ItemStack(Material.GOLDEN_SWORD));</code>
+    /// </example>
+    public static void setItem(ItemDisplay display, ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType() == Material.AIR)
+            throw new IllegalArgumentException("ItemStack cannot be null or AIR");
+        final ItemStack copy = itemStack.clone();
+        DreamCore.DreamViewTracker.update(display, current -> current.setItemStack(copy));
+    }
+
     /// <summary>
     /// Builder for a single <see cref="ItemDisplay"/> instance.
     /// </summary>
@@ -100,6 +123,7 @@ public final class DreamItemDisplay {
         private Display.Billboard billboard = Display.Billboard.CENTER;
         private Color itemGlowColor = null;                // null = no override
         private Display.Brightness itemBrightness = null;  // null = default brightness
+        private boolean trackViewers = false;
 
         // -------------------- World / position --------------------
 
@@ -340,6 +364,15 @@ public final class DreamItemDisplay {
             return this;
         }
 
+        /// <summary>
+        /// Registers the spawned display with <see cref="DreamCore#DreamViewTracker"/>.
+        /// </summary>
+        /// <returns>This builder for chaining.</returns>
+        public ItemDisplayBuilder trackViewers() {
+            this.trackViewers = true;
+            return this;
+        }
+
         // -------------------- Spawn --------------------
 
         /// <summary>
@@ -388,6 +421,7 @@ public final class DreamItemDisplay {
 
             if (itemGlowColor != null) display.setGlowColorOverride(itemGlowColor);
             if (itemBrightness != null) display.setBrightness(itemBrightness);
+            if (trackViewers) DreamCore.DreamViewTracker.trackDisplay(display);
 
             new ItemDisplaySpawnEvent(display);
             return display;
@@ -40,17 +40,30 @@ import org.bukkit.event.Listener;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 /// <summary>
 /// Central auto‑registration hub for Dreamfire “components” discovered via <see cref="PulseAutoRegister"/>.
 /// </summary>
 /// <remarks>
-/// This class scans your plugin JAR for annotated classes and registers them
-/// according to their implemented interfaces (e.g., <see cref="IDreamLoop"/>, <see cref="Listener"/>, <see cref="PacketAdapter"/>).
-/// <para>All registrations log to console via <see cref="DreamChat"/>.</para>
+/// This class discovers annotated classes (from the compile-time index written by
+/// <see cref="PulseAutoRegisterProcessor"/>, or by scanning your plugin JAR when no index exists)
+/// and registers them according to their implemented interfaces (e.g., <see cref="IDreamLoop"/>, <see cref="Listener"/>, <see cref="PacketAdapter"/>).
+/// <para>
+/// Auto-registration runs as a two-stage pipeline: classes annotated with <c>@PulseAutoRegister(async = true)</c>
+/// are constructed in parallel on a short-lived worker pool, every other class is constructed on the main
+/// thread, then every Bukkit-facing registration runs in one main-thread batch, ordered by registration type. The batch prints a single summary line; direct calls to the <c>Register*</c> methods
+/// still log one line each via <see cref="DreamChat"/>.
+/// </para>
 /// </remarks>
 /// <example>
 /// <code>
@@ -61,71 +74,231 @@ import java.util.function.BiConsumer;
 public class DreamClassAPI {
 
     /// <summary>
-    /// Mapping of “marker” interface → registration action.
+    /// Mapping of “marker” type → registration action, in dependency order.
     /// </summary>
     /// <remarks>
     /// Each action receives the plugin instance and a newly constructed object instance.
-    /// The first matching entry (via <c>isAssignableFrom</c>) is used.
+    /// The first matching entry (via <c>isAssignableFrom</c>) is used, and the batch registers types in this order:
+    /// variable tests and items before the recipes/enchantments that may reference them, channels and packet
+    /// adapters before listeners, and loops last so nothing ticks before its collaborators exist.
     /// </remarks>
-    private static final Map<Class<?>, BiConsumer<JavaPlugin, Object>> registrationActions = new HashMap<>();
+    private static final Map<Class<?>, BiConsumer<JavaPlugin, Object>> registrationActions = new LinkedHashMap<>();
+
+    /// <summary>
+    /// True while the auto-registration batch runs; suppresses the per-class console line.
+    /// </summary>
+    private static boolean batchRegistering;
 
     static {
-        registrationActions.put(IDreamLoop.class, (javaPlugin, instance) -> RegisterPulseLoop(javaPlugin, (IDreamLoop) instance));
-        registrationActions.put(PacketAdapter.class, (javaPlugin, instance) -> RegisterPacketAdapter(javaPlugin, (PacketAdapter) instance));
-        registrationActions.put(IDreamEnchantment.class, (javaPlugin, instance) -> RegisterDreamEnchantment(javaPlugin, (IDreamEnchantment) instance));
-        registrationActions.put(Listener.class, (javaPlugin, instance) -> RegisterListener(javaPlugin, (Listener) instance));
-        registrationActions.put(IDreamPlaceholder.class, (javaPlugin, instance) -> RegisterPulsePlaceholder(javaPlugin, (IDreamPlaceholder) instance));
+        registrationActions.put(DreamVariableTest.class, (javaPlugin, instance) -> RegisterPulseVariableTest(javaPlugin, (DreamVariableTest) instance));
         registrationActions.put(IDreamItemStack.class, (javaPlugin, instance) -> RegisterIDreamItemStack(javaPlugin, (IDreamItemStack) instance));
+        registrationActions.put(IDreamEnchantment.class, (javaPlugin, instance) -> RegisterDreamEnchantment(javaPlugin, (IDreamEnchantment) instance));
         registrationActions.put(IDreamRecipe.class, (javaPlugin, instance) -> RegisterPulseRecipe(javaPlugin, (IDreamRecipe) instance));
-        registrationActions.put(DreamVariableTest.class, (javaPlugin, instance) -> RegisterPulseVariableTest(javaPlugin, (DreamVariableTest) instance));
+        registrationActions.put(IDreamPlaceholder.class, (javaPlugin, instance) -> RegisterPulsePlaceholder(javaPlugin, (IDreamPlaceholder) instance));
         registrationActions.put(PluginMessageLibrary.class, (javaPlugin, instance) -> RegisterPluginMessageListener(javaPlugin, (PluginMessageLibrary) instance));
+        registrationActions.put(PacketAdapter.class, (javaPlugin, instance) -> RegisterPacketAdapter(javaPlugin, (PacketAdapter) instance));
+        registrationActions.put(Listener.class, (javaPlugin, instance) -> RegisterListener(javaPlugin, (Listener) instance));
+        registrationActions.put(IDreamLoop.class, (javaPlugin, instance) -> RegisterPulseLoop(javaPlugin, (IDreamLoop) instance));
     }
 
     /// <summary>
-    /// Discovers and registers all annotated classes. Exceptions are wrapped as <see cref="RuntimeException"/>.
+    /// A constructed instance waiting for the main-thread registration batch.
+    /// </summary>
+    /// <param name="markerType">Matched key of <see cref="#registrationActions"/>.</param>
+    /// <param name="instance">Constructed component.</param>
+    /// <param name="constructNanos">Time spent constructing it.</param>
+    private record PendingRegistration(Class<?> markerType, Object instance, long constructNanos) {}
+
+    /// <summary>
+    /// Discovery slot: either a worker construction or a class left for the main thread.
+    /// </summary>
+    /// <param name="type">Discovered class.</param>
+    /// <param name="future">Worker construction, or <c>null</c> for main-thread construction.</param>
+    private record Candidate(Class<?> type, Future<PendingRegistration> future) {}
+
+    /// <summary>
+    /// Discovers and registers all annotated classes.
     /// </summary>
     /// <param name="javaPlugin">Calling plugin.</param>
-    /// <remarks>Calls <see cref="RegisterClassesRaw(JavaPlugin)"/> internally and wraps reflection exceptions.</remarks>
+    /// <remarks>Calls <see cref="RegisterClassesRaw(JavaPlugin)"/> internally.</remarks>
     /// <example>
     /// <code>DreamClassAPI.RegisterClasses(this);</code>
     /// </example>
     public static void RegisterClasses(JavaPlugin javaPlugin){
-        try { RegisterClassesRaw(javaPlugin); }
-        catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        RegisterClassesRaw(javaPlugin);
     }
 
     /// <summary>
-    /// Discovers and registers annotated classes, propagating reflection errors.
+    /// Discovers and registers annotated classes.
     /// </summary>
     /// <param name="javaPlugin">Calling plugin.</param>
-    /// <exception cref="NoSuchMethodException">No default constructor found.</exception>
-    /// <exception cref="InvocationTargetException">Constructor threw an exception.</exception>
-    /// <exception cref="InstantiationException">Class cannot be instantiated.</exception>
-    /// <exception cref="IllegalAccessException">Constructor not accessible.</exception>
+    /// <exception cref="RuntimeException">If the plugin JAR cannot be scanned.</exception>
     /// <remarks>
-    /// For each discovered class, the first matching entry in <see cref="#registrationActions"/> is applied.
+    /// Classes are matched against <see cref="#registrationActions"/>. Async classes are constructed in parallel
+    /// straight away; all others are constructed on the main thread right before the batch. A class that fails
+    /// to construct is logged and skipped; the rest still register. The batch runs inline when called
+    /// from the main thread, otherwise it is scheduled as the next sync task.
     /// </remarks>
     /// <example>
     /// <code>DreamClassAPI.RegisterClassesRaw(plugin);</code>
     /// </example>
-    public static void RegisterClassesRaw(JavaPlugin javaPlugin)
+    public static void RegisterClassesRaw(JavaPlugin javaPlugin) {
+        long bootStart = System.nanoTime();
+        var autoRegisterClasses = DreamfireJavaAPI.getAutoRegisterClasses(javaPlugin);
+        int asyncClasses = 0;
+        for (var autoRegisterClass : autoRegisterClasses) {
+            if (IsAsync(autoRegisterClass)) asyncClasses++;
+        }
+        int workers = Math.min(asyncClasses, Runtime.getRuntime().availableProcessors());
+        var candidates = ConstructInstances(javaPlugin, autoRegisterClasses, workers);
+        long constructNanos = System.nanoTime() - bootStart;
+        if (Bukkit.isPrimaryThread()) RegisterPending(javaPlugin, CollectPending(javaPlugin, candidates), constructNanos, workers);
+        else Bukkit.getScheduler().runTask(javaPlugin, () -> RegisterPending(javaPlugin, CollectPending(javaPlugin, candidates), constructNanos, workers));
+    }
+
+    /// <summary>
+    /// True if the class opted in to worker construction via <c>@PulseAutoRegister(async = true)</c>.
+    /// </summary>
+    /// <param name="type">Discovered class.</param>
+    private static boolean IsAsync(Class<?> type) {
+        var annotation = type.getAnnotation(PulseAutoRegister.class);
+        return annotation != null && annotation.async();
+    }
+
+    /// <summary>
+    /// Starts worker construction of the async classes and waits for it to finish.
+    /// </summary>
+    /// <param name="javaPlugin">Owning plugin; its class loader becomes the workers' context loader.</param>
+    /// <param name="autoRegisterClasses">Discovered classes, in discovery order.</param>
+    /// <param name="workers">Pool size; 0 when no class is async.</param>
+    /// <returns>One candidate per class, in discovery order.</returns>
+    private static List<Candidate> ConstructInstances(JavaPlugin javaPlugin, List<Class<?>> autoRegisterClasses, int workers) {
+        var candidates = new ArrayList<Candidate>(autoRegisterClasses.size());
+        if (workers == 0) {
+            for (var autoRegisterClass : autoRegisterClasses) candidates.add(new Candidate(autoRegisterClass, null));
+            return candidates;
+        }
+        var pluginLoader = javaPlugin.getClass().getClassLoader();
+        var threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            var thread = new Thread(runnable, javaPlugin.getName() + "-DreamRegister-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(pluginLoader);
+            return thread;
+        });
+        try {
+            for (var autoRegisterClass : autoRegisterClasses) {
+                candidates.add(new Candidate(autoRegisterClass, IsAsync(autoRegisterClass) ? executor.submit(() -> ConstructInstance(autoRegisterClass)) : null));
+            }
+            for (var candidate : candidates) {
+                if (candidate.future() == null) continue;
+                try {
+                    candidate.future().get();
+                } catch (ExecutionException ignored) {
+                    // Reported by CollectPending.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    javaPlugin.getLogger().severe("Interrupted while constructing auto-register classes");
+                    break;
+                }
+            }
+            return candidates;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /// <summary>
+    /// Main-thread step: constructs the non-async classes and gathers every constructed instance.
+    /// </summary>
+    /// <param name="javaPlugin">Owning plugin, used for logging failures.</param>
+    /// <param name="candidates">Candidates in discovery order.</param>
+    /// <returns>Constructed instances in discovery order; unmatched or failed classes are omitted.</returns>
+    private static List<PendingRegistration> CollectPending(JavaPlugin javaPlugin, List<Candidate> candidates) {
+        var pending = new ArrayList<PendingRegistration>(candidates.size());
+        for (var candidate : candidates) {
+            try {
+                var result = candidate.future() == null ? ConstructInstance(candidate.type()) : candidate.future().get();
+                if (result != null) pending.add(result);
+            } catch (ExecutionException | ReflectiveOperationException | RuntimeException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                if (cause instanceof InvocationTargetException ite && ite.getCause() != null) cause = ite.getCause();
+                javaPlugin.getLogger().severe("Failed to construct " + candidate.type().getName() + ": " + cause);
+                cause.printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                javaPlugin.getLogger().severe("Interrupted while constructing auto-register classes");
+                break;
+            }
+        }
+        return pending;
+    }
+
+    /// <summary>
+    /// Finds the first matching marker type and invokes the no-arg constructor (worker or main thread).
+    /// </summary>
+    /// <param name="autoRegisterClass">Class to construct.</param>
+    /// <returns>The pending registration, or <c>null</c> when no marker type matches.</returns>
+    private static PendingRegistration ConstructInstance(Class<?> autoRegisterClass)
             throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        for (var markerType : registrationActions.keySet()) {
+            if (!markerType.isAssignableFrom(autoRegisterClass)) continue;
+            long start = System.nanoTime();
+            Object instance = autoRegisterClass.getConstructor().newInstance();
+            return new PendingRegistration(markerType, instance, System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    /// <summary>
+    /// Main-thread step: registers all pending instances grouped by marker type and logs one summary line.
+    /// </summary>
+    /// <param name="javaPlugin">Owning plugin.</param>
+    /// <param name="pending">Constructed instances in discovery order.</param>
+    /// <param name="constructNanos">Wall time of discovery and construction.</param>
+    /// <param name="workers">Worker count used for construction.</param>
+    private static void RegisterPending(JavaPlugin javaPlugin, List<PendingRegistration> pending, long constructNanos, int workers) {
+        var summary = new StringBuilder();
+        int registered = 0;
+        long syncStart = System.nanoTime();
+        batchRegistering = true;
         try {
-            for (var autoRegisterClass : DreamfireJavaAPI.getAutoRegisterClasses(javaPlugin)) {
-                for (var entry : registrationActions.entrySet()) {
-                    if (entry.getKey().isAssignableFrom(autoRegisterClass)) {
-                        Object instance = autoRegisterClass.getConstructor().newInstance();
-                        entry.getValue().accept(javaPlugin, instance);
-                        break; // Stop checking after the first successful match
+            for (var entry : registrationActions.entrySet()) {
+                int count = 0;
+                long typeConstructNanos = 0L;
+                long typeRegisterNanos = 0L;
+                for (var registration : pending) {
+                    if (registration.markerType() != entry.getKey()) continue;
+                    long start = System.nanoTime();
+                    try {
+                        entry.getValue().accept(javaPlugin, registration.instance());
+                        count++;
+                    } catch (RuntimeException e) {
+                        javaPlugin.getLogger().severe("Failed to register " + registration.instance().getClass().getName() + ": " + e);
+                        e.printStackTrace();
                     }
+                    typeRegisterNanos += System.nanoTime() - start;
+                    typeConstructNanos += registration.constructNanos();
                 }
+                if (count == 0) continue;
+                registered += count;
+                summary.append(String.format(" &7%s&8 x%d (%.1f+%.1fms)", entry.getKey().getSimpleName(), count, typeConstructNanos / 1_000_000.0, typeRegisterNanos / 1_000_000.0));
             }
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            javaPlugin.getLogger().severe("Failed to register classes: " + e.getMessage());
-            e.printStackTrace();
+        } finally {
+            batchRegistering = false;
         }
+        long syncNanos = System.nanoTime() - syncStart;
+        DreamChat.SendMessageToConsole(String.format("&8Registered %d classes for %s in %.1fms (build %.1fms on %d workers, sync %.1fms):%s",
+                registered, javaPlugin.getName(), (constructNanos + syncNanos) / 1_000_000.0, constructNanos / 1_000_000.0, workers, syncNanos / 1_000_000.0,
+                summary.length() == 0 ? " none" : summary), DreamMessageSettings.all());
+    }
+
+    /// <summary>
+    /// Logs a single registration unless the auto-registration batch is running.
+    /// </summary>
+    /// <param name="message">Formatted console message.</param>
+    private static void LogRegistration(String message){
+        if (!batchRegistering) DreamChat.SendMessageToConsole(message, DreamMessageSettings.all());
     }
 
     /// <summary>
@@ -135,21 +308,28 @@ public class DreamClassAPI {
     /// <param name="iDreamLoop">Loop implementation.</param>
     /// <remarks>
     /// Schedules using <c>scheduleSyncRepeatingTask</c> with the loop’s start delay and interval.
+    /// Every run is recorded in the <c>IDreamLoop/&lt;SimpleName&gt;</c> section of <see cref="DreamCore#DreamTimings"/>.
     /// </remarks>
     /// <example>
     /// <code>DreamClassAPI.RegisterPulseLoop(plugin, new MyLoop());</code>
     /// </example>
     public static void RegisterPulseLoop(JavaPlugin javaPlugin, IDreamLoop iDreamLoop){
         iDreamLoop.Start();
+        var timings = DreamCore.DreamTimings.section("IDreamLoop/" + iDreamLoop.getClass().getSimpleName());
         int finalId = Bukkit.getScheduler().scheduleSyncRepeatingTask(javaPlugin, new Runnable() {
             @Override
             public void run() {
-                iDreamLoop.Loop();
+                long start = timings.start();
+                try {
+                    iDreamLoop.Loop();
+                } finally {
+                    timings.stop(start, 1);
+                }
             }
         }, iDreamLoop.StartDelay(), iDreamLoop.LoopInterval());
         iDreamLoop.PassID(finalId);
         DreamCore.IDreamLoops.put(iDreamLoop.ReturnID(), iDreamLoop);
-        DreamChat.SendMessageToConsole(String.format("&8Registered Loop: %s", iDreamLoop.ReturnID()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered Loop: %s", iDreamLoop.ReturnID()));
     }
 
     /// <summary>
@@ -162,7 +342,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterPacketAdapter(JavaPlugin javaPlugin, PacketAdapter packetAdapter) {
         DreamCore.ProtocolManager.addPacketListener(packetAdapter);
-        DreamChat.SendMessageToConsole(String.format("&8Registered PacketAdapter: %s", packetAdapter.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered PacketAdapter: %s", packetAdapter.getClass().getSimpleName()));
     }
 
     /// <summary>
@@ -175,7 +355,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterListener(JavaPlugin javaPlugin, Listener listener){
         Bukkit.getPluginManager().registerEvents(listener, javaPlugin);
-        DreamChat.SendMessageToConsole(String.format("&8Registered Listener: %s", listener.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered Listener: %s", listener.getClass().getSimpleName()));
     }
 
     /// <summary>
@@ -188,7 +368,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterDreamEnchantment(JavaPlugin javaPlugin, IDreamEnchantment pulseEnchantment){
         DreamCore.IDreamEnchantments.add(pulseEnchantment);
-        DreamChat.SendMessageToConsole(String.format("&8Registered DreamEnchantment: %s", pulseEnchantment.getName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered DreamEnchantment: %s", pulseEnchantment.getName()));
     }
 
     /// <summary>
@@ -201,7 +381,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterPulsePlaceholder(JavaPlugin javaPlugin, IDreamPlaceholder iDreamPlaceholder){
         DreamCore.DreamPlaceholderManager.register(iDreamPlaceholder);
-        DreamChat.SendMessageToConsole(String.format("&8Registered IDreamPlaceholder: %s", iDreamPlaceholder.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered IDreamPlaceholder: %s", iDreamPlaceholder.getClass().getSimpleName()));
     }
 
     /// <summary>
@@ -214,7 +394,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterPulseRecipe(JavaPlugin javaPlugin, IDreamRecipe iDreamRecipe){
         Bukkit.addRecipe(iDreamRecipe.ReturnRecipe(javaPlugin));
-        DreamChat.SendMessageToConsole(String.format("&8Registered IDreamRecipe: %s", iDreamRecipe.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered IDreamRecipe: %s", iDreamRecipe.getClass().getSimpleName()));
     }
 
     /// <summary>
@@ -227,7 +407,7 @@ public class DreamClassAPI {
     /// </example>
     public static void RegisterIDreamItemStack(JavaPlugin javaPlugin, IDreamItemStack iDreamItemStack){
         DreamCore.IDreamItemStacks.add(iDreamItemStack);
-        DreamChat.SendMessageToConsole(String.format("&8Registered IDreamItemStack: %s", iDreamItemStack.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered IDreamItemStack: %s", iDreamItemStack.getClass().getSimpleName()));
     }
 
     /// <summary>
@@ -240,7 +420,7 @@ public class DreamClassAPI {
     /// <code>DreamClassAPI.RegisterPulseVariableTest(plugin, new BoolTest());</code>
     /// </example>
     public static void RegisterPulseVariableTest(JavaPlugin javaPlugin, DreamVariableTest dreamfireVariableTest){
-        DreamChat.SendMessageToConsole(String.format("&8Registered DreamVariableTest: %s", dreamfireVariableTest.getClass().getSimpleName()), DreamMessageSettings.all());
+        LogRegistration(String.format("&8Registered DreamVariableTest: %s", dreamfireVariableTest.getClass().getSimpleName()));
         for(var classType : dreamfireVariableTest.ClassTypes()){
             DreamCore.DreamVariableTests.put(classType, dreamfireVariableTest);
         }
@@ -262,7 +442,7 @@ public class DreamClassAPI {
         Bukkit.getMessenger().registerOutgoingPluginChannel(javaPlugin, channelName);
         Bukkit.getMessenger().registerIncomingPluginChannel(javaPlugin, channelName, pluginMessageListener);
         if (Bukkit.getMessenger().isOutgoingChannelRegistered(javaPlugin, channelName)) {
-            DreamChat.SendMessageToConsole(String.format("&8Registered PluginMessageListener: %s on channel %s", pluginMessageListener.getClass().getSimpleName(), channelName), DreamMessageSettings.all());
+            LogRegistration(String.format("&8Registered PluginMessageListener: %s on channel %s", pluginMessageListener.getClass().getSimpleName(), channelName));
         } else {
             Bukkit.getConsoleSender().sendMessage("Failed to register outgoing channel: " + channelName);
         }
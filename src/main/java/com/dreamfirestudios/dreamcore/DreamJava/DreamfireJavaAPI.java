@@ -25,10 +25,14 @@ package com.dreamfirestudios.dreamcore.DreamJava;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
@@ -38,8 +42,10 @@ import java.util.zip.ZipInputStream;
 /// Reflection utilities for scanning a plugin JAR to discover annotated classes.
 /// </summary>
 /// <remarks>
-/// This helper enumerates classes within the calling plugin’s package and returns those
-/// annotated with <see cref="PulseAutoRegister"/>. It is used by <see cref="DreamClassAPI"/>.
+/// This helper returns the classes annotated with <see cref="PulseAutoRegister"/>. It first reads the
+/// compile-time index (<see cref="PulseAutoRegister#INDEX_RESOURCE"/>) and loads only the listed classes;
+/// when the plugin JAR has no index it falls back to enumerating the classes within the calling
+/// plugin’s package. It is used by <see cref="DreamClassAPI"/>.
 /// </remarks>
 /// <example>
 /// <code>
@@ -69,9 +75,26 @@ public class DreamfireJavaAPI {
     /// <returns>List of annotated classes.</returns>
     /// <exception cref="URISyntaxException">If plugin location URI is invalid.</exception>
     /// <exception cref="IOException">If JAR cannot be read.</exception>
-    /// <exception cref="ClassNotFoundException">If a class cannot be loaded.</exception>
+    /// <exception cref="ClassNotFoundException">If a scanned class cannot be loaded.</exception>
+    /// <remarks>
+    /// Index entries that no longer resolve (stale index, missing dependency) are logged and skipped
+    /// so one bad line cannot stop the rest of the plugin from registering.
+    /// </remarks>
     public static List<Class<?>> getAutoRegisterClassesRaw(JavaPlugin javaPlugin)
             throws URISyntaxException, IOException, ClassNotFoundException {
+        List<String> indexedClassNames = readAutoRegisterIndex(javaPlugin);
+        if (indexedClassNames != null) {
+            List<Class<?>> indexedClasses = new ArrayList<>(indexedClassNames.size());
+            for (String className : indexedClassNames) {
+                try {
+                    indexedClasses.add(Class.forName(className, false, javaPlugin.getClass().getClassLoader()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    javaPlugin.getLogger().warning("Skipping auto-register index entry '" + className + "': " + e);
+                }
+            }
+            return indexedClasses;
+        }
+
         List<Class<?>> annotatedClasses = new ArrayList<>();
         for (Class<?> clazz : getAllClassesFromPlugin(javaPlugin)) {
             if (clazz.isAnnotationPresent(PulseAutoRegister.class)) {
@@ -81,9 +104,35 @@ public class DreamfireJavaAPI {
         return annotatedClasses;
     }
 
+    /// <summary>
+    /// Reads the compile-time auto-register index from the plugin JAR.
+    /// </summary>
+    /// <param name="javaPlugin">Calling plugin.</param>
+    /// <returns>Indexed class names, or <c>null</c> if the JAR has no index.</returns>
+    /// <exception cref="IOException">If the index exists but cannot be read.</exception>
+    /// <remarks>Blank lines and lines starting with <c>#</c> are ignored.</remarks>
+    public static List<String> readAutoRegisterIndex(JavaPlugin javaPlugin) throws IOException {
+        try (InputStream indexStream = javaPlugin.getResource(PulseAutoRegister.INDEX_RESOURCE)) {
+            if (indexStream == null) return null;
+            List<String> classNames = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) classNames.add(line);
+                }
+            }
+            return classNames;
+        }
+    }
+
     /// <summary>
     /// Loads all classes defined under the plugin’s base package from the plugin JAR.
     /// </summary>
+    /// <remarks>
+    /// Classes are loaded without being initialised, so static initialisers only run for the
+    /// classes that are actually registered.
+    /// </remarks>
     /// <param name="javaPlugin">Calling plugin.</param>
     /// <returns>Loaded classes.</returns>
     /// <exception cref="URISyntaxException">If plugin location URI is invalid.</exception>
@@ -94,7 +143,7 @@ public class DreamfireJavaAPI {
 
         List<Class<?>> classes = new ArrayList<>();
         for (String className : getAllClassNamesFromPlugin(javaPlugin)) {
-            classes.add(Class.forName(className));
+            classes.add(Class.forName(className, false, javaPlugin.getClass().getClassLoader()));
         }
         return classes;
     }
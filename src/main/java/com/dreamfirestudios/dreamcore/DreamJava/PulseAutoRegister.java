@@ -35,6 +35,14 @@ import java.lang.annotation.Target;
 /// Classes annotated with <see cref="PulseAutoRegister"/> are discovered by
 /// <see cref="DreamfireJavaAPI"/> and registered by <see cref="DreamClassAPI"/> based on
 /// the interfaces they implement (e.g., <see cref="org.bukkit.event.Listener"/>).
+/// <para>
+/// When DreamCore is on the compile classpath, <see cref="PulseAutoRegisterProcessor"/> records every
+/// annotated top-level class in <see cref="#INDEX_RESOURCE"/>, so startup can load exactly those classes
+/// instead of scanning the whole plugin JAR.
+/// </para>
+/// <para>
+/// Classes are constructed on the main thread unless they opt in with <see cref="#async()"/>.
+/// </para>
 /// </remarks>
 /// <example>
 /// <code>
@@ -47,4 +55,20 @@ import java.lang.annotation.Target;
 /// </example>
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
-public @interface PulseAutoRegister { }
\ No newline at end of file
+public @interface PulseAutoRegister {
+
+    /// <summary>
+    /// JAR resource listing the binary names of all annotated classes, one per line.
+    /// </summary>
+    String INDEX_RESOURCE = "META-INF/dreamcore/autoregister.idx";
+
+    /// <summary>
+    /// Constructs the class (and runs its static initialiser) on the parallel worker pool.
+    /// </summary>
+    /// <remarks>
+    /// Only opt in when the constructor and static initialisers do not touch the Bukkit API (worlds,
+    /// scoreboards, items, inventories) or anything else that must run on the main thread.
+    /// Registration itself always happens on the main thread.
+    /// </remarks>
+    boolean async() default false;
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamJava;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/// <summary>
+/// Compile-time annotation processor that writes <see cref="PulseAutoRegister#INDEX_RESOURCE"/>.
+/// </summary>
+/// <remarks>
+/// Registered through <c>META-INF/services/javax.annotation.processing.Processor</c>, so any plugin
+/// compiled against DreamCore gets the index without extra configuration.
+/// <para>
+/// Entries from a previous index are kept as long as the class still exists and is still annotated,
+/// which keeps the index complete across incremental builds that only recompile some sources.
+/// Nested classes are skipped, matching the JAR scanner in <see cref="DreamfireJavaAPI"/>.
+/// </para>
+/// </remarks>
+@SupportedAnnotationTypes("com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister")
+public class PulseAutoRegisterProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+    private boolean previousIndexLoaded;
+
+    /// <inheritdoc/>
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /// <summary>
+    /// Collects annotated classes each round and writes the index once processing is over.
+    /// </summary>
+    /// <returns><c>false</c>; the annotation is left unclaimed for other processors.</returns>
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!previousIndexLoaded) {
+            loadPreviousIndex();
+            previousIndexLoaded = true;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(PulseAutoRegister.class)) {
+            if (!element.getKind().isClass()) continue;
+            if (element.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "@PulseAutoRegister is ignored on nested classes", element);
+                continue;
+            }
+            classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+        }
+
+        if (roundEnv.processingOver()) writeIndex();
+        return false;
+    }
+
+    private void loadPreviousIndex() {
+        try {
+            FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", PulseAutoRegister.INDEX_RESOURCE);
+            try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) continue;
+                    TypeElement type = processingEnv.getElementUtils().getTypeElement(line);
+                    if (type != null && type.getAnnotation(PulseAutoRegister.class) != null) classNames.add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // No previous index (clean build)
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PulseAutoRegister.INDEX_RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + PulseAutoRegister.INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
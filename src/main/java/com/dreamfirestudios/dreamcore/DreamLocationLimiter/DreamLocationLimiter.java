@@ -25,22 +25,34 @@ package com.dreamfirestudios.dreamcore.DreamLocationLimiter;
 
 import com.dreamfirestudios.dreamcore.DreamCore;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassID;
+import io.papermc.paper.entity.TeleportFlag;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /// <summary>
-/// Runtime limiter that constrains players to a defined radius around an origin point.
+/// Runtime limiter that constrains players to a region, by default a radius around an origin point.
 /// </summary>
 /// <remarks>
+/// The region is a sphere of <see cref="#getDistanceExtents()"/> around the origin unless another
+/// <see cref="IDreamRegion"/> (box, cylinder, polygon) is set. Limiters do not poll every player:
+/// <see cref="LocationLimiterListener"/> vets moves, vehicle moves and teleports before they happen and corrects
+/// the ones that would leave the region, and only players who are still outside are re-checked every tick
+/// (<see cref="#recheckOutside()"/>).
 /// Supports two modes:
 /// <list type="bullet">
 ///   <item><description><see cref="LocationLimiterType.SNAP_TO_ORIGIN"/>: teleport the player back.</description></item>
@@ -68,9 +80,23 @@ public class DreamLocationLimiter extends DreamClassID {
     @Getter private Location originPoint;
     @Getter private int distanceExtents = 10;
     @Getter private boolean stopped = false;
+    /// <summary>Area players are kept inside; derived from origin and extents unless set explicitly.</summary>
+    @Getter private IDreamRegion region;
+    private boolean customRegion;
 
     private World originWorld;
 
+    /// <summary>Limited players currently outside the region; re-checked every tick until they are back.</summary>
+    private final Set<UUID> outside = new HashSet<>();
+
+    /// <summary>
+    /// Returns the UUIDs of all limited players.
+    /// </summary>
+    /// <returns>A snapshot of player UUIDs.</returns>
+    public List<UUID> getPlayerIds() {
+        return players.stream().map(Player::getUniqueId).toList();
+    }
+
     /// <summary>
     /// Adds a player to this limiter.
     /// </summary>
@@ -94,6 +120,8 @@ public class DreamLocationLimiter extends DreamClassID {
         if (!canPlayerBeLimited(player)) return;
 
         players.add(player);
+        DreamCore.DreamLocationLimiters.reindex(getClassID());
+        checkPlayer(player, player.getLocation());
     }
 
     /// <summary>
@@ -106,6 +134,8 @@ public class DreamLocationLimiter extends DreamClassID {
     public void RemovePlayer(Player player) {
         if (player == null) return;
         if (!players.remove(player)) return;
+        outside.remove(player.getUniqueId());
+        DreamCore.DreamLocationLimiters.reindex(getClassID());
         new LocationLimiterPlayerRemovedEvent(this, player);
     }
 
@@ -121,69 +151,170 @@ public class DreamLocationLimiter extends DreamClassID {
 
         if (locationLimiterStart == LocationLimiterStart.ORIGIN_POINT) {
             for (Player player : players) {
-                safeTeleport(player, originPoint);
+                safeTeleport(player, originCopy());
             }
         }
     }
 
     /// <summary>
-    /// Main tick handler that enforces the limiter each loop.
+    /// Checks every limited player once.
     /// </summary>
     /// <remarks>
-    /// - Teleports cross-world players back to origin.
-    /// - Handles players exceeding radius via <c>handleOutOfBoundsPlayer</c>.
+    /// Movement is already checked by <see cref="LocationLimiterListener"/>; call this after changing the region
+    /// or origin to enforce it on players that are standing still.
     /// </remarks>
     public void tickLocationLimiter() {
         if (stopped) return;
-        if (originPoint == null || originWorld == null) return;
-
         for (Player player : new ArrayList<>(players)) {
-            if (player == null || !player.isOnline()) continue;
+            if (player != null && player.isOnline()) checkPlayer(player, player.getLocation());
+        }
+    }
+
+    /// <summary>
+    /// Enforces the limiter for one player at a location.
+    /// </summary>
+    /// <param name="player">Limited player.</param>
+    /// <param name="location">Where the player is.</param>
+    /// <remarks>
+    /// - Teleports cross-world players back to origin.
+    /// - Handles players outside the region via <c>handleOutOfBoundsPlayer</c>; they stay on the re-check list
+    ///   until they are back inside.
+    /// </remarks>
+    public void checkPlayer(Player player, Location location) {
+        if (stopped || originPoint == null || originWorld == null || location == null) return;
+        if (location.getWorld() != originWorld) {
+            safeTeleport(player, originCopy());
+            return;
+        }
+        if (isInside(location)) {
+            outside.remove(player.getUniqueId());
+            return;
+        }
+        handleOutOfBoundsPlayer(player);
+        if (locationLimiterType == LocationLimiterType.SNAP_TO_ORIGIN) safeTeleport(player, originCopy());
+        else pushBack(player);
+    }
+
+    /// <summary>
+    /// Vets a move before it happens.
+    /// </summary>
+    /// <param name="player">Limited player.</param>
+    /// <param name="from">Current location.</param>
+    /// <param name="to">Destination.</param>
+    /// <returns>
+    /// <c>null</c> if the move is allowed; otherwise where the player should end up instead: the origin for
+    /// <see cref="LocationLimiterType.SNAP_TO_ORIGIN"/> or cross-world moves, <paramref name="from"/> for
+    /// <see cref="LocationLimiterType.PUSH_BACK"/>.
+    /// </returns>
+    /// <remarks>
+    /// With <see cref="LocationLimiterType.PUSH_BACK"/> a player who is already outside may still move towards
+    /// the origin, so they can walk back in.
+    /// </remarks>
+    public Location correctMove(Player player, Location from, Location to) {
+        if (stopped || originPoint == null || originWorld == null || to == null) return null;
+        if (to.getWorld() != originWorld) return originCopy();
+        if (isInside(to)) {
+            outside.remove(player.getUniqueId());
+            return null;
+        }
+        handleOutOfBoundsPlayer(player);
+        if (locationLimiterType == LocationLimiterType.SNAP_TO_ORIGIN) return originCopy();
+        pushBack(player);
+        if (from == null || from.getWorld() != originWorld) return originCopy();
+        if (!isInside(from) && to.distanceSquared(originPoint) < from.distanceSquared(originPoint)) return null;
+        final Location back = from.clone();
+        back.setYaw(to.getYaw());
+        back.setPitch(to.getPitch());
+        return back;
+    }
+
+    /// <summary>
+    /// Vets a vehicle move for one of its limited passengers.
+    /// </summary>
+    /// <param name="player">Limited passenger.</param>
+    /// <param name="vehicle">Vehicle being moved.</param>
+    /// <param name="from">Vehicle location before the move.</param>
+    /// <param name="to">Vehicle location after the move.</param>
+    /// <remarks>
+    /// Vehicle moves cannot be cancelled: <see cref="LocationLimiterType.PUSH_BACK"/> puts the vehicle (with its
+    /// passengers) back and pushes it towards the origin, <see cref="LocationLimiterType.SNAP_TO_ORIGIN"/> dismounts
+    /// the player and sends them to the origin.
+    /// </remarks>
+    public void checkVehicleMove(Player player, Entity vehicle, Location from, Location to) {
+        final Location corrected = correctMove(player, from, to);
+        if (corrected == null) return;
+        if (locationLimiterType == LocationLimiterType.SNAP_TO_ORIGIN || corrected.getWorld() != vehicle.getWorld()) {
+            player.leaveVehicle();
+            safeTeleport(player, originCopy());
+            return;
+        }
+        vehicle.teleport(corrected, TeleportFlag.EntityState.RETAIN_PASSENGERS);
+        pushBack(vehicle);
+    }
 
-            if (!Objects.equals(player.getWorld(), originWorld)) {
-                safeTeleport(player, originPoint);
+    /// <summary>
+    /// Re-checks the players who are still outside the region.
+    /// </summary>
+    /// <remarks>Called every tick by DreamCore; returns immediately when everybody is inside.</remarks>
+    public void recheckOutside() {
+        if (outside.isEmpty()) return;
+        if (stopped) {
+            outside.clear();
+            return;
+        }
+        for (UUID playerId : new ArrayList<>(outside)) {
+            final Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !players.contains(player)) {
+                outside.remove(playerId);
                 continue;
             }
-
-            final double distance = player.getLocation().distance(originPoint);
-            if (distance >= distanceExtents) {
-                handleOutOfBoundsPlayer(player, distance);
+            final Entity moved = player.getVehicle() != null ? player.getVehicle() : player;
+            if (isInside(moved.getLocation()) && moved.getWorld() == originWorld) {
+                outside.remove(playerId);
+                continue;
+            }
+            if (locationLimiterType == LocationLimiterType.SNAP_TO_ORIGIN || moved.getWorld() != originWorld) {
+                player.leaveVehicle();
+                safeTeleport(player, originCopy());
+            } else {
+                pushBack(moved);
             }
         }
     }
 
+    /// <summary>Copy of the origin for teleports and move corrections, so listeners editing it in place cannot move the origin.</summary>
+    private Location originCopy() {
+        return originPoint.clone();
+    }
+
+    private boolean isInside(Location location) {
+        return region.contains(location.getX(), location.getY(), location.getZ());
+    }
+
     /// <summary>
     /// Handles a player who exceeds the limiter boundary.
     /// </summary>
     /// <param name="player">Player out of bounds.</param>
-    /// <param name="distance">Distance from origin.</param>
     /// <remarks>
-    /// Sends <see cref="edgeMessage"/> and triggers a <see cref="LocationLimiterLimitHit"/> event.
+    /// Sends <see cref="edgeMessage"/> and triggers a <see cref="LocationLimiterLimitHit"/> event when the player
+    /// crosses the boundary, not on every re-check while they stay outside.
     /// </remarks>
-    private void handleOutOfBoundsPlayer(Player player, double distance) {
+    private void handleOutOfBoundsPlayer(Player player) {
+        if (!outside.add(player.getUniqueId())) return;
         if (edgeMessage != null && !edgeMessage.isEmpty()) {
             player.sendMessage(edgeMessage);
         }
-
-        switch (locationLimiterType) {
-            case SNAP_TO_ORIGIN:
-                safeTeleport(player, originPoint);
-                new LocationLimiterLimitHit(this, player);
-                break;
-            case PUSH_BACK:
-                pushPlayerBack(player);
-                new LocationLimiterLimitHit(this, player);
-                break;
-        }
+        new LocationLimiterLimitHit(this, player);
     }
 
     /// <summary>
-    /// Pushes a player back toward the origin.
+    /// Pushes an entity (the player or their vehicle) back toward the origin.
     /// </summary>
-    /// <param name="player">Player to push.</param>
-    private void pushPlayerBack(Player player) {
-        Vector toOrigin = originPoint.toVector().subtract(player.getLocation().toVector()).normalize();
-        player.setVelocity(toOrigin.multiply(0.5));
+    /// <param name="moved">Entity to push.</param>
+    private void pushBack(Entity moved) {
+        Vector toOrigin = originPoint.toVector().subtract(moved.getLocation().toVector());
+        if (toOrigin.lengthSquared() < 1.0E-6) return;
+        moved.setVelocity(toOrigin.normalize().multiply(0.5));
     }
 
     /// <summary>
@@ -199,6 +330,7 @@ public class DreamLocationLimiter extends DreamClassID {
     /// </summary>
     public void stopLocationLimiter() {
         this.stopped = true;
+        outside.clear();
         DreamCore.DreamLocationLimiters.remove(getClassID());
     }
 
@@ -217,6 +349,19 @@ public class DreamLocationLimiter extends DreamClassID {
     public void setDistanceExtents(int extents) {
         if (extents <= 0) throw new IllegalArgumentException("Distance extents must be > 0");
         this.distanceExtents = extents;
+        if (!customRegion && originPoint != null) region = IDreamRegion.sphere(originPoint, extents);
+    }
+
+    /// <summary>
+    /// Replaces the region players are kept inside.
+    /// </summary>
+    /// <param name="region">New region, or <c>null</c> to go back to the sphere of <see cref="#getDistanceExtents()"/> around the origin.</param>
+    /// <exception cref="IllegalArgumentException">If the region does not contain the origin; snapped players would be teleported outside it.</exception>
+    public void setRegion(IDreamRegion region) {
+        if (region != null && originPoint != null && !containsOrigin(region, originPoint))
+            throw new IllegalArgumentException("Region must contain the origin point.");
+        this.customRegion = region != null;
+        this.region = region != null ? region : originPoint == null ? null : IDreamRegion.sphere(originPoint, distanceExtents);
     }
 
     /// <summary>
@@ -230,26 +375,54 @@ public class DreamLocationLimiter extends DreamClassID {
     /// <summary>
     /// Updates the origin point.
     /// </summary>
-    /// <param name="origin">New origin (must have world).</param>
+    /// <param name="origin">New origin (must have world and lie inside a custom region); copied.</param>
     public void setOriginPoint(Location origin) {
         if (origin == null || origin.getWorld() == null)
             throw new IllegalArgumentException("Origin point/world cannot be null.");
-        this.originPoint = origin;
+        if (customRegion && !containsOrigin(region, origin))
+            throw new IllegalArgumentException("Origin point must lie inside the region.");
+        this.originPoint = origin.clone();
         this.originWorld = origin.getWorld();
+        if (!customRegion) region = IDreamRegion.sphere(origin, distanceExtents);
+        DreamCore.DreamLocationLimiters.reindex(getClassID());
+    }
+
+    private static boolean containsOrigin(IDreamRegion region, Location origin) {
+        return region.contains(origin.getX(), origin.getY(), origin.getZ());
     }
 
-    @SuppressWarnings("unchecked")
     private boolean canPlayerBeLimited(Player player) {
+        if (PermissionHook.CAN_PLAYER_ACTION == null) return true; // default allow
         try {
-            Class<?> actionEnum = Class.forName("com.dreamfirestudios.dreamcore.DreamfirePlayerAction");
-            Class<?> apiClass   = Class.forName("com.dreamfirestudios.dreamcore.DreamfirePlayerActionAPI");
-
-            Object actionValue = Enum.valueOf((Class<Enum>) actionEnum, "PlayerLocationLimiter");
-            Method m = apiClass.getMethod("CanPlayerAction", actionEnum, UUID.class);
-            Object result = m.invoke(null, actionValue, player.getUniqueId());
-            return result instanceof Boolean && (Boolean) result;
+            return (boolean) PermissionHook.CAN_PLAYER_ACTION.invokeExact(player.getUniqueId());
         } catch (Throwable ignored) {
-            return true; // default allow
+            return true;
+        }
+    }
+
+    /// <summary>
+    /// Optional external permission check, resolved once on first use.
+    /// </summary>
+    /// <remarks>
+    /// <c>DreamfirePlayerActionAPI.CanPlayerAction(PlayerLocationLimiter, uuid)</c>, bound to a
+    /// <c>(UUID)boolean</c> handle; <c>null</c> when that API is not installed.
+    /// </remarks>
+    private static final class PermissionHook {
+        private static final MethodHandle CAN_PLAYER_ACTION = resolve();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static MethodHandle resolve() {
+            try {
+                Class<?> actionEnum = Class.forName("com.dreamfirestudios.dreamcore.DreamfirePlayerAction");
+                Class<?> apiClass   = Class.forName("com.dreamfirestudios.dreamcore.DreamfirePlayerActionAPI");
+
+                Object actionValue = Enum.valueOf((Class<Enum>) actionEnum, "PlayerLocationLimiter");
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(apiClass.getMethod("CanPlayerAction", actionEnum, UUID.class));
+                handle = MethodHandles.insertArguments(handle, 0, actionValue);
+                return handle.asType(MethodType.methodType(boolean.class, UUID.class));
+            } catch (Throwable ignored) {
+                return null;
+            }
         }
     }
 
@@ -283,6 +456,7 @@ public class DreamLocationLimiter extends DreamClassID {
         private LocationLimiterStart start = LocationLimiterStart.ORIGIN_POINT;
         private String edgeMessage = "You have reached the edge of the location!";
         private int extents = 10;
+        private IDreamRegion region;
 
         public LocationLimiterBuilder addPlayer(Player player) {
             if (player != null) this.players.add(player);
@@ -310,11 +484,18 @@ public class DreamLocationLimiter extends DreamClassID {
             return this;
         }
 
+        /// <summary>Keeps players inside a box, cylinder, polygon or custom region instead of the extents sphere.</summary>
+        public LocationLimiterBuilder region(IDreamRegion region) {
+            this.region = Objects.requireNonNull(region, "region");
+            return this;
+        }
+
         /// <summary>
         /// Builds a new limiter and registers it with <see cref="DreamCore"/>.
         /// </summary>
         /// <param name="originPoint">Origin point (must have world).</param>
         /// <returns>Created <see cref="DreamLocationLimiter"/>.</returns>
+        /// <exception cref="IllegalArgumentException">If the origin is missing or lies outside the custom region.</exception>
         public DreamLocationLimiter build(Location originPoint) {
             if (originPoint == null || originPoint.getWorld() == null)
                 throw new IllegalArgumentException("Origin point/world cannot be null.");
@@ -323,10 +504,12 @@ public class DreamLocationLimiter extends DreamClassID {
             limiter.locationLimiterStart = this.start;
             limiter.edgeMessage = this.edgeMessage;
             limiter.distanceExtents = this.extents;
-            limiter.originPoint = originPoint;
+            limiter.originPoint = originPoint.clone();
             limiter.originWorld = originPoint.getWorld();
+            limiter.setRegion(region);
             for (Player p : players) limiter.AddPlayer(p);
-            return DreamCore.DreamLocationLimiters.put(limiter.getClassID(), limiter);
+            DreamCore.DreamLocationLimiters.put(limiter.getClassID(), limiter);
+            return limiter;
         }
     }
 }
\ No newline at end of file
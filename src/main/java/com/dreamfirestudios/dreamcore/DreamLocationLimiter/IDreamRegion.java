@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLocationLimiter;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.List;
+
+/// <summary>
+/// Area a <see cref="DreamLocationLimiter"/> keeps its players inside, in world coordinates.
+/// </summary>
+/// <remarks>
+/// Regions are immutable and world-agnostic; the limiter supplies the world. Create them with the static
+/// factories: <see cref="#sphere"/>, <see cref="#box"/>, <see cref="#cylinder"/> and <see cref="#polygon"/>.
+/// </remarks>
+/// <example>
+/// <code>
+/// IDreamRegion arena = IDreamRegion.cylinder(center, 40, 64);
+/// IDreamRegion lobby = IDreamRegion.box(cornerA, cornerB);
+/// </code>
+/// </example>
+public interface IDreamRegion {
+
+    /// <summary>Checks whether a point lies inside the region.</summary>
+    /// <param name="x">World X.</param>
+    /// <param name="y">World Y.</param>
+    /// <param name="z">World Z.</param>
+    /// <returns><c>true</c> if inside.</returns>
+    boolean contains(double x, double y, double z);
+
+    /// <returns>A ball of <paramref name="radius"/> blocks around <paramref name="center"/>.</returns>
+    static IDreamRegion sphere(Location center, double radius) {
+        if (center == null || radius <= 0) throw new IllegalArgumentException("Center cannot be null and radius must be > 0");
+        return new Sphere(center.getX(), center.getY(), center.getZ(), radius * radius);
+    }
+
+    /// <returns>The axis-aligned box spanning two corner blocks, both inclusive.</returns>
+    static IDreamRegion box(Location cornerA, Location cornerB) {
+        if (cornerA == null || cornerB == null) throw new IllegalArgumentException("Corners cannot be null");
+        return new Box(Math.min(cornerA.getBlockX(), cornerB.getBlockX()), Math.min(cornerA.getBlockY(), cornerB.getBlockY()),
+                Math.min(cornerA.getBlockZ(), cornerB.getBlockZ()), Math.max(cornerA.getBlockX(), cornerB.getBlockX()) + 1,
+                Math.max(cornerA.getBlockY(), cornerB.getBlockY()) + 1, Math.max(cornerA.getBlockZ(), cornerB.getBlockZ()) + 1);
+    }
+
+    /// <returns>A vertical cylinder standing on <paramref name="base"/>.</returns>
+    static IDreamRegion cylinder(Location base, double radius, double height) {
+        if (base == null || radius <= 0 || height <= 0) throw new IllegalArgumentException("Base cannot be null and radius/height must be > 0");
+        return new Cylinder(base.getX(), base.getZ(), radius * radius, base.getY(), base.getY() + height);
+    }
+
+    /// <returns>A vertical prism over a polygon given by its X/Z corners (the Y of each point is ignored).</returns>
+    static IDreamRegion polygon(List<Vector> corners, double minY, double maxY) {
+        if (corners == null || corners.size() < 3) throw new IllegalArgumentException("A polygon needs at least 3 corners");
+        if (maxY <= minY) throw new IllegalArgumentException("maxY must be > minY");
+        final double[] xs = new double[corners.size()], zs = new double[corners.size()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = corners.get(i).getX();
+            zs[i] = corners.get(i).getZ();
+        }
+        return new Polygon(xs, zs, minY, maxY);
+    }
+
+    /// <summary>Ball region; stores the squared radius.</summary>
+    record Sphere(double centerX, double centerY, double centerZ, double radiusSquared) implements IDreamRegion {
+        @Override
+        public boolean contains(double x, double y, double z) {
+            final double dx = x - centerX, dy = y - centerY, dz = z - centerZ;
+            return dx * dx + dy * dy + dz * dz < radiusSquared;
+        }
+    }
+
+    /// <summary>Axis-aligned box; minimum inclusive, maximum exclusive.</summary>
+    record Box(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) implements IDreamRegion {
+        @Override
+        public boolean contains(double x, double y, double z) {
+            return x >= minX && x < maxX && y >= minY && y < maxY && z >= minZ && z < maxZ;
+        }
+    }
+
+    /// <summary>Vertical cylinder; stores the squared radius.</summary>
+    record Cylinder(double centerX, double centerZ, double radiusSquared, double minY, double maxY) implements IDreamRegion {
+        @Override
+        public boolean contains(double x, double y, double z) {
+            if (y < minY || y >= maxY) return false;
+            final double dx = x - centerX, dz = z - centerZ;
+            return dx * dx + dz * dz < radiusSquared;
+        }
+    }
+
+    /// <summary>Vertical prism over a simple polygon, tested with the even-odd rule after a bounding-box check.</summary>
+    final class Polygon implements IDreamRegion {
+        private final double[] xs, zs;
+        private final double minX, minZ, maxX, maxZ, minY, maxY;
+
+        private Polygon(double[] xs, double[] zs, double minY, double maxY) {
+            this.xs = xs;
+            this.zs = zs;
+            this.minY = minY;
+            this.maxY = maxY;
+            double loX = Double.MAX_VALUE, loZ = Double.MAX_VALUE, hiX = -Double.MAX_VALUE, hiZ = -Double.MAX_VALUE;
+            for (int i = 0; i < xs.length; i++) {
+                loX = Math.min(loX, xs[i]);
+                hiX = Math.max(hiX, xs[i]);
+                loZ = Math.min(loZ, zs[i]);
+                hiZ = Math.max(hiZ, zs[i]);
+            }
+            this.minX = loX;
+            this.maxX = hiX;
+            this.minZ = loZ;
+            this.maxZ = hiZ;
+        }
+
+        @Override
+        public boolean contains(double x, double y, double z) {
+            if (y < minY || y >= maxY || x < minX || x > maxX || z < minZ || z > maxZ) return false;
+            boolean inside = false;
+            for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                if ((zs[i] > z) != (zs[j] > z) && x < (xs[j] - xs[i]) * (z - zs[i]) / (zs[j] - zs[i]) + xs[i]) inside = !inside;
+            }
+            return inside;
+        }
+    }
+}
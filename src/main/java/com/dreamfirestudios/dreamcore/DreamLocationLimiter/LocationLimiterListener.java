@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLocationLimiter;
+
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+/// <summary>
+/// Drives every <see cref="DreamLocationLimiter"/> from player movement instead of polling.
+/// </summary>
+/// <remarks>
+/// Moves and teleports are vetted at <c>HIGH</c> priority, before MONITOR listeners see them, and corrected with
+/// <c>setTo</c> when they would leave a region. Vehicle moves cannot be cancelled, so the vehicle is put back instead.
+/// A move is only checked when it enters another block, and only against the limiters in
+/// <see cref="DreamCore#DreamLocationLimitersByPlayer"/> for that player; players without limiters cost one
+/// index lookup. Players left outside are re-checked every tick by <see cref="DreamLocationLimiter#recheckOutside()"/>.
+/// Registered by DreamCore on enable.
+/// </remarks>
+public final class LocationLimiterListener implements Listener {
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (!event.hasChangedBlock()) return;
+        correct(event);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        correct(event);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        final Location from = event.getFrom(), to = event.getTo();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()) return;
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (!(passenger instanceof Player player)) continue;
+            if (!DreamCore.DreamLocationLimitersByPlayer.contains(player.getUniqueId())) continue;
+            DreamCore.DreamLocationLimitersByPlayer.forEach(player.getUniqueId(), limiter -> limiter.checkVehicleMove(player, event.getVehicle(), from, to));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        final Player player = event.getPlayer();
+        DreamCore.DreamLocationLimitersByPlayer.forEach(player.getUniqueId(), limiter -> limiter.checkPlayer(player, player.getLocation()));
+    }
+
+    /// <summary>Applies the first correction any of the player's limiters asks for.</summary>
+    private static void correct(PlayerMoveEvent event) {
+        final Player player = event.getPlayer();
+        if (!DreamCore.DreamLocationLimitersByPlayer.contains(player.getUniqueId())) return;
+        for (DreamLocationLimiter limiter : DreamCore.DreamLocationLimitersByPlayer.values(player.getUniqueId())) {
+            final Location corrected = limiter.correctMove(player, event.getFrom(), event.getTo());
+            if (corrected == null) continue;
+            if (event instanceof PlayerTeleportEvent || corrected.getWorld() == event.getTo().getWorld()) {
+                event.setTo(corrected);
+            } else {
+                // A plain move cannot change world; stay put and teleport next tick.
+                event.setCancelled(true);
+                Bukkit.getScheduler().runTask(DreamCore.DreamCore, () -> player.teleport(corrected));
+            }
+            return;
+        }
+    }
+}
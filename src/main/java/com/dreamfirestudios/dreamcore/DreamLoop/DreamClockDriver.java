@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+
+/**
+ * <summary>
+ * Single driver shared by every wall-clock timer and stopwatch.
+ * </summary>
+ *
+ * <remarks>
+ * Advanced once per tick from DreamCore's one-tick loop. It samples
+ * {@link System#nanoTime()} once and hands that timestamp to every registered
+ * {@link IDreamClock}, so thousands of timers cost one clock read and one list walk
+ * per tick. Clocks registered during an advance are picked up on the next one; a clock
+ * that throws is logged and dropped.
+ * <br/><br/>
+ * Main-thread only.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * DreamCore.DreamClockDriver.register(now -&gt; {
+ *     updateHud(now);
+ *     return hudClosed;
+ * });
+ * </code>
+ * </example>
+ */
+public final class DreamClockDriver {
+
+    private final List<IDreamClock> clocks = new ArrayList<>();
+    private final List<IDreamClock> incoming = new ArrayList<>();
+
+    /**
+     * <summary>Registers a clock; it is first polled on the next advance.</summary>
+     *
+     * <param name="clock">Clock to drive.</param>
+     */
+    public void register(IDreamClock clock) {
+        incoming.add(Objects.requireNonNull(clock, "clock"));
+    }
+
+    /**
+     * <summary>Number of registered clocks, including ones not polled yet.</summary>
+     *
+     * <returns>Clock count.</returns>
+     */
+    public int size() {
+        return clocks.size() + incoming.size();
+    }
+
+    /**
+     * <summary>Polls every clock with one shared timestamp.</summary>
+     *
+     * <returns>Number of clocks polled.</returns>
+     */
+    public int advance() {
+        if (!incoming.isEmpty()) {
+            clocks.addAll(incoming);
+            incoming.clear();
+        }
+        if (clocks.isEmpty()) return 0;
+        final long now = System.nanoTime();
+        final int polled = clocks.size();
+        clocks.removeIf(clock -> {
+            try {
+                return clock.onClock(now);
+            } catch (RuntimeException e) {
+                Bukkit.getLogger().log(Level.WARNING, "Dropping clock after exception", e);
+                return true;
+            }
+        });
+        return polled;
+    }
+}
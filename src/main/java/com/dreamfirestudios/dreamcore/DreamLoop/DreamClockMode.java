@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+/**
+ * <summary>
+ * How a DreamCore timer measures time.
+ * </summary>
+ *
+ * <remarks>
+ * {@link #TICKS} counts one step per scheduler period, so every dropped server tick
+ * stretches the timer (at 15 TPS a 5-minute countdown takes 6m40s). {@link #WALL_CLOCK}
+ * anchors on {@link System#nanoTime()}: missed periods are caught up with a single
+ * coalesced callback and the timer ends on time regardless of TPS.
+ * </remarks>
+ */
+public enum DreamClockMode {
+    /** <summary>Count scheduler periods (legacy behaviour).</summary> */
+    TICKS,
+    /** <summary>Measure real elapsed time and compensate for lag.</summary> */
+    WALL_CLOCK
+}
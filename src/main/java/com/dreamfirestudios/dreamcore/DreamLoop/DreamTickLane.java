@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+import com.dreamfirestudios.dreamcore.DreamRegistry.DreamRegistry;
+import com.dreamfirestudios.dreamcore.DreamRegistry.DreamRegistryIndex;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimingSection;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * <summary>
+ * A single budgeted subsystem driven by {@link DreamTickScheduler}.
+ * </summary>
+ *
+ * <remarks>
+ * A lane walks the keys of one DreamCore registry and invokes its frame callback for
+ * each registered object. Every server tick the lane may spend at most
+ * {@link #getBudgetNanos()} nanoseconds; objects that did not fit are carried over to
+ * the next tick in the same order (round-robin), so one slow subsystem can no longer
+ * blow the whole 50 ms tick.
+ * <br/><br/>
+ * The frame callback returns {@code true} to unregister the object from the backing
+ * registry (mirrors {@code DreamActionBar#displayNextFrame()}). Objects removed from
+ * the registry while a pass is in flight are skipped.
+ * <br/><br/>
+ * In {@link #isPhased() phased} mode a lane with an interval above one tick hashes each
+ * registry key (a {@code DreamClassID} or player UUID) into one of {@code loopInterval}
+ * slots and runs a single slot per server tick. Every object keeps its cadence, but the
+ * work is spread evenly instead of landing on one tick. When the registry is a
+ * {@link DreamRegistry}, the keys are bucketed by slot in a key index that the registry
+ * maintains on put and remove, so a tick only touches the keys of its own slot.
+ * <br/><br/>
+ * Every drain is recorded in the {@code Lane/<name>} section of {@code DreamCore.DreamTimings},
+ * including the time spent on each individual object.
+ * <br/><br/>
+ * Lanes are main-thread only.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * scheduler.registerLane(new DreamTickLane&lt;&gt;("ActionBars", DreamCore.DreamActionBars, 1L,
+ *         (id, bar) -&gt; bar.displayNextFrame()));
+ * </code>
+ * </example>
+ *
+ * @param <K> registry key type
+ * @param <V> registry value type
+ */
+public final class DreamTickLane<K, V> {
+
+    /**
+     * <summary>Budget applied to lanes that do not specify one (2 ms per tick).</summary>
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /** <summary>Display name, used for lookups and overrun reports.</summary> */
+    @Getter private final String name;
+
+    /** <summary>Interval (ticks) at which a new pass over the registry starts.</summary> */
+    @Getter private final long loopInterval;
+
+    /** <summary>Per-tick time budget in nanoseconds.</summary> */
+    @Getter private long budgetNanos;
+
+    /** <summary>Whether the lane spreads its objects over {@link #getLoopInterval()} ticks.</summary> */
+    @Getter private boolean phased;
+
+    /** <summary>Number of passes started over the registry.</summary> */
+    @Getter private long passes;
+
+    /** <summary>Number of ticks in which the budget ran out with work still pending.</summary> */
+    @Getter private long overruns;
+
+    /** <summary>Total number of frames pushed to a later tick because of the budget.</summary> */
+    @Getter private long deferredFrames;
+
+    /** <summary>Nanoseconds spent by this lane during the most recent tick it ran.</summary> */
+    @Getter private long lastTickNanos;
+
+    /** <summary>Largest number of nanoseconds spent by this lane in a single tick.</summary> */
+    @Getter private long maxTickNanos;
+
+    private final Map<K, V> registry;
+    private final BiPredicate<K, V> frame;
+    private final ArrayDeque<K> pending = new ArrayDeque<>();
+    private final DreamTimingSection timings;
+    private DreamRegistryIndex<Integer, K, V> phaseIndex;
+
+    private int nextPhase;
+    private int lastTick = Integer.MIN_VALUE;
+    private long spentThisTick;
+
+    /**
+     * <summary>Creates a lane with the {@link #DEFAULT_BUDGET_NANOS default budget}.</summary>
+     *
+     * <param name="name">Lane name.</param>
+     * <param name="registry">Registry whose values are ticked.</param>
+     * <param name="loopInterval">Ticks between passes ({@code 1L} or {@code 20L} in DreamCore).</param>
+     * <param name="frame">Frame callback; return {@code true} to unregister the object.</param>
+     */
+    public DreamTickLane(String name, Map<K, V> registry, long loopInterval, BiPredicate<K, V> frame) {
+        this(name, registry, loopInterval, DEFAULT_BUDGET_NANOS, frame);
+    }
+
+    /**
+     * <summary>Creates a lane with an explicit budget.</summary>
+     *
+     * <param name="name">Lane name.</param>
+     * <param name="registry">Registry whose values are ticked.</param>
+     * <param name="loopInterval">Ticks between passes.</param>
+     * <param name="budgetNanos">Per-tick budget in nanoseconds (&gt; 0).</param>
+     * <param name="frame">Frame callback; return {@code true} to unregister the object.</param>
+     * <exception cref="IllegalArgumentException">If the interval or budget is not positive.</exception>
+     */
+    public DreamTickLane(String name, Map<K, V> registry, long loopInterval, long budgetNanos, BiPredicate<K, V> frame) {
+        if (loopInterval <= 0) throw new IllegalArgumentException("Loop interval must be > 0");
+        this.name = Objects.requireNonNull(name, "name");
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.frame = Objects.requireNonNull(frame, "frame");
+        this.loopInterval = loopInterval;
+        this.timings = DreamCore.DreamTimings.section("Lane/" + name);
+        setBudgetNanos(budgetNanos);
+    }
+
+    /**
+     * <summary>Updates the per-tick budget.</summary>
+     *
+     * <param name="budgetNanos">New budget in nanoseconds (&gt; 0).</param>
+     */
+    public void setBudgetNanos(long budgetNanos) {
+        if (budgetNanos <= 0) throw new IllegalArgumentException("Budget must be > 0");
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * <summary>Enables or disables phase-staggered ticking.</summary>
+     *
+     * <param name="phased"><c>true</c> to run one hash slot per tick.</param>
+     *
+     * <remarks>
+     * Has no effect on one-tick lanes. Takes effect once the current pass has drained.
+     * The first time a lane over a {@link DreamRegistry} is phased, its slot index is added
+     * to the registry; it stays there if phasing is turned off again.
+     * </remarks>
+     */
+    public void setPhased(boolean phased) {
+        this.phased = phased;
+        if (phaseIndex == null && isPhasedLane() && registry instanceof DreamRegistry<K, V> dreamRegistry) {
+            phaseIndex = dreamRegistry.addKeyIndex(key -> List.of(phaseOf(key)));
+        }
+    }
+
+    /**
+     * <summary>Slot (0 .. loopInterval-1) a registry key is ticked in when phased.</summary>
+     *
+     * <param name="key">Registry key.</param>
+     * <returns>Phase slot of the key.</returns>
+     */
+    public int phaseOf(K key) {
+        return Math.floorMod(Objects.hashCode(key), (int) loopInterval);
+    }
+
+    /**
+     * <summary>Number of frames still waiting in the current pass.</summary>
+     *
+     * <returns>Pending frame count.</returns>
+     */
+    public int getPendingFrames() {
+        return pending.size();
+    }
+
+    /**
+     * <summary>Resets all counters reported by this lane.</summary>
+     */
+    public void resetStats() {
+        passes = 0L;
+        overruns = 0L;
+        deferredFrames = 0L;
+        lastTickNanos = 0L;
+        maxTickNanos = 0L;
+    }
+
+    /**
+     * <summary>
+     * Starts a new pass over the registry.
+     * </summary>
+     *
+     * <remarks>
+     * If the previous pass has not finished yet, it keeps going instead: restarting
+     * would starve the objects at the end of the queue. When phased, only the keys of
+     * the next slot are queued; slots advance one per call, so a lagging lane delays
+     * slots rather than skipping them. Lanes over a plain {@link Map} have no slot index
+     * and fall back to filtering every key.
+     * </remarks>
+     */
+    void beginPass() {
+        if (!pending.isEmpty()) return;
+        if (!isPhasedLane()) {
+            pending.addAll(registry.keySet());
+            passes++;
+            return;
+        }
+        if (phaseIndex != null) {
+            pending.addAll(phaseIndex.keys(nextPhase));
+        } else {
+            for (var key : registry.keySet()) {
+                if (phaseOf(key) == nextPhase) pending.add(key);
+            }
+        }
+        nextPhase = (nextPhase + 1) % (int) loopInterval;
+        if (nextPhase == 0) passes++;
+    }
+
+    /**
+     * <summary>True when the lane is phased and has more than one slot.</summary>
+     */
+    boolean isPhasedLane() {
+        return phased && loopInterval > 1L;
+    }
+
+    /**
+     * <summary>
+     * Runs pending frames until the queue is empty or the tick budget is spent.
+     * </summary>
+     *
+     * <returns>Number of frames run.</returns>
+     *
+     * <remarks>
+     * The budget is tracked per server tick, so calling this several times in the same
+     * tick never grants more than {@link #getBudgetNanos()} in total. At least one frame
+     * runs whenever budget remains, so every object eventually gets its turn.
+     * </remarks>
+     */
+    int drain() {
+        final int tick = Bukkit.getCurrentTick();
+        if (tick != lastTick) {
+            lastTick = tick;
+            spentThisTick = 0L;
+        }
+        if (pending.isEmpty()) return 0;
+
+        final long budgetLeft = budgetNanos - spentThisTick;
+        if (budgetLeft <= 0) return 0;
+
+        final boolean profiling = DreamCore.DreamTimings.isEnabled();
+        final long start = System.nanoTime();
+        int frames = 0;
+        try {
+            K key;
+            long frameStart = start;
+            while ((key = pending.poll()) != null) {
+                final V value = registry.get(key);
+                if (value != null) {
+                    frames++;
+                    if (frame.test(key, value)) registry.remove(key);
+                }
+                final long now = System.nanoTime();
+                if (profiling && value != null) timings.recordObject(value, key, now - frameStart);
+                frameStart = now;
+                if (now - start >= budgetLeft) break;
+            }
+        } finally {
+            final long spent = System.nanoTime() - start;
+            spentThisTick += spent;
+            lastTickNanos = spentThisTick;
+            if (spentThisTick > maxTickNanos) maxTickNanos = spentThisTick;
+            if (profiling) timings.record(spent, frames);
+        }
+
+        if (!pending.isEmpty()) {
+            overruns++;
+            deferredFrames += pending.size();
+            DreamEventDispatcher.fire(TickLaneOverrunEvent.getHandlerList(), () -> new TickLaneOverrunEvent(this, spentThisTick, pending.size()));
+        }
+        return frames;
+    }
+}
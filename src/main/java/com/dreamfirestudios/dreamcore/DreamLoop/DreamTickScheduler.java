@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <summary>
+ * Budgeted frame scheduler behind {@link OneTickLoop} and {@link TwentyTickLoop}.
+ * </summary>
+ *
+ * <remarks>
+ * Each DreamCore registry (action bars, boss bars, masks, ...) is wrapped in a
+ * {@link DreamTickLane} with its own nanosecond budget. {@link #runLoop(long)} is called
+ * by the loops with their interval: lanes with a matching interval start a new pass,
+ * and on every tick lanes that still carry unfinished work continue where they stopped.
+ * Phased lanes ignore their own interval and run one hash slot on every one-tick call.
+ * <br/><br/>
+ * Per-lane overrun counters are available through {@link #getLanes()}, and every
+ * overrun also fires a {@link TickLaneOverrunEvent}.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * DreamCore.DreamTickScheduler.getLane("BlockMasks")
+ *         .ifPresent(lane -&gt; lane.setBudgetNanos(TimeUnit.MILLISECONDS.toNanos(5)));
+ * </code>
+ * </example>
+ */
+public final class DreamTickScheduler {
+
+    private final List<DreamTickLane<?, ?>> lanes = new ArrayList<>();
+
+    /**
+     * <summary>Registers a lane. Lanes run in registration order.</summary>
+     *
+     * <param name="lane">Lane to add.</param>
+     * <returns>The same lane, for chaining.</returns>
+     * <exception cref="IllegalArgumentException">If a lane with the same name already exists.</exception>
+     */
+    public <K, V> DreamTickLane<K, V> registerLane(DreamTickLane<K, V> lane) {
+        Objects.requireNonNull(lane, "lane");
+        if (getLane(lane.getName()).isPresent())
+            throw new IllegalArgumentException("Tick lane already registered: " + lane.getName());
+        lanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * <summary>Finds a lane by name.</summary>
+     *
+     * <param name="name">Lane name.</param>
+     * <returns>The lane, if registered.</returns>
+     */
+    public Optional<DreamTickLane<?, ?>> getLane(String name) {
+        for (var lane : lanes) {
+            if (lane.getName().equals(name)) return Optional.of(lane);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * <summary>Read-only view of all lanes in run order.</summary>
+     *
+     * <returns>Registered lanes.</returns>
+     */
+    public List<DreamTickLane<?, ?>> getLanes() {
+        return Collections.unmodifiableList(lanes);
+    }
+
+    /**
+     * <summary>
+     * Advances the scheduler for a loop with the given interval.
+     * </summary>
+     *
+     * <param name="loopInterval">Interval of the calling loop in ticks.</param>
+     * <returns>Total number of frames run across all lanes.</returns>
+     *
+     * <remarks>
+     * Lanes whose interval matches start a new pass. The one-tick call additionally drains
+     * leftovers of slower lanes so deferred work is picked up on the very next tick.
+     * </remarks>
+     */
+    public int runLoop(long loopInterval) {
+        int frames = 0;
+        for (var lane : lanes) {
+            if (lane.isPhasedLane()) {
+                if (loopInterval == 1L) {
+                    lane.beginPass();
+                    frames += lane.drain();
+                }
+                continue;
+            }
+            final boolean ownLoop = lane.getLoopInterval() == loopInterval;
+            if (ownLoop) lane.beginPass();
+            if (ownLoop || loopInterval == 1L) frames += lane.drain();
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import lombok.Getter;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+import java.util.logging.Level;
+
+/**
+ * <summary>
+ * Hashed timing wheel shared by every DreamCore countdown, animation and expiry.
+ * </summary>
+ *
+ * <remarks>
+ * Timers, stopwatches, teleports, block display animations, timed books and expiring
+ * persistent data all schedule into this single wheel instead of creating one Bukkit
+ * task each. {@link OneTickLoop} advances it once per server tick.
+ * <br/><br/>
+ * The wheel has a fixed number of slots (a power of two); a task lands in the slot of
+ * its deadline tick and stays linked there (intrusive doubly linked list) until that
+ * tick comes round, so scheduling and cancelling are O(1). Each advance only visits
+ * one slot, detaches everything that is due into a chain reusing the tasks' own
+ * links and runs the callbacks as one batch without allocating;
+ * callbacks may freely schedule or cancel other tasks.
+ * <br/><br/>
+ * Tasks whose owning plugin has been disabled are dropped instead of run, mirroring
+ * what the Bukkit scheduler does. Callbacks run on the main thread; scheduling and
+ * cancelling may happen from any thread.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * DreamCore.DreamTimingWheel.schedule(plugin, 100L, () -&gt; player.sendMessage("5 seconds later"));
+ * </code>
+ * </example>
+ */
+public final class DreamTimingWheel {
+
+    /** <summary>Slot count used by DreamCore's shared wheel.</summary> */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final DreamWheelTask[] slots;
+    private final int mask;
+
+    /** <summary>Number of times the wheel has been advanced.</summary> */
+    @Getter private long currentTick;
+
+    /** <summary>Number of scheduled tasks.</summary> */
+    @Getter private int size;
+
+    /** <summary>Number of callbacks run by the most recent advance.</summary> */
+    @Getter private int lastBatchSize;
+
+    /**
+     * <summary>Creates a wheel with {@link #DEFAULT_WHEEL_SIZE} slots.</summary>
+     */
+    public DreamTimingWheel() {
+        this(DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * <summary>Creates a wheel with a custom slot count.</summary>
+     *
+     * <param name="wheelSize">Number of slots; must be a positive power of two.</param>
+     * <exception cref="IllegalArgumentException">If the size is not a positive power of two.</exception>
+     */
+    public DreamTimingWheel(int wheelSize) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1)
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        this.slots = new DreamWheelTask[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * <summary>Runs a callback once after a delay.</summary>
+     *
+     * <param name="owner">Owning plugin.</param>
+     * <param name="delayTicks">Delay in ticks; values below one run on the next tick.</param>
+     * <param name="callback">Callback to run on the main thread.</param>
+     * <returns>Handle for cancelling.</returns>
+     */
+    public DreamWheelTask schedule(Plugin owner, long delayTicks, Runnable callback) {
+        return add(new DreamWheelTask(this, Objects.requireNonNull(owner, "owner"), 0L, Objects.requireNonNull(callback, "callback")), delayTicks);
+    }
+
+    /**
+     * <summary>Runs a callback repeatedly.</summary>
+     *
+     * <param name="owner">Owning plugin.</param>
+     * <param name="delayTicks">Delay before the first run; values below one run on the next tick.</param>
+     * <param name="periodTicks">Ticks between runs (&gt; 0).</param>
+     * <param name="callback">Callback to run on the main thread.</param>
+     * <returns>Handle for cancelling.</returns>
+     * <exception cref="IllegalArgumentException">If the period is not positive.</exception>
+     */
+    public DreamWheelTask scheduleRepeating(Plugin owner, long delayTicks, long periodTicks, Runnable callback) {
+        if (periodTicks <= 0L) throw new IllegalArgumentException("Period must be > 0");
+        return add(new DreamWheelTask(this, Objects.requireNonNull(owner, "owner"), periodTicks, Objects.requireNonNull(callback, "callback")), delayTicks);
+    }
+
+    /**
+     * <summary>Cancels every task owned by a plugin.</summary>
+     *
+     * <param name="owner">Owning plugin.</param>
+     * <returns>Number of tasks cancelled.</returns>
+     */
+    public synchronized int cancelAll(Plugin owner) {
+        int cancelled = 0;
+        for (var head : slots) {
+            for (var task = head; task != null; ) {
+                var next = task.next;
+                if (task.getOwner() == owner) {
+                    cancel(task);
+                    cancelled++;
+                }
+                task = next;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * <summary>
+     * Advances the wheel by one tick and runs every callback that is due.
+     * </summary>
+     *
+     * <returns>Number of callbacks run.</returns>
+     *
+     * <remarks>Called by DreamCore from the one-tick loop; main thread only.</remarks>
+     */
+    public int advance() {
+        DreamWheelTask batchHead = null;
+        DreamWheelTask batchTail = null;
+        final long tick;
+        synchronized (this) {
+            tick = ++currentTick;
+            final int slot = (int) (tick & mask);
+            for (var task = slots[slot]; task != null; ) {
+                var next = task.next;
+                if (task.deadline <= tick) {
+                    unlink(task);
+                    if (batchTail == null) batchHead = task;
+                    else batchTail.next = task;
+                    batchTail = task;
+                }
+                task = next;
+            }
+        }
+
+        int batchSize = 0;
+        for (var task = batchHead; task != null; ) {
+            // Detached tasks are chained through next; read it before the task can be linked again.
+            final var next = task.next;
+            task.next = null;
+            batchSize++;
+            run(task, tick);
+            task = next;
+        }
+        lastBatchSize = batchSize;
+        return batchSize;
+    }
+
+    private void run(DreamWheelTask task, long tick) {
+        if (task.cancelled) return;
+        if (!task.getOwner().isEnabled()) {
+            task.cancelled = true;
+            return;
+        }
+        try {
+            task.callback.run();
+        } catch (Throwable throwable) {
+            task.getOwner().getLogger().log(Level.WARNING, "Timing wheel task threw an exception", throwable);
+        }
+        synchronized (this) {
+            if (task.cancelled) return;
+            if (task.isRepeating()) link(task, tick + task.getPeriodTicks());
+            else task.cancelled = true;
+        }
+    }
+
+    synchronized void cancel(DreamWheelTask task) {
+        if (task.cancelled) return;
+        task.cancelled = true;
+        if (task.slot >= 0) unlink(task);
+    }
+
+    private synchronized DreamWheelTask add(DreamWheelTask task, long delayTicks) {
+        link(task, currentTick + Math.max(1L, delayTicks));
+        return task;
+    }
+
+    private void link(DreamWheelTask task, long deadline) {
+        final int slot = (int) (deadline & mask);
+        task.deadline = deadline;
+        task.slot = slot;
+        task.previous = null;
+        task.next = slots[slot];
+        if (task.next != null) task.next.previous = task;
+        slots[slot] = task;
+        size++;
+    }
+
+    private void unlink(DreamWheelTask task) {
+        if (task.previous != null) task.previous.next = task.next;
+        else slots[task.slot] = task.next;
+        if (task.next != null) task.next.previous = task.previous;
+        task.previous = null;
+        task.next = null;
+        task.slot = -1;
+        size--;
+    }
+}
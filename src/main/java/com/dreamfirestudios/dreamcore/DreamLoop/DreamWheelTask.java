@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import lombok.Getter;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * <summary>
+ * Handle of a callback scheduled on the {@link DreamTimingWheel}.
+ * </summary>
+ *
+ * <remarks>
+ * Replaces the {@code BukkitTask} / task-ID pair for DreamCore timers: keep the handle
+ * and call {@link #cancel()} to stop it. Cancelling is O(1) and safe from inside the
+ * callback itself.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * DreamWheelTask task = DreamCore.DreamTimingWheel.scheduleRepeating(plugin, 0L, 20L, this::tick);
+ * // later
+ * task.cancel();
+ * </code>
+ * </example>
+ */
+public final class DreamWheelTask {
+
+    /** <summary>Plugin the callback belongs to; skipped and dropped once it is disabled.</summary> */
+    @Getter private final Plugin owner;
+
+    /** <summary>Repeat period in ticks, or {@code 0} for a one-shot task.</summary> */
+    @Getter private final long periodTicks;
+
+    final Runnable callback;
+    final DreamTimingWheel wheel;
+
+    long deadline;
+    int slot = -1;
+    DreamWheelTask previous;
+    DreamWheelTask next;
+    volatile boolean cancelled;
+
+    DreamWheelTask(DreamTimingWheel wheel, Plugin owner, long periodTicks, Runnable callback) {
+        this.wheel = wheel;
+        this.owner = owner;
+        this.periodTicks = periodTicks;
+        this.callback = callback;
+    }
+
+    /**
+     * <summary>Cancels the task. Idempotent.</summary>
+     */
+    public void cancel() {
+        wheel.cancel(this);
+    }
+
+    /**
+     * <summary>True once {@link #cancel()} was called or a one-shot task has run.</summary>
+     *
+     * <returns>Whether the task will no longer fire.</returns>
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * <summary>True for tasks created with a positive period.</summary>
+     *
+     * <returns>Whether the task repeats.</returns>
+     */
+    public boolean isRepeating() {
+        return periodTicks > 0L;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamLoop;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <summary>
+ * Fired when a {@link DreamTickLane} runs out of its per-tick budget with work left.
+ * </summary>
+ *
+ * <remarks>
+ * Not cancellable. Dispatched from the constructor. The remaining frames have already
+ * been pushed to the next tick when this fires.
+ * </remarks>
+ *
+ * <example>
+ * <code>
+ * &#64;EventHandler
+ * public void onOverrun(TickLaneOverrunEvent e) {
+ *     getLogger().warning(e.getLane().getName() + " deferred " + e.getDeferredFrames() + " frames");
+ * }
+ * </code>
+ * </example>
+ */
+@Getter
+public class TickLaneOverrunEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+
+    /** <summary>The lane that overran.</summary> */
+    private final DreamTickLane<?, ?> lane;
+
+    /** <summary>Nanoseconds the lane spent this tick.</summary> */
+    private final long spentNanos;
+
+    /** <summary>Frames carried over to the next tick.</summary> */
+    private final int deferredFrames;
+
+    /**
+     * <summary>Constructs and dispatches the event.</summary>
+     *
+     * <param name="lane">Overrunning lane.</param>
+     * <param name="spentNanos">Time spent this tick.</param>
+     * <param name="deferredFrames">Frames pushed to the next tick.</param>
+     */
+    public TickLaneOverrunEvent(DreamTickLane<?, ?> lane, long spentNanos, int deferredFrames) {
+        this.lane = lane;
+        this.spentNanos = spentNanos;
+        this.deferredFrames = deferredFrames;
+        Bukkit.getPluginManager().callEvent(this);
+    }
+
+    /** <summary>Gets the static handler list required by Bukkit.</summary> */
+    public static HandlerList getHandlerList() { return handlers; }
+
+    @Override public @NotNull HandlerList getHandlers() { return handlers; }
+}
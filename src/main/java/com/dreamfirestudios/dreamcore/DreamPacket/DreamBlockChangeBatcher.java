@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamPacket;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import com.dreamfirestudios.dreamcore.DreamCollections.DreamBlockPos;
+import com.dreamfirestudios.dreamcore.DreamCollections.PackedPositionMap;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrPacketBatch;
+import io.papermc.paper.math.Position;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/// <summary>
+/// Collects client-side block changes per player and sends them once per tick as one
+/// multi-block-change packet per chunk section.
+/// </summary>
+/// <remarks>
+/// <list type="bullet">
+/// <item>Writes to the same position within a tick are deduplicated; the last write wins.</item>
+/// <item>Changes queued for a world the player has left are dropped.</item>
+/// <item>Packets are built with ProtocolLib; if that fails, the section falls back to
+/// <c>Player#sendMultiBlockChange</c>.</item>
+/// </list>
+/// Main thread only. DreamCore calls <see cref="#flush()"/> at the end of every tick.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamBlockChangeBatcher.queue(player, location, Material.GLASS.createBlockData());
+/// </code>
+/// </example>
+public final class DreamBlockChangeBatcher {
+
+    private final Map<UUID, PlayerBatch> batches = new HashMap<>();
+    private boolean protocolFailed;
+
+    /// <summary>
+    /// Queues a single block change.
+    /// </summary>
+    /// <param name="player">Recipient.</param>
+    /// <param name="location">Block location; must be in the player's current world.</param>
+    /// <param name="data">Block data the player should see.</param>
+    public void queue(Player player, Location location, BlockData data) {
+        if (player == null || location == null || data == null) throw new IllegalArgumentException("Player, location and data cannot be null");
+        final PlayerBatch batch = batchFor(player, location.getWorld());
+        if (batch != null) batch.put(location.getBlockX(), location.getBlockY(), location.getBlockZ(), data);
+    }
+
+    /// <summary>
+    /// Queues a single block change by block coordinates.
+    /// </summary>
+    /// <param name="player">Recipient.</param>
+    /// <param name="world">World of the block; changes for any other world than the player's are dropped.</param>
+    /// <param name="x">Block X.</param>
+    /// <param name="y">Block Y.</param>
+    /// <param name="z">Block Z.</param>
+    /// <param name="data">Block data the player should see.</param>
+    public void queue(Player player, World world, int x, int y, int z, BlockData data) {
+        if (player == null || world == null || data == null) throw new IllegalArgumentException("Player, world and data cannot be null");
+        final PlayerBatch batch = batchFor(player, world);
+        if (batch != null) batch.put(x, y, z, data);
+    }
+
+    /// <summary>
+    /// Queues the data of positioned block states, as <c>Player#sendBlockChanges</c> would send them.
+    /// </summary>
+    /// <param name="player">Recipient.</param>
+    /// <param name="states">Block states; states outside the player's world are skipped.</param>
+    public void queue(Player player, Collection<? extends BlockState> states) {
+        if (player == null || states == null) throw new IllegalArgumentException("Player and states cannot be null");
+        if (states.isEmpty()) return;
+        final PlayerBatch batch = batchFor(player, player.getWorld());
+        if (batch == null) return;
+        for (BlockState state : states) {
+            if (state.getWorld() != player.getWorld()) continue;
+            batch.put(state.getX(), state.getY(), state.getZ(), state.getBlockData());
+        }
+    }
+
+    /// <summary>
+    /// Queues positioned block data in the player's current world.
+    /// </summary>
+    /// <param name="player">Recipient.</param>
+    /// <param name="changes">Block data per position.</param>
+    public void queue(Player player, Map<? extends Position, BlockData> changes) {
+        if (player == null || changes == null) throw new IllegalArgumentException("Player and changes cannot be null");
+        if (changes.isEmpty()) return;
+        final PlayerBatch batch = batchFor(player, player.getWorld());
+        if (batch == null) return;
+        for (Map.Entry<? extends Position, BlockData> e : changes.entrySet()) {
+            final Position pos = e.getKey();
+            batch.put(pos.blockX(), pos.blockY(), pos.blockZ(), e.getValue());
+        }
+    }
+
+    /// <summary>
+    /// Drops everything queued for a player, e.g. on quit.
+    /// </summary>
+    /// <param name="playerId">Player UUID.</param>
+    public void discard(UUID playerId) {
+        batches.remove(playerId);
+    }
+
+    /// <returns>Number of block changes currently queued across all players.</returns>
+    public int pendingChanges() {
+        int total = 0;
+        for (PlayerBatch batch : batches.values()) total += batch.changes;
+        return total;
+    }
+
+    /// <summary>
+    /// Sends every queued change and clears the queue.
+    /// </summary>
+    /// <returns>Number of packets sent.</returns>
+    public int flush() {
+        if (batches.isEmpty()) return 0;
+        int packets = 0;
+        for (Map.Entry<UUID, PlayerBatch> entry : batches.entrySet()) {
+            final Player player = Bukkit.getPlayer(entry.getKey());
+            final PlayerBatch batch = entry.getValue();
+            if (player == null || !player.isOnline() || player.getWorld() != batch.world) continue;
+
+            final var jfr = new JfrPacketBatch();
+            jfr.begin();
+            batch.sections.forEach((sectionKey, blocks) -> sendSection(player, sectionKey, blocks));
+            packets += batch.sections.size();
+            if (jfr.finish()) jfr.commit(player.getUniqueId(), batch.changes, 1);
+        }
+        batches.clear();
+        return packets;
+    }
+
+    private PlayerBatch batchFor(Player player, World world) {
+        if (world == null || world != player.getWorld()) return null;
+        final PlayerBatch batch = batches.computeIfAbsent(player.getUniqueId(), id -> new PlayerBatch(world));
+        if (batch.world != world) {
+            final PlayerBatch fresh = new PlayerBatch(world);
+            batches.put(player.getUniqueId(), fresh);
+            return fresh;
+        }
+        return batch;
+    }
+
+    private void sendSection(Player player, long sectionKey, PackedPositionMap<BlockData> blocks) {
+        final int sx = DreamBlockPos.unpackX(sectionKey), sy = DreamBlockPos.unpackY(sectionKey), sz = DreamBlockPos.unpackZ(sectionKey);
+        if (!protocolFailed) {
+            try {
+                final short[] positions = new short[blocks.size()];
+                final WrappedBlockData[] data = new WrappedBlockData[blocks.size()];
+                final int[] cursor = new int[1];
+                blocks.forEach((local, blockData) -> {
+                    positions[cursor[0]] = (short) local;
+                    data[cursor[0]++] = WrappedBlockData.createData(blockData);
+                });
+                final PacketContainer packet = DreamCore.ProtocolManager.createPacket(PacketType.Play.Server.MULTI_BLOCK_CHANGE);
+                packet.getSectionPositions().write(0, new BlockPosition(sx, sy, sz));
+                packet.getShortArrays().write(0, positions);
+                packet.getBlockDataArrays().write(0, data);
+                DreamCore.ProtocolManager.sendServerPacket(player, packet);
+                return;
+            } catch (RuntimeException e) {
+                protocolFailed = true;
+                DreamCore.DreamCore.getLogger().log(Level.WARNING, "Multi block change packet failed; falling back to the Bukkit API", e);
+            }
+        }
+        final Map<Position, BlockData> fallback = new HashMap<>(blocks.size() * 2);
+        blocks.forEach((local, blockData) -> fallback.put(
+                Position.block((sx << 4) | (int) (local >> 8 & 15), (sy << 4) | (int) (local & 15), (sz << 4) | (int) (local >> 4 & 15)), blockData));
+        player.sendMultiBlockChange(fallback);
+    }
+
+    /// <summary>
+    /// Pending changes of one player, grouped by section (keyed by packed section coordinates); section-local
+    /// positions use the packet's encoding.
+    /// </summary>
+    private static final class PlayerBatch {
+        private final World world;
+        private final PackedPositionMap<PackedPositionMap<BlockData>> sections = new PackedPositionMap<>();
+        private int changes;
+
+        private PlayerBatch(World world) {
+            this.world = world;
+        }
+
+        private void put(int x, int y, int z, BlockData data) {
+            final long sectionKey = DreamBlockPos.pack(x >> 4, y >> 4, z >> 4);
+            PackedPositionMap<BlockData> section = sections.get(sectionKey);
+            if (section == null) {
+                section = new PackedPositionMap<>();
+                sections.put(sectionKey, section);
+            }
+            final long local = (x & 15) << 8 | (z & 15) << 4 | (y & 15);
+            if (section.put(local, data) == null) changes++;
+        }
+    }
+}
@@ -26,7 +26,6 @@ package com.dreamfirestudios.dreamcore.DreamPersistentData;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamCore;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.block.Block;
 import org.bukkit.block.TileState;
@@ -295,7 +294,7 @@ public class DreamPersistentBlock {
         }
         try {
             Add(javaPlugin, block, type, key, value);
-            Bukkit.getScheduler().runTaskLater(javaPlugin, () -> Remove(javaPlugin, block, key), expiryMillis / 50);
+            DreamCore.DreamTimingWheel.schedule(javaPlugin, expiryMillis / 50, () -> Remove(javaPlugin, block, key));
             return true;
         } catch (Exception e) {
             DreamChat.SendMessageToConsole("Error while adding expiring persistent data for key: " + key, DreamMessageSettings.all());
@@ -26,7 +26,6 @@ package com.dreamfirestudios.dreamcore.DreamPersistentData;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamCore;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Entity;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -259,7 +258,7 @@ public class DreamPersistentEntity {
     /// <param name="type">Data type descriptor.</param>
     /// <param name="key">Local key.</param>
     /// <param name="value">Value to store.</param>
-    /// <param name="expiryMillis">Expiry in milliseconds (Bukkit ticks used internally).</param>
+    /// <param name="expiryMillis">Expiry in milliseconds (converted to ticks on DreamCore's timing wheel).</param>
     /// <returns><c>true</c> on success; else <c>false</c>.</returns>
     /// <example>
     /// <code>
@@ -277,7 +276,7 @@ public class DreamPersistentEntity {
         }
         try {
             Add(javaPlugin, entity, type, key, value);
-            Bukkit.getScheduler().runTaskLater(javaPlugin, () -> Remove(javaPlugin, entity, key), expiryMillis / 50);
+            DreamCore.DreamTimingWheel.schedule(javaPlugin, expiryMillis / 50, () -> Remove(javaPlugin, entity, key));
             return true;
         } catch (Exception e) {
             DreamChat.SendMessageToConsole("Error while adding expiring persistent data for key: " + key, DreamMessageSettings.all());
@@ -26,7 +26,6 @@ package com.dreamfirestudios.dreamcore.DreamPersistentData;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamCore;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -289,7 +288,7 @@ public class DreamPersistentItemStack {
         }
         try {
             Add(javaPlugin, itemStack, type, key, value);
-            Bukkit.getScheduler().runTaskLater(javaPlugin, () -> Remove(javaPlugin, itemStack, key), expiryMillis / 50);
+            DreamCore.DreamTimingWheel.schedule(javaPlugin, expiryMillis / 50, () -> Remove(javaPlugin, itemStack, key));
             return true;
         } catch (Exception e) {
             DreamChat.SendMessageToConsole("Error while adding expiring persistent data for key: " + key, DreamMessageSettings.all());
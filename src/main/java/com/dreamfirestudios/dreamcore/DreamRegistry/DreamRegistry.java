@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamRegistry;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/// <summary>
+/// Thread-safe, iteration-safe registry used for DreamCore's static object maps.
+/// </summary>
+/// <remarks>
+/// Entries live in a <see cref="ConcurrentHashMap"/>, so reads never lock and iteration is
+/// weakly consistent: objects may remove themselves (e.g. <c>stop()</c> inside a frame) or
+/// async callers may register new ones while a loop walks the registry, without a
+/// <c>ConcurrentModificationException</c> and without copying the values first.
+/// <para>
+/// Writes (<see cref="#put"/>, <see cref="#remove"/>, <see cref="#reindex"/>) are serialized so
+/// that secondary indexes added via <see cref="#addIndex"/> always match the entries.
+/// <see cref="#removeIf"/> walks first and removes afterwards, so removal is deferred
+/// until the walk has finished.
+/// </para>
+/// <para>
+/// The <see cref="#keySet()"/>, <see cref="#values()"/> and <see cref="#entrySet()"/> views support removal
+/// (<c>remove</c>, <c>removeIf</c>, <c>Iterator.remove</c>), which goes through <see cref="#remove"/> so indexes stay
+/// in sync; entries cannot be modified through <c>Entry.setValue</c>.
+/// </para>
+/// <para>
+/// Differences from the <c>LinkedHashMap</c> fields DreamCore used before: iteration order is not insertion
+/// order, and <c>null</c> keys or values are rejected with a <see cref="NullPointerException"/>. Code that stored a
+/// DreamCore registry in a <c>LinkedHashMap</c> or <c>HashMap</c> variable must use <c>Map</c> (or
+/// <c>DreamRegistry</c>) instead.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamRegistry&lt;UUID, DreamActionBar&gt; bars = new DreamRegistry&lt;&gt;();
+/// DreamRegistryIndex&lt;UUID, UUID, DreamActionBar&gt; byPlayer = bars.addIndex(DreamActionBar::getViewerIds);
+/// bars.put(bar.getClassID(), bar);
+/// boolean watching = byPlayer.contains(player.getUniqueId());
+/// </code>
+/// </example>
+/// <typeparam name="K">Key type.</typeparam>
+/// <typeparam name="V">Value type.</typeparam>
+public class DreamRegistry<K, V> extends AbstractMap<K, V> {
+
+    private final ConcurrentHashMap<K, V> entries = new ConcurrentHashMap<>();
+    private final List<DreamRegistryIndex<?, K, V>> indexes = new CopyOnWriteArrayList<>();
+
+    /// <summary>
+    /// Adds a secondary index over the registry values.
+    /// </summary>
+    /// <param name="indexer">Maps a value to the index keys it should be found under (e.g. viewer UUIDs).</param>
+    /// <returns>The new index, already populated with the current entries.</returns>
+    /// <remarks>
+    /// The indexer is evaluated when an entry is put and on <see cref="#reindex"/>. Objects whose
+    /// indexed data changes (a viewer joins, a world changes) must call <see cref="#reindex"/>.
+    /// </remarks>
+    public <I> DreamRegistryIndex<I, K, V> addIndex(Function<? super V, ? extends Collection<? extends I>> indexer) {
+        Objects.requireNonNull(indexer, "indexer");
+        return register(new DreamRegistryIndex<I, K, V>(this, (key, value) -> indexer.apply(value)));
+    }
+
+    /// <summary>
+    /// Adds a secondary index over the registry keys.
+    /// </summary>
+    /// <param name="indexer">Maps a key to the index keys it should be found under (e.g. a tick phase).</param>
+    /// <returns>The new index, already populated with the current entries.</returns>
+    /// <remarks>
+    /// Keys never change, so unlike <see cref="#addIndex"/> the index never needs a <see cref="#reindex"/>.
+    /// </remarks>
+    public <I> DreamRegistryIndex<I, K, V> addKeyIndex(Function<? super K, ? extends Collection<? extends I>> indexer) {
+        Objects.requireNonNull(indexer, "indexer");
+        return register(new DreamRegistryIndex<I, K, V>(this, (key, value) -> indexer.apply(key)));
+    }
+
+    private synchronized <I> DreamRegistryIndex<I, K, V> register(DreamRegistryIndex<I, K, V> index) {
+        entries.forEach(index::update);
+        indexes.add(index);
+        return index;
+    }
+
+    /// <summary>
+    /// Re-evaluates all indexes for a registered key.
+    /// </summary>
+    /// <param name="key">Registry key. Unregistered keys are ignored.</param>
+    public synchronized void reindex(K key) {
+        if (key == null) return;
+        var value = entries.get(key);
+        if (value == null) return;
+        for (var index : indexes) index.update(key, value);
+    }
+
+    /// <summary>
+    /// Removes every entry matching the filter.
+    /// </summary>
+    /// <param name="filter">Predicate receiving key and value; <c>true</c> removes the entry.</param>
+    /// <returns>Number of removed entries.</returns>
+    /// <remarks>
+    /// The filter may freely touch the registry (including removing other entries); matches are
+    /// collected first and removed after the walk.
+    /// </remarks>
+    public int removeIf(BiPredicate<? super K, ? super V> filter) {
+        Objects.requireNonNull(filter, "filter");
+        List<K> removals = null;
+        for (var entry : entries.entrySet()) {
+            if (!filter.test(entry.getKey(), entry.getValue())) continue;
+            if (removals == null) removals = new ArrayList<>();
+            removals.add(entry.getKey());
+        }
+        if (removals == null) return 0;
+        int removed = 0;
+        for (var key : removals) {
+            if (remove(key) != null) removed++;
+        }
+        return removed;
+    }
+
+    // ----------------------------- Map -----------------------------
+
+    @Override public int size() { return entries.size(); }
+
+    @Override public boolean isEmpty() { return entries.isEmpty(); }
+
+    @Override public boolean containsKey(Object key) { return key != null && entries.containsKey(key); }
+
+    @Override public boolean containsValue(Object value) { return value != null && entries.containsValue(value); }
+
+    @Override public V get(Object key) { return key == null ? null : entries.get(key); }
+
+    @Override public V getOrDefault(Object key, V defaultValue) {
+        return key == null ? defaultValue : entries.getOrDefault(key, defaultValue);
+    }
+
+    /// <summary>
+    /// Registers or replaces an entry and updates all indexes.
+    /// </summary>
+    /// <returns>The previous value, or <c>null</c>.</returns>
+    @Override
+    public synchronized V put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        var previous = entries.put(key, value);
+        for (var index : indexes) index.update(key, value);
+        return previous;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(K key, V value) {
+        var existing = get(key);
+        return existing != null ? existing : put(key, value);
+    }
+
+    @Override
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        var existing = get(key);
+        if (existing != null) return existing;
+        var created = mappingFunction.apply(key);
+        if (created != null) put(key, created);
+        return created;
+    }
+
+    /// <summary>
+    /// Unregisters an entry and drops it from all indexes.
+    /// </summary>
+    /// <returns>The removed value, or <c>null</c>.</returns>
+    @Override
+    public synchronized V remove(Object key) {
+        if (key == null) return null;
+        var previous = entries.remove(key);
+        if (previous != null) {
+            for (var index : indexes) index.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        for (var index : indexes) index.clear();
+    }
+
+    @Override public void forEach(BiConsumer<? super K, ? super V> action) { entries.forEach(action); }
+
+    @Override public Set<K> keySet() {
+        return new AbstractSet<>() {
+            @Override public Iterator<K> iterator() { return new RemovingIterator<>(Entry::getKey); }
+            @Override public int size() { return entries.size(); }
+            @Override public boolean contains(Object key) { return containsKey(key); }
+            @Override public boolean remove(Object key) { return DreamRegistry.this.remove(key) != null; }
+        };
+    }
+
+    @Override public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override public Iterator<V> iterator() { return new RemovingIterator<>(Entry::getValue); }
+            @Override public int size() { return entries.size(); }
+            @Override public boolean contains(Object value) { return containsValue(value); }
+        };
+    }
+
+    @Override public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override public Iterator<Entry<K, V>> iterator() { return new RemovingIterator<>(SimpleImmutableEntry::new); }
+            @Override public int size() { return entries.size(); }
+        };
+    }
+
+    /// <summary>Weakly consistent view iterator whose <c>remove</c> unregisters the current key.</summary>
+    private final class RemovingIterator<T> implements Iterator<T> {
+        private final Iterator<Entry<K, V>> delegate = entries.entrySet().iterator();
+        private final Function<Entry<K, V>, T> mapper;
+        private K current;
+
+        private RemovingIterator(Function<Entry<K, V>, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override public boolean hasNext() { return delegate.hasNext(); }
+
+        @Override public T next() {
+            var entry = delegate.next();
+            current = entry.getKey();
+            return mapper.apply(entry);
+        }
+
+        @Override public void remove() {
+            if (current == null) throw new IllegalStateException();
+            DreamRegistry.this.remove(current);
+            current = null;
+        }
+    }
+}
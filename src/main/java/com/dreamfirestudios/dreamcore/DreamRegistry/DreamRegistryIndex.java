@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/// <summary>
+/// O(1) secondary index over a <see cref="DreamRegistry"/> (e.g. by player or by world).
+/// </summary>
+/// <remarks>
+/// Created through <see cref="DreamRegistry#addIndex"/> or <see cref="DreamRegistry#addKeyIndex"/> and maintained by the registry on
+/// every put, remove and reindex. Lookups never lock.
+/// </remarks>
+/// <example>
+/// <code>
+/// for (var limiter : DreamCore.DreamLocationLimitersByPlayer.values(player.getUniqueId())) { ... }
+/// </code>
+/// </example>
+/// <typeparam name="I">Index key type.</typeparam>
+/// <typeparam name="K">Registry key type.</typeparam>
+/// <typeparam name="V">Registry value type.</typeparam>
+public final class DreamRegistryIndex<I, K, V> {
+
+    private final DreamRegistry<K, V> registry;
+    private final BiFunction<? super K, ? super V, ? extends Collection<? extends I>> indexer;
+    private final ConcurrentHashMap<I, Set<K>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Set<I>> indexedKeys = new ConcurrentHashMap<>();
+
+    DreamRegistryIndex(DreamRegistry<K, V> registry, BiFunction<? super K, ? super V, ? extends Collection<? extends I>> indexer) {
+        this.registry = registry;
+        this.indexer = indexer;
+    }
+
+    /// <summary>True if at least one registered value is indexed under <paramref name="id"/>.</summary>
+    public boolean contains(I id) {
+        if (id == null) return false;
+        var bucket = buckets.get(id);
+        return bucket != null && !bucket.isEmpty();
+    }
+
+    /// <summary>Number of registered values indexed under <paramref name="id"/>.</summary>
+    public int count(I id) {
+        if (id == null) return 0;
+        var bucket = buckets.get(id);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /// <summary>Registry keys indexed under <paramref name="id"/> (read-only, live).</summary>
+    public Set<K> keys(I id) {
+        if (id == null) return Collections.emptySet();
+        var bucket = buckets.get(id);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    /// <summary>Registered values indexed under <paramref name="id"/>.</summary>
+    public List<V> values(I id) {
+        var bucket = id == null ? null : buckets.get(id);
+        if (bucket == null || bucket.isEmpty()) return Collections.emptyList();
+        var result = new ArrayList<V>(bucket.size());
+        forEach(id, result::add);
+        return result;
+    }
+
+    /// <summary>Runs an action for every registered value indexed under <paramref name="id"/> without copying.</summary>
+    public void forEach(I id, Consumer<? super V> action) {
+        if (id == null) return;
+        var bucket = buckets.get(id);
+        if (bucket == null) return;
+        for (var key : bucket) {
+            var value = registry.get(key);
+            if (value != null) action.accept(value);
+        }
+    }
+
+    /// <summary>Re-indexes a key as a diff: new ids are added before stale ids are removed.</summary>
+    /// <remarks>
+    /// Lock-free readers (e.g. packet threads) therefore never see a registered key missing from an id it
+    /// stays indexed under. Writers are serialized by the registry.
+    /// </remarks>
+    void update(K key, V value) {
+        var ids = indexer.apply(key, value);
+        Set<I> own = ids == null ? new HashSet<>() : new HashSet<>(ids);
+        own.remove(null);
+        var previous = own.isEmpty() ? indexedKeys.remove(key) : indexedKeys.put(key, own);
+        for (var id : own) {
+            if (previous == null || !previous.contains(id)) addToBucket(id, key);
+        }
+        if (previous == null) return;
+        for (var id : previous) {
+            if (!own.contains(id)) removeFromBucket(id, key);
+        }
+    }
+
+    void remove(Object key) {
+        var own = indexedKeys.remove(key);
+        if (own == null) return;
+        for (var id : own) removeFromBucket(id, key);
+    }
+
+    private void addToBucket(I id, K key) {
+        buckets.compute(id, (k, bucket) -> {
+            if (bucket == null) bucket = ConcurrentHashMap.newKeySet();
+            bucket.add(key);
+            return bucket;
+        });
+    }
+
+    private void removeFromBucket(I id, Object key) {
+        buckets.computeIfPresent(id, (k, bucket) -> {
+            bucket.remove(key);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    void clear() {
+        buckets.clear();
+        indexedKeys.clear();
+    }
+}
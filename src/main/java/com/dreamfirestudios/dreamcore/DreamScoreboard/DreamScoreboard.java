@@ -25,6 +25,7 @@ package com.dreamfirestudios.dreamcore.DreamScoreboard;
 
 import com.dreamfirestudios.dreamcore.DreamCore;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassID;
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrScoreboardFrame;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -35,6 +36,7 @@ import org.bukkit.scoreboard.Scoreboard;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 /// <summary>
 /// Manages an animated sidebar scoreboard composed of multiple frames.
@@ -81,6 +83,14 @@ public class DreamScoreboard extends DreamClassID {
         return player != null && viewers.contains(player);
     }
 
+    /// <summary>
+    /// Returns the UUIDs of all current viewers.
+    /// </summary>
+    /// <returns>A snapshot of viewer UUIDs.</returns>
+    public List<UUID> getViewerIds() {
+        return viewers.stream().map(Player::getUniqueId).toList();
+    }
+
     /// <summary>
     /// Adds a player as a viewer of this scoreboard.
     /// </summary>
@@ -98,6 +108,7 @@ public class DreamScoreboard extends DreamClassID {
 
         player.setScoreboard(scoreboard);
         viewers.add(player);
+        DreamCore.DreamScoreboards.reindex(getClassID());
     }
 
     /// <summary>
@@ -118,6 +129,7 @@ public class DreamScoreboard extends DreamClassID {
             player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
         }
         viewers.remove(player);
+        DreamCore.DreamScoreboards.reindex(getClassID());
     }
 
     /// <summary>
@@ -135,10 +147,13 @@ public class DreamScoreboard extends DreamClassID {
     public void displayNextFrame() {
         if (frames.isEmpty() || viewers.isEmpty() || paused) return;
 
+        final var jfr = new JfrScoreboardFrame();
+        jfr.begin();
         ensureSidebarCreated();
 
         final DreamScoreboardLines current = frames.get(frameIndex);
         current.UpdateLine(scoreboard);
+        if (jfr.finish()) jfr.commit(getClassID(), current.getLineCount(), viewers.size());
 
         frameIndex = (frameIndex + 1) % frames.size();
     }
@@ -93,6 +93,11 @@ public class DreamScoreboardLines {
         createSidebar(scoreboard, objectiveId);
     }
 
+    /// <summary>Number of lines in this frame.</summary>
+    public int getLineCount() {
+        return lines.size();
+    }
+
     /// <summary>Back-compat. Use <see cref="updateSidebar(Scoreboard)"/>.</summary>
     @Deprecated
     public void UpdateLine(Scoreboard scoreboard) {
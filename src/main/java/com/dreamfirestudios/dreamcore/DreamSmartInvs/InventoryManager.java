@@ -1,5 +1,8 @@
 package com.dreamfirestudios.dreamcore.DreamSmartInvs;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamTimings.DreamTimingSection;
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrSmartInventoryUpdate;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.content.InventoryContents;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.opener.ChestInventoryOpener;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.opener.InventoryOpener;
@@ -278,17 +281,26 @@ public class InventoryManager {
 
     class InvTask extends BukkitRunnable {
 
+        private final DreamTimingSection timings = DreamCore.DreamTimings.section("SmartInvs/InvTask");
+
         @Override
         public void run() {
+            long start = timings.start();
             new HashMap<>(inventories).forEach((uuid, inv) -> {
                 Player player = Bukkit.getPlayer(uuid);
 
+                long updateStart = timings.start();
+                JfrSmartInventoryUpdate jfr = new JfrSmartInventoryUpdate();
+                jfr.begin();
                 try {
                     inv.getProvider().update(player, contents.get(uuid));
                 } catch (Exception e) {
                     handleInventoryUpdateError(inv, player, e);
                 }
+                if (jfr.finish()) jfr.commit(inv.getId(), inv.getRows() * inv.getColumns(), 1);
+                if (updateStart != 0L) timings.recordObject(inv, inv.getId(), uuid, System.nanoTime() - updateStart);
             });
+            timings.stop(start, inventories.size());
         }
 
     }
@@ -23,10 +23,14 @@
  */
 package com.dreamfirestudios.dreamcore.DreamStopwatch;
 
-import org.bukkit.Bukkit;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamClockMode;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamWheelTask;
 import org.bukkit.plugin.Plugin;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,7 +39,12 @@ import java.util.function.Consumer;
 /// </summary>
 /// <remarks>
 /// Thread-safety: all state changes are expected to occur on the main thread.  
-/// Period is in ticks; use 20 ticks for second-precision.
+/// Period is in ticks; use 20 ticks for second-precision. Ticks are driven by <see cref="DreamCore#DreamTimingWheel"/>.
+/// <para>
+/// In <see cref="DreamClockMode#WALL_CLOCK"/> mode the stopwatch measures real time from <c>System.nanoTime()</c>
+/// on the shared <see cref="DreamCore#DreamClockDriver"/>; lag no longer slows it down, missed periods are reported
+/// by one coalesced tick, and <see cref="getElapsedNanos()"/> has sub-second precision.
+/// </para>
 /// </remarks>
 /// <example>
 /// <code>
@@ -44,29 +53,40 @@ import java.util.function.Consumer;
 ///     20L,
 ///     secs -&gt; player.sendActionBar(Component.text("Time: " + DreamStopwatch.formatHMS(secs))),
 ///     (secs, paused) -&gt; {},
-///     secs -&gt; player.sendMessage("Final: " + DreamStopwatch.formatHMS(secs))
+///     secs -&gt; player.sendMessage("Final: " + DreamStopwatch.formatHMS(secs)),
+///     DreamClockMode.WALL_CLOCK
 /// );
 /// watch.start();
 /// </code>
 /// </example>
 public final class DreamStopwatch {
 
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
     private final Plugin plugin;
     private final long periodTicks;
     private final Consumer<Integer> onTick;                 // elapsed seconds
     private final BiConsumer<Integer, Boolean> onPause;     // (elapsed, paused=true/false)
     private final Consumer<Integer> onStop;                 // final elapsed seconds
+    private final DreamClockMode clockMode;
 
-    private int taskId = -1;
+    private DreamWheelTask task;
     private int elapsedSeconds = 0;
     private boolean paused = false;
     private boolean stopped = false;
 
+    // --- wall-clock state ---
+    private Object clockToken;
+    private long anchorNanos;
+    private long accumulatedNanos;
+    private long firedPeriods;
+
     /// <summary>
-    /// Creates a new stopwatch.
+    /// Creates a new tick-counting stopwatch.
     /// </summary>
     /// <param name="plugin">Owning plugin.</param>
-    /// <param name="periodTicks">Scheduler period in ticks (20 = 1s).</param>
+    /// <param name="periodTicks">Stopwatch period in ticks (20 = 1s).</param>
     /// <param name="onTick">Callback fired each period with elapsed seconds.</param>
     /// <param name="onPause">Callback fired on pause/resume with (elapsed, paused).</param>
     /// <param name="onStop">Callback fired when stopped (final elapsed).</param>
@@ -76,53 +96,92 @@ public final class DreamStopwatch {
             Consumer<Integer> onTick,
             BiConsumer<Integer, Boolean> onPause,
             Consumer<Integer> onStop
+    ) {
+        this(plugin, periodTicks, onTick, onPause, onStop, DreamClockMode.TICKS);
+    }
+
+    /// <summary>
+    /// Creates a new stopwatch with an explicit clock mode.
+    /// </summary>
+    /// <param name="plugin">Owning plugin.</param>
+    /// <param name="periodTicks">Callback period in ticks; in wall-clock mode a period is <c>periodTicks × 50 ms</c> of real time.</param>
+    /// <param name="onTick">Callback fired each period with elapsed seconds.</param>
+    /// <param name="onPause">Callback fired on pause/resume with (elapsed, paused).</param>
+    /// <param name="onStop">Callback fired when stopped (final elapsed).</param>
+    /// <param name="clockMode">How elapsed time is measured.</param>
+    public DreamStopwatch(
+            Plugin plugin,
+            long periodTicks,
+            Consumer<Integer> onTick,
+            BiConsumer<Integer, Boolean> onPause,
+            Consumer<Integer> onStop,
+            DreamClockMode clockMode
     ) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.periodTicks = Math.max(1L, periodTicks);
         this.onTick = onTick == null ? s -> {} : onTick;
         this.onPause = onPause == null ? (s, p) -> {} : onPause;
         this.onStop = onStop == null ? s -> {} : onStop;
+        this.clockMode = Objects.requireNonNull(clockMode, "clockMode");
     }
 
     /// <summary>Starts the stopwatch. No-op if already started.</summary>
     public void start() {
-        if (taskId != -1) return;
+        if (isStarted()) return;
         stopped = false;
         paused = false;
-        taskId = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (stopped || paused) return;
-            elapsedSeconds++;
-            // callback
-            onTick.accept(elapsedSeconds);
-            // event
-            Bukkit.getPluginManager().callEvent(new StopwatchTickEvent(this, elapsedSeconds));
-        }, 0L, periodTicks).getTaskId();
-        Bukkit.getPluginManager().callEvent(new StopwatchStartedEvent(this));
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            final Object token = new Object();
+            clockToken = token;
+            anchorNanos = System.nanoTime();
+            accumulatedNanos = (long) elapsedSeconds * NANOS_PER_SECOND;
+            firedPeriods = accumulatedNanos / (periodTicks * NANOS_PER_TICK);
+            DreamCore.DreamClockDriver.register(now -> pollClock(token, now));
+        } else {
+            task = DreamCore.DreamTimingWheel.scheduleRepeating(plugin, 0L, periodTicks, () -> {
+                if (stopped || paused) return;
+                elapsedSeconds++;
+                // callback
+                onTick.accept(elapsedSeconds);
+                // event
+                DreamEventDispatcher.fire(StopwatchTickEvent.getHandlerList(), () -> new StopwatchTickEvent(this, elapsedSeconds));
+            });
+        }
+        new StopwatchStartedEvent(this);
     }
 
     /// <summary>Pauses the stopwatch (no tick increments while paused).</summary>
     public void pause() {
-        if (taskId == -1 || paused || stopped) return;
+        if (!isStarted() || paused || stopped) return;
         paused = true;
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            accumulatedNanos += System.nanoTime() - anchorNanos;
+            elapsedSeconds = (int) (accumulatedNanos / NANOS_PER_SECOND);
+        }
         onPause.accept(elapsedSeconds, true);
-        Bukkit.getPluginManager().callEvent(new StopwatchPausedEvent(this, elapsedSeconds));
+        new StopwatchPausedEvent(this, elapsedSeconds);
     }
 
     /// <summary>Resumes a paused stopwatch.</summary>
     public void resume() {
-        if (taskId == -1 || !paused || stopped) return;
+        if (!isStarted() || !paused || stopped) return;
+        if (clockMode == DreamClockMode.WALL_CLOCK) anchorNanos = System.nanoTime();
         paused = false;
         onPause.accept(elapsedSeconds, false);
-        Bukkit.getPluginManager().callEvent(new StopwatchResumedEvent(this, elapsedSeconds));
+        new StopwatchResumedEvent(this, elapsedSeconds);
     }
 
-    /// <summary>Stops the stopwatch and cancels the scheduled task.</summary>
+    /// <summary>Stops the stopwatch and cancels its wheel task or clock.</summary>
     public void stop() {
-        if (taskId == -1 || stopped) return;
+        if (!isStarted() || stopped) return;
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            accumulatedNanos = getElapsedNanos();
+            elapsedSeconds = (int) (accumulatedNanos / NANOS_PER_SECOND);
+        }
         stopped = true;
         cancelTask();
         onStop.accept(elapsedSeconds);
-        Bukkit.getPluginManager().callEvent(new StopwatchStoppedEvent(this, elapsedSeconds));
+        new StopwatchStoppedEvent(this, elapsedSeconds);
     }
 
     /// <summary>Resets elapsed time to zero. Does not start the task.</summary>
@@ -130,21 +189,61 @@ public final class DreamStopwatch {
         elapsedSeconds = 0;
         paused = false;
         stopped = false;
+        accumulatedNanos = 0L;
+        anchorNanos = System.nanoTime();
+        firedPeriods = 0L;
+    }
+
+    private boolean pollClock(Object token, long now) {
+        if (token != clockToken) return true;
+        if (paused || stopped) return false;
+
+        final long elapsed = accumulatedNanos + (now - anchorNanos);
+        final long duePeriods = elapsed / (periodTicks * NANOS_PER_TICK);
+        if (duePeriods > firedPeriods) {
+            final int coalesced = (int) Math.min(Integer.MAX_VALUE, duePeriods - firedPeriods);
+            firedPeriods = duePeriods;
+            elapsedSeconds = (int) (elapsed / NANOS_PER_SECOND);
+            onTick.accept(elapsedSeconds);
+            DreamEventDispatcher.fire(StopwatchTickEvent.getHandlerList(), () -> new StopwatchTickEvent(this, elapsedSeconds, coalesced));
+        }
+        return token != clockToken;
     }
 
     private void cancelTask() {
-        if (taskId != -1) {
-            Bukkit.getScheduler().cancelTask(taskId);
-            taskId = -1;
+        if (task != null) {
+            task.cancel();
+            task = null;
         }
+        clockToken = null;
+    }
+
+    private boolean isStarted() {
+        return task != null || clockToken != null;
     }
 
     // --- Accessors ---
 
-    /// <summary>Gets elapsed whole seconds.</summary>
-    public int getElapsedSeconds() { return elapsedSeconds; }
+    /// <summary>Gets elapsed whole seconds (computed live in wall-clock mode).</summary>
+    public int getElapsedSeconds() {
+        if (clockMode == DreamClockMode.WALL_CLOCK) return (int) (getElapsedNanos() / NANOS_PER_SECOND);
+        return elapsedSeconds;
+    }
+
+    /// <summary>
+    /// Time the stopwatch has been running, excluding pauses.
+    /// </summary>
+    /// <returns>Elapsed nanoseconds; exact in wall-clock mode, whole periods in tick mode.</returns>
+    public long getElapsedNanos() {
+        if (clockMode == DreamClockMode.TICKS) return (long) elapsedSeconds * NANOS_PER_SECOND;
+        if (!isStarted() || paused || stopped) return accumulatedNanos;
+        return accumulatedNanos + (System.nanoTime() - anchorNanos);
+    }
+
+    /// <summary>How this stopwatch measures time.</summary>
+    public DreamClockMode getClockMode() { return clockMode; }
     /// <summary>True if running (started, not paused, not stopped).</summary>
-    public boolean isRunning() { return taskId != -1 && !paused && !stopped; }
+    public boolean isRunning() { return isStarted() && !paused && !stopped; }
     /// <summary>True if paused.</summary>
     public boolean isPaused()  { return paused; }
     /// <summary>True if stopped.</summary>
@@ -39,11 +39,19 @@ public class StopwatchTickEvent extends Event {
     private final DreamStopwatch stopwatch;
     /// <summary>Elapsed seconds at this tick.</summary>
     private final int elapsedSeconds;
+    /// <summary>Periods covered by this tick; above 1 when a wall-clock stopwatch caught up after lag.</summary>
+    private final int coalescedPeriods;
 
-    /// <summary>Constructs and dispatches the event.</summary>
+    /// <summary>Constructs and dispatches the event for a single period.</summary>
     public StopwatchTickEvent(DreamStopwatch stopwatch, int elapsedSeconds) {
+        this(stopwatch, elapsedSeconds, 1);
+    }
+
+    /// <summary>Constructs and dispatches the event.</summary>
+    public StopwatchTickEvent(DreamStopwatch stopwatch, int elapsedSeconds, int coalescedPeriods) {
         this.stopwatch = stopwatch;
         this.elapsedSeconds = elapsedSeconds;
+        this.coalescedPeriods = coalescedPeriods;
         Bukkit.getPluginManager().callEvent(this);
     }
     /// <summary>Static handler list accessor.</summary>
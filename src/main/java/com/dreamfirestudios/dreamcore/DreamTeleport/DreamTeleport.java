@@ -23,6 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamTeleport;
 
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamWheelTask;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -30,7 +32,6 @@ import org.bukkit.World;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.lang.ref.WeakReference;
 import java.util.*;
@@ -41,7 +42,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * to a target (either a live entity or a fixed location). Optionally cancels
  * when players move away from their start positions.
  *
- * Threading: all logic runs on the main server thread via the Bukkit scheduler.
+ * Threading: all logic runs on the main server thread via DreamCore's shared timing wheel.
  */
 public final class DreamTeleport implements Runnable {
 
@@ -60,7 +61,7 @@ public final class DreamTeleport implements Runnable {
     private final int totalSeconds;
     private int secondsLeft;
 
-    private BukkitTask task;
+    private DreamWheelTask task;
 
     /**
      * @param plugin        owning plugin
@@ -68,7 +69,7 @@ public final class DreamTeleport implements Runnable {
      * @param liveTarget    entity to follow at completion (nullable)
      * @param fixedTarget   fallback/explicit location (nullable if liveTarget present)
      * @param seconds       countdown in seconds
-     * @param periodTicks   scheduler period (use 20 for per-second updates)
+     * @param periodTicks   countdown period (use 20 for per-second updates)
      * @param showCountdown show an actionbar countdown each tick
      * @param cancelOnMove  cancel if a player moves from their start location
      * @param moveTolerance movement tolerance in blocks before cancellation (e.g., 0.1)
@@ -106,10 +107,10 @@ public final class DreamTeleport implements Runnable {
         this.moveToleranceSq = Math.max(0.0, moveTolerance) * Math.max(0.0, moveTolerance);
     }
 
-    /** Starts the scheduled task. No-op if already running. */
+    /** Starts the countdown on the timing wheel. No-op if already running. */
     public void start() {
         if (task != null) return;
-        task = Bukkit.getScheduler().runTaskTimer(plugin, this, 0L, periodTicks);
+        task = DreamCore.DreamTimingWheel.scheduleRepeating(plugin, 0L, periodTicks, this);
     }
 
     /** Cancels the task immediately without teleporting remaining players. */
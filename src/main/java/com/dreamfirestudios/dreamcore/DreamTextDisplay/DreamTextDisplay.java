@@ -25,6 +25,7 @@ package com.dreamfirestudios.dreamcore.DreamTextDisplay;
 
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageFormatter;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
+import com.dreamfirestudios.dreamcore.DreamCore;
 import org.bukkit.*;
 import org.bukkit.entity.Display;
 import org.bukkit.entity.TextDisplay;
@@ -41,6 +42,9 @@ import org.joml.Vector3f;
  *   <li>Brightness uses block/sky light levels (0-15). Setting a brightness overrides auto brightness.</li>
  *   <li>Rotation uses the left-rotation quaternion; here we fill its xyz components from a Vector3f
  *       for convenience. Provide your own quaternion if you need exact control.</li>
+ *   <li>Displays spawned with {@link TextDisplayBuilder#trackViewers()} are registered with
+ *       {@link DreamCore#DreamViewTracker}; {@link #setText(TextDisplay, String)} then defers text changes
+ *       until a player is in range.</li>
  * </ul>
  */
 public final class DreamTextDisplay {
@@ -53,6 +57,19 @@ public final class DreamTextDisplay {
     /** Backward-compatible alias (was misnamed previously). */
     public static TextDisplayBuilder BlockDisplayBuilder() { return new TextDisplayBuilder(); }
 
+    /**
+     * Formats and applies new MiniMessage text. For tracked displays nobody is in range of, the text is
+     * kept and applied when the first viewer arrives; only the latest text is kept.
+     *
+     * @param display display to update
+     * @param text    MiniMessage-formatted text
+     */
+    public static void setText(@NotNull TextDisplay display, @NotNull String text) {
+        java.util.Objects.requireNonNull(text, "text");
+        DreamCore.DreamViewTracker.update(display,
+                current -> current.text(DreamMessageFormatter.format(text, DreamMessageSettings.all())));
+    }
+
     public static final class TextDisplayBuilder {
         // -------- defaults (safe fallbacks) --------
         private World world = firstLoadedWorld();
@@ -74,6 +91,7 @@ public final class DreamTextDisplay {
         private Color backgroundColor = Color.RED;
         private int lineWidth = 50;
         private byte textOpacity = (byte) 0xFF; // 0..255
+        private boolean trackViewers = false;
 
         private static @NotNull World firstLoadedWorld() {
             return Bukkit.getWorlds().isEmpty()
@@ -191,6 +209,12 @@ public final class DreamTextDisplay {
             return this;
         }
 
+        /** Registers the spawned display with {@link DreamCore#DreamViewTracker}. */
+        public TextDisplayBuilder trackViewers() {
+            this.trackViewers = true;
+            return this;
+        }
+
         // ---------------------------------------------------------------------
         // Spawning
         // ---------------------------------------------------------------------
@@ -234,6 +258,7 @@ public final class DreamTextDisplay {
             td.setBackgroundColor(backgroundColor);
             td.setLineWidth(lineWidth);
             td.setTextOpacity(textOpacity);
+            if (trackViewers) DreamCore.DreamViewTracker.trackDisplay(td);
 
             new TextDisplaySpawnEvent(td);
             return td;
@@ -23,10 +23,14 @@
  */
 package com.dreamfirestudios.dreamcore.DreamTimer;
 
-import org.bukkit.Bukkit;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamClockMode;
+import com.dreamfirestudios.dreamcore.DreamLoop.DreamWheelTask;
 import org.bukkit.plugin.Plugin;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -37,36 +41,55 @@ import java.util.function.Consumer;
 /// All callbacks and events fire on the main thread.
 /// Use <see cref="start()"/> to begin, <see cref="pause()"/>, <see cref="resume()"/>, and <see cref="cancel()"/> to control.
 /// Listen to <c>Timer*</c> events for lifecycle hooks.
+/// <para>
+/// In <see cref="DreamClockMode#TICKS"/> mode (default) the timer counts one second per period on
+/// <see cref="DreamCore#DreamTimingWheel"/>, so lag stretches it. In <see cref="DreamClockMode#WALL_CLOCK"/> mode
+/// it runs for exactly <c>startingSeconds</c> of real time on the shared <see cref="DreamCore#DreamClockDriver"/>:
+/// periods missed while the server lagged are reported by a single coalesced tick
+/// (see <see cref="TimerTickEvent#getCoalescedPeriods()"/>).
+/// </para>
 /// </remarks>
 /// <example>
 /// <code>
-/// DreamTimer timer = new DreamTimer(plugin, 10, 20L,
+/// DreamTimer timer = new DreamTimer(plugin, 300, 20L,
 ///     secs -&gt; player.sendActionBar(Component.text("Remaining: " + DreamTimer.formatHMS(secs))),
 ///     (secs, paused) -&gt; {},
-///     secs -&gt; player.sendMessage("Done!")
+///     secs -&gt; player.sendMessage("Done!"),
+///     DreamClockMode.WALL_CLOCK
 /// );
 /// timer.start();
 /// </code>
 /// </example>
 public final class DreamTimer {
 
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
     private final Plugin plugin;
     private final long periodTicks;
     private final Consumer<Integer> onTick;                 // remaining seconds
     private final BiConsumer<Integer, Boolean> onPause;     // (remaining, paused=true/false)
     private final Consumer<Integer> onFinish;               // final remaining (0 or below)
+    private final DreamClockMode clockMode;
 
-    private int taskId = -1;
+    private DreamWheelTask task;
     private int remainingSeconds;
     private boolean paused = false;
     private boolean finished = false;
 
+    // --- wall-clock state ---
+    private final int startingSeconds;
+    private Object clockToken;
+    private long anchorNanos;
+    private long accumulatedNanos;
+    private long firedPeriods;
+
     /// <summary>
-    /// Constructs a countdown timer.
+    /// Constructs a tick-counting countdown timer.
     /// </summary>
     /// <param name="plugin">Owning plugin.</param>
     /// <param name="startingSeconds">Starting seconds (negative values are clamped to 0).</param>
-    /// <param name="periodTicks">Scheduler period in ticks (e.g., 20 = 1s updates).</param>
+    /// <param name="periodTicks">Timer period in ticks (e.g., 20 = 1s updates).</param>
     /// <param name="onTick">Callback fired every period with remaining seconds (before decrement).</param>
     /// <param name="onPause">Callback fired on pause/resume with (remaining, paused=true/false).</param>
     /// <param name="onFinish">Callback fired when finished or cancelled (final remaining, clamped to 0).</param>
@@ -77,13 +100,37 @@ public final class DreamTimer {
             Consumer<Integer> onTick,
             BiConsumer<Integer, Boolean> onPause,
             Consumer<Integer> onFinish
+    ) {
+        this(plugin, startingSeconds, periodTicks, onTick, onPause, onFinish, DreamClockMode.TICKS);
+    }
+
+    /// <summary>
+    /// Constructs a countdown timer with an explicit clock mode.
+    /// </summary>
+    /// <param name="plugin">Owning plugin.</param>
+    /// <param name="startingSeconds">Starting seconds (negative values are clamped to 0).</param>
+    /// <param name="periodTicks">Callback period in ticks; in wall-clock mode a period is <c>periodTicks × 50 ms</c> of real time.</param>
+    /// <param name="onTick">Callback fired every period with remaining seconds.</param>
+    /// <param name="onPause">Callback fired on pause/resume with (remaining, paused=true/false).</param>
+    /// <param name="onFinish">Callback fired when finished or cancelled (final remaining, clamped to 0).</param>
+    /// <param name="clockMode">How elapsed time is measured.</param>
+    public DreamTimer(
+            Plugin plugin,
+            int startingSeconds,
+            long periodTicks,
+            Consumer<Integer> onTick,
+            BiConsumer<Integer, Boolean> onPause,
+            Consumer<Integer> onFinish,
+            DreamClockMode clockMode
     ) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
-        this.remainingSeconds = Math.max(0, startingSeconds);
+        this.startingSeconds = Math.max(0, startingSeconds);
+        this.remainingSeconds = this.startingSeconds;
         this.periodTicks = Math.max(1L, periodTicks);
         this.onTick = onTick == null ? s -> {} : onTick;
         this.onPause = onPause == null ? (s, p) -> {} : onPause;
         this.onFinish = onFinish == null ? s -> {} : onFinish;
+        this.clockMode = Objects.requireNonNull(clockMode, "clockMode");
     }
 
     /// <summary>
@@ -94,73 +141,144 @@ public final class DreamTimer {
     /// and finally <see cref="TimerFinishedEvent"/> when it reaches zero.
     /// </remarks>
     public void start() {
-        if (taskId != -1) return;
+        if (isStarted()) return;
         finished = false;
         paused = false;
-        taskId = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (finished || paused) return;
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            final Object token = new Object();
+            clockToken = token;
+            anchorNanos = System.nanoTime();
+            accumulatedNanos = (long) (startingSeconds - remainingSeconds) * NANOS_PER_SECOND;
+            firedPeriods = 0L;
+            DreamCore.DreamClockDriver.register(now -> pollClock(token, now));
+        } else {
+            task = DreamCore.DreamTimingWheel.scheduleRepeating(plugin, 0L, periodTicks, () -> {
+                if (finished || paused) return;
 
-            // fire tick first (with current remaining)
-            onTick.accept(remainingSeconds);
-            Bukkit.getPluginManager().callEvent(new TimerTickEvent(this, remainingSeconds));
-
-            // then decrement and test finish
-            remainingSeconds--;
-            if (remainingSeconds <= 0) {
-                finish();
-            }
-        }, 0L, periodTicks).getTaskId();
-        Bukkit.getPluginManager().callEvent(new TimerStartedEvent(this, remainingSeconds));
+                // fire tick first (with current remaining)
+                onTick.accept(remainingSeconds);
+                DreamEventDispatcher.fire(TimerTickEvent.getHandlerList(), () -> new TimerTickEvent(this, remainingSeconds));
+
+                // then decrement and test finish
+                remainingSeconds--;
+                if (remainingSeconds <= 0) {
+                    finish();
+                }
+            });
+        }
+        new TimerStartedEvent(this, remainingSeconds);
     }
 
     /// <summary>Pauses the timer.</summary>
     /// <remarks>Fires <see cref="TimerPausedEvent"/> once; subsequent calls are ignored while paused.</remarks>
     public void pause() {
-        if (taskId == -1 || paused || finished) return;
+        if (!isStarted() || paused || finished) return;
         paused = true;
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            accumulatedNanos += System.nanoTime() - anchorNanos;
+            remainingSeconds = remainingFor(accumulatedNanos);
+        }
         onPause.accept(remainingSeconds, true);
-        Bukkit.getPluginManager().callEvent(new TimerPausedEvent(this, remainingSeconds));
+        new TimerPausedEvent(this, remainingSeconds);
     }
 
     /// <summary>Resumes a paused timer.</summary>
     /// <remarks>Fires <see cref="TimerResumedEvent"/>.</remarks>
     public void resume() {
-        if (taskId == -1 || !paused || finished) return;
+        if (!isStarted() || !paused || finished) return;
+        if (clockMode == DreamClockMode.WALL_CLOCK) anchorNanos = System.nanoTime();
         paused = false;
         onPause.accept(remainingSeconds, false);
-        Bukkit.getPluginManager().callEvent(new TimerResumedEvent(this, remainingSeconds));
+        new TimerResumedEvent(this, remainingSeconds);
     }
 
     /// <summary>
     /// Cancels the timer early (fires finish events and callbacks).
     /// </summary>
     public void cancel() {
-        if (taskId == -1 || finished) return;
+        if (!isStarted() || finished) return;
+        if (clockMode == DreamClockMode.WALL_CLOCK) {
+            accumulatedNanos = getElapsedNanos();
+            remainingSeconds = remainingFor(accumulatedNanos);
+        }
         finish();
     }
 
+    private boolean pollClock(Object token, long now) {
+        if (token != clockToken) return true;
+        if (paused) return false;
+
+        final long elapsed = accumulatedNanos + (now - anchorNanos);
+        final long durationNanos = startingSeconds * NANOS_PER_SECOND;
+        if (elapsed >= durationNanos) {
+            accumulatedNanos = durationNanos;
+            remainingSeconds = 0;
+            finish();
+            return true;
+        }
+
+        final long duePeriods = elapsed / (periodTicks * NANOS_PER_TICK) + 1L;
+        if (duePeriods > firedPeriods) {
+            final int coalesced = (int) Math.min(Integer.MAX_VALUE, duePeriods - firedPeriods);
+            firedPeriods = duePeriods;
+            remainingSeconds = remainingFor(elapsed);
+            onTick.accept(remainingSeconds);
+            DreamEventDispatcher.fire(TimerTickEvent.getHandlerList(), () -> new TimerTickEvent(this, remainingSeconds, coalesced));
+        }
+        return token != clockToken;
+    }
+
     private void finish() {
         finished = true;
         cancelTask();
         onFinish.accept(Math.max(0, remainingSeconds));
-        Bukkit.getPluginManager().callEvent(new TimerFinishedEvent(this, Math.max(0, remainingSeconds)));
+        new TimerFinishedEvent(this, Math.max(0, remainingSeconds));
     }
 
     private void cancelTask() {
-        if (taskId != -1) {
-            Bukkit.getScheduler().cancelTask(taskId);
-            taskId = -1;
+        if (task != null) {
+            task.cancel();
+            task = null;
         }
+        clockToken = null;
+    }
+
+    private boolean isStarted() {
+        return task != null || clockToken != null;
+    }
+
+    private int remainingFor(long elapsedNanos) {
+        final long left = startingSeconds * NANOS_PER_SECOND - elapsedNanos;
+        return left <= 0L ? 0 : (int) ((left + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
     }
 
     // --- Accessors ---
 
     /// <summary>Remaining seconds (never negative).</summary>
-    /// <returns>Remaining whole seconds.</returns>
-    public int getRemainingSeconds() { return Math.max(0, remainingSeconds); }
+    /// <returns>Remaining whole seconds; rounded up and computed live in wall-clock mode.</returns>
+    public int getRemainingSeconds() {
+        if (clockMode == DreamClockMode.WALL_CLOCK && isStarted() && !finished) return remainingFor(getElapsedNanos());
+        return Math.max(0, remainingSeconds);
+    }
+
+    /// <summary>
+    /// Time the timer has been running, excluding pauses.
+    /// </summary>
+    /// <returns>
+    /// Elapsed nanoseconds. Exact in wall-clock mode; in tick mode derived from completed periods
+    /// (one second each), so it has one-second resolution.
+    /// </returns>
+    public long getElapsedNanos() {
+        if (clockMode == DreamClockMode.TICKS) return (long) (startingSeconds - Math.max(0, remainingSeconds)) * NANOS_PER_SECOND;
+        if (!isStarted() || paused || finished) return accumulatedNanos;
+        return accumulatedNanos + (System.nanoTime() - anchorNanos);
+    }
+
+    /// <summary>How this timer measures time.</summary>
+    public DreamClockMode getClockMode() { return clockMode; }
 
     /// <summary>True if the timer is currently running (started, not paused, not finished).</summary>
-    public boolean isRunning() { return taskId != -1 && !paused && !finished; }
+    public boolean isRunning() { return isStarted() && !paused && !finished; }
 
     /// <summary>True if the timer is paused.</summary>
     public boolean isPaused()  { return paused; }
@@ -39,11 +39,19 @@ public class TimerTickEvent extends Event {
     private final DreamTimer timer;
     /// <summary>Remaining seconds at this tick (pre-decrement).</summary>
     private final int remainingSeconds;
+    /// <summary>Periods covered by this tick; above 1 when a wall-clock timer caught up after lag.</summary>
+    private final int coalescedPeriods;
 
-    /// <summary>Constructs and dispatches the event.</summary>
+    /// <summary>Constructs and dispatches the event for a single period.</summary>
     public TimerTickEvent(DreamTimer timer, int remainingSeconds) {
+        this(timer, remainingSeconds, 1);
+    }
+
+    /// <summary>Constructs and dispatches the event.</summary>
+    public TimerTickEvent(DreamTimer timer, int remainingSeconds, int coalescedPeriods) {
         this.timer = timer;
         this.remainingSeconds = remainingSeconds;
+        this.coalescedPeriods = coalescedPeriods;
         Bukkit.getPluginManager().callEvent(this);
     }
     /// <summary>Static handler list accessor.</summary>
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamTimings;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/// <summary>
+/// Base type of DreamCore's Java Flight Recorder events.
+/// </summary>
+/// <remarks>
+/// Every event carries the ID of the DreamCore object that did the work, the number of elements it
+/// touched (blocks, lines, packets, ...) and the number of players involved, so a recording taken
+/// during a lag spike points at the exact object. Fields are only filled after <see cref="#finish()"/>
+/// reports the event as enabled, which keeps disabled events to a begin/end pair that the JIT elides.
+/// <para>Enable with e.g. <c>-XX:StartFlightRecording</c> or <c>jcmd &lt;pid&gt; JFR.start</c>; events live under the <c>DreamCore</c> category.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// var jfr = new JfrBlockMaskFrame();
+/// jfr.begin();
+/// computeAndSend();
+/// if (jfr.finish()) jfr.commit(player.getUniqueId(), blocks.size(), 1);
+/// </code>
+/// </example>
+@Category("DreamCore")
+@StackTrace(false)
+public abstract class DreamJfrEvent extends jdk.jfr.Event {
+
+    @Label("Object ID")
+    @Description("DreamClassID, player UUID or other key of the DreamCore object")
+    String objectId;
+
+    @Label("Elements")
+    @Description("Blocks, lines, packets or slots processed")
+    int elements;
+
+    @Label("Players")
+    @Description("Players involved (viewers, recipients)")
+    int players;
+
+    /// <summary>
+    /// Ends the timed section.
+    /// </summary>
+    /// <returns><c>true</c> if the event is enabled and above its threshold, i.e. should be committed.</returns>
+    public boolean finish() {
+        end();
+        return shouldCommit();
+    }
+
+    /// <summary>
+    /// Fills the payload and commits the event.
+    /// </summary>
+    /// <param name="objectId">Object identifier; converted with <c>String.valueOf</c>.</param>
+    /// <param name="elements">Element count.</param>
+    /// <param name="players">Player count.</param>
+    public void commit(Object objectId, int elements, int players) {
+        this.objectId = String.valueOf(objectId);
+        this.elements = elements;
+        this.players = players;
+        commit();
+    }
+}
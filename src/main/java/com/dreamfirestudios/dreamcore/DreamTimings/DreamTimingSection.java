@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamTimings;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/// <summary>
+/// Timing statistics for one instrumented piece of DreamCore (a tick lane, a loop, a runnable).
+/// </summary>
+/// <remarks>
+/// Every call is recorded into a log-linear histogram (eight sub-buckets per power of two, so
+/// percentiles are accurate to within 12.5%) together with the number of objects it processed.
+/// Per-object timings feed a small table of the slowest objects seen since the last reset, which
+/// is how a single 8 ms <c>DreamBlockMask</c> shows up among hundreds of cheap ones.
+/// <para>Sections are main-thread only and are obtained through <see cref="DreamTimings#section(String)"/>.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// var section = DreamCore.DreamTimings.section("MyPlugin/Spawner");
+/// long start = section.start();
+/// tickSpawners();
+/// section.stop(start, spawners.size());
+/// </code>
+/// </example>
+public final class DreamTimingSection {
+
+    /// <summary>Number of slowest objects kept per section.</summary>
+    public static final int MAX_OUTLIERS = 5;
+
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = LINEAR_BUCKETS + (63 - 4) * SUB_BUCKETS;
+
+    /// <summary>Section name, e.g. <c>Lane/BlockMasks</c>.</summary>
+    @Getter private final String name;
+
+    /// <summary>Owning profiler; its enabled flag gates recording.</summary>
+    private final DreamTimings timings;
+
+    /// <summary>Number of recorded calls.</summary>
+    @Getter private long calls;
+
+    /// <summary>Sum of all recorded call times in nanoseconds.</summary>
+    @Getter private long totalNanos;
+
+    /// <summary>Slowest recorded call in nanoseconds.</summary>
+    @Getter private long maxNanos;
+
+    /// <summary>Objects processed by the most recent call.</summary>
+    @Getter private int lastObjects;
+
+    /// <summary>Largest number of objects processed by one call.</summary>
+    @Getter private int maxObjects;
+
+    private final long[] buckets = new long[BUCKETS];
+    private final List<DreamTimingOutlier> outliers = new ArrayList<>(MAX_OUTLIERS + 1);
+
+    DreamTimingSection(String name, DreamTimings timings) {
+        this.name = name;
+        this.timings = timings;
+    }
+
+    /// <summary>
+    /// Marks the start of a call.
+    /// </summary>
+    /// <returns>Current <c>System.nanoTime()</c>, or <c>0</c> when profiling is disabled.</returns>
+    public long start() {
+        return timings.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /// <summary>
+    /// Records a call started with <see cref="#start()"/>.
+    /// </summary>
+    /// <param name="start">Value returned by <see cref="#start()"/>.</param>
+    /// <param name="objects">Number of objects the call processed.</param>
+    public void stop(long start, int objects) {
+        if (start == 0L) return;
+        record(System.nanoTime() - start, objects);
+    }
+
+    /// <summary>
+    /// Records one call with a known duration.
+    /// </summary>
+    /// <param name="nanos">Call duration in nanoseconds.</param>
+    /// <param name="objects">Number of objects the call processed.</param>
+    public void record(long nanos, int objects) {
+        if (!timings.isEnabled()) return;
+        if (nanos < 0L) nanos = 0L;
+        calls++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+        lastObjects = objects;
+        if (objects > maxObjects) maxObjects = objects;
+        buckets[bucketOf(nanos)]++;
+    }
+
+    /// <summary>
+    /// Records the time spent on one object during a call.
+    /// </summary>
+    /// <param name="owner">The object (its simple class name is used in reports).</param>
+    /// <param name="key">Registry key or other identifier of the object.</param>
+    /// <param name="nanos">Time spent on the object.</param>
+    /// <remarks>Only the <see cref="#MAX_OUTLIERS"/> slowest objects are kept; the description string is built only for those.</remarks>
+    public void recordObject(Object owner, Object key, long nanos) {
+        recordObject(owner, key, null, nanos);
+    }
+
+    /// <summary>
+    /// Records the time spent on one object during a call, identified by a key and a detail (e.g. a viewer).
+    /// </summary>
+    /// <param name="owner">The object (its simple class name is used in reports).</param>
+    /// <param name="key">Registry key or other identifier of the object.</param>
+    /// <param name="detail">Second part of the description, reported as <c>key @ detail</c>; <c>null</c> to omit.</param>
+    /// <param name="nanos">Time spent on the object.</param>
+    /// <remarks>Pass the parts separately instead of concatenating them: the description is only built for outliers.</remarks>
+    public void recordObject(Object owner, Object key, Object detail, long nanos) {
+        if (!timings.isEnabled()) return;
+        if (outliers.size() == MAX_OUTLIERS && nanos <= outliers.get(MAX_OUTLIERS - 1).nanos()) return;
+        var label = (owner == null ? "null" : owner.getClass().getSimpleName()) + " " + key + (detail == null ? "" : " @ " + detail);
+        outliers.removeIf(outlier -> outlier.object().equals(label) && outlier.nanos() <= nanos);
+        for (var outlier : outliers) if (outlier.object().equals(label)) return;
+        outliers.add(new DreamTimingOutlier(label, nanos, Bukkit.getCurrentTick()));
+        outliers.sort(Comparator.comparingLong(DreamTimingOutlier::nanos).reversed());
+        if (outliers.size() > MAX_OUTLIERS) outliers.remove(MAX_OUTLIERS);
+    }
+
+    /// <summary>
+    /// Estimates a percentile of the recorded call times.
+    /// </summary>
+    /// <param name="percentile">Percentile in <c>(0, 100]</c>.</param>
+    /// <returns>Upper bound of the bucket holding the percentile, capped at <see cref="#getMaxNanos()"/>; <c>0</c> without calls.</returns>
+    /// <exception cref="IllegalArgumentException">If the percentile is out of range.</exception>
+    public long percentileNanos(double percentile) {
+        if (percentile <= 0.0 || percentile > 100.0) throw new IllegalArgumentException("Percentile must be in (0, 100]");
+        if (calls == 0L) return 0L;
+        long target = (long) Math.ceil(calls * (percentile / 100.0));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= target) return Math.min(upperBoundOf(i), maxNanos);
+        }
+        return maxNanos;
+    }
+
+    /// <summary>Median call time in nanoseconds.</summary>
+    public long getP50Nanos() {
+        return percentileNanos(50.0);
+    }
+
+    /// <summary>99th percentile call time in nanoseconds.</summary>
+    public long getP99Nanos() {
+        return percentileNanos(99.0);
+    }
+
+    /// <summary>Mean call time in nanoseconds.</summary>
+    public long getMeanNanos() {
+        return calls == 0L ? 0L : totalNanos / calls;
+    }
+
+    /// <summary>Slowest objects since the last reset, slowest first.</summary>
+    public List<DreamTimingOutlier> getOutliers() {
+        return List.copyOf(outliers);
+    }
+
+    /// <summary>Clears all recorded data.</summary>
+    public void reset() {
+        calls = 0L;
+        totalNanos = 0L;
+        maxNanos = 0L;
+        lastObjects = 0;
+        maxObjects = 0;
+        Arrays.fill(buckets, 0L);
+        outliers.clear();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < LINEAR_BUCKETS) return (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) return bucket;
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamTimings;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/// <summary>
+/// Built-in tick profiler for DreamCore subsystems.
+/// </summary>
+/// <remarks>
+/// DreamCore instruments its own hot paths and names the sections as follows:
+/// <list type="bullet">
+/// <item><c>OneTickClasses</c> / <c>TwentyTickClasses</c> — the whole scheduler call.</item>
+/// <item><c>TimingWheel</c> — timers, teleports and expiries fired by the shared timing wheel, plus wall-clock timers polled by the clock driver.</item>
+/// <item><c>Lane/&lt;name&gt;</c> — one <c>DreamTickLane</c>, with per-object timings.</item>
+/// <item><c>SmartInvs/InvTask</c> — open SmartInvs inventories being updated.</item>
+/// <item><c>DreamCamPath</c> — camera path steps.</item>
+/// <item><c>IDreamLoop/&lt;SimpleName&gt;</c> — every loop registered through <c>DreamClassAPI.RegisterPulseLoop</c>.</item>
+/// </list>
+/// Other plugins can add their own sections. The report is available through
+/// <see cref="#getSections()"/> and the <c>/dreamcore timings</c> command.
+/// <para>Main-thread only.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// for (var section : DreamCore.DreamTimings.getSections()) {
+///     getLogger().info(section.getName() + " p99=" + section.getP99Nanos());
+/// }
+/// </code>
+/// </example>
+public final class DreamTimings {
+
+    /// <summary>Whether sections record data; off by default, so instrumentation is only a flag check until
+    /// <c>/dreamcore timings on</c> (or <see cref="#setEnabled"/>) turns it on.</summary>
+    @Getter @Setter private boolean enabled = false;
+
+    /// <summary>Epoch millis of the last reset (or creation).</summary>
+    @Getter private long sinceMillis = System.currentTimeMillis();
+
+    private final Map<String, DreamTimingSection> sections = new LinkedHashMap<>();
+
+    /// <summary>
+    /// Returns the section with the given name, creating it on first use.
+    /// </summary>
+    /// <param name="name">Section name.</param>
+    /// <returns>The section; callers on hot paths should keep the reference.</returns>
+    public DreamTimingSection section(String name) {
+        Objects.requireNonNull(name, "name");
+        return sections.computeIfAbsent(name, key -> new DreamTimingSection(key, this));
+    }
+
+    /// <summary>
+    /// Looks up an existing section.
+    /// </summary>
+    /// <param name="name">Section name.</param>
+    /// <returns>The section, if it has been created.</returns>
+    public Optional<DreamTimingSection> getSection(String name) {
+        return Optional.ofNullable(sections.get(name));
+    }
+
+    /// <summary>
+    /// Snapshot of all sections, most expensive (total time) first.
+    /// </summary>
+    /// <returns>Sections sorted by total time.</returns>
+    public List<DreamTimingSection> getSections() {
+        var sorted = new ArrayList<>(sections.values());
+        sorted.sort(Comparator.comparingLong(DreamTimingSection::getTotalNanos).reversed());
+        return sorted;
+    }
+
+    /// <summary>
+    /// Clears the data of every section. Sections themselves are kept.
+    /// </summary>
+    public void reset() {
+        for (var section : sections.values()) section.reset();
+        sinceMillis = System.currentTimeMillis();
+    }
+}
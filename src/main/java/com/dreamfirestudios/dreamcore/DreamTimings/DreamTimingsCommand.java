@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamTimings;
+
+import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
+import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabExecutor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/// <summary>
+/// Handler for <c>/dreamcore timings [reset | on | off | &lt;section&gt;]</c>.
+/// </summary>
+/// <remarks>
+/// Without arguments it prints one line per section (most expensive first). Passing a section
+/// name prints its details including the slowest objects. Requires <c>dreamcore.timings</c>.
+/// </remarks>
+public final class DreamTimingsCommand implements TabExecutor {
+
+    private static final List<String> ACTIONS = List.of("reset", "on", "off");
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length == 0 || !args[0].equalsIgnoreCase("timings")) {
+            send(sender, "&7Usage: /" + label + " timings [reset|on|off|<section>]");
+            return true;
+        }
+        var timings = DreamCore.DreamTimings;
+        if (args.length == 1) {
+            var seconds = (System.currentTimeMillis() - timings.getSinceMillis()) / 1000L;
+            send(sender, String.format("&7DreamCore timings &8(%ds, %s)", seconds, timings.isEnabled() ? "enabled" : "disabled"));
+            for (var section : timings.getSections()) {
+                if (section.getCalls() == 0L) continue;
+                send(sender, String.format("&7%s &8calls %d, objs %d/%d, p50 %s, p99 %s, max %s, total %s",
+                        section.getName(), section.getCalls(), section.getLastObjects(), section.getMaxObjects(),
+                        millis(section.getP50Nanos()), millis(section.getP99Nanos()), millis(section.getMaxNanos()), millis(section.getTotalNanos())));
+            }
+            return true;
+        }
+        switch (args[1].toLowerCase()) {
+            case "reset" -> { timings.reset(); send(sender, "&7DreamCore timings reset."); }
+            case "on" -> { timings.setEnabled(true); send(sender, "&7DreamCore timings enabled."); }
+            case "off" -> { timings.setEnabled(false); send(sender, "&7DreamCore timings disabled."); }
+            default -> {
+                var section = timings.getSection(args[1]);
+                if (section.isEmpty()) {
+                    send(sender, "&7Unknown timings section: " + args[1]);
+                    return true;
+                }
+                var value = section.get();
+                send(sender, String.format("&7%s &8calls %d, mean %s, p50 %s, p99 %s, max %s, total %s, objs %d (max %d)",
+                        value.getName(), value.getCalls(), millis(value.getMeanNanos()), millis(value.getP50Nanos()), millis(value.getP99Nanos()),
+                        millis(value.getMaxNanos()), millis(value.getTotalNanos()), value.getLastObjects(), value.getMaxObjects()));
+                for (var outlier : value.getOutliers()) {
+                    send(sender, String.format("&8  %s &7%s &8(tick %d)", outlier.object(), millis(outlier.nanos()), outlier.tick()));
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String label, String[] args) {
+        var completions = new ArrayList<String>();
+        if (args.length == 1) {
+            if ("timings".startsWith(args[0].toLowerCase())) completions.add("timings");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("timings")) {
+            for (var action : ACTIONS) if (action.startsWith(args[1].toLowerCase())) completions.add(action);
+            for (var section : DreamCore.DreamTimings.getSections()) {
+                if (section.getName().toLowerCase().startsWith(args[1].toLowerCase())) completions.add(section.getName());
+            }
+        }
+        return completions;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    private static void send(CommandSender sender, String message) {
+        if (sender instanceof Player player) DreamChat.SendMessageToPlayer(player, message, DreamMessageSettings.all());
+        else DreamChat.SendMessageToConsole(message, DreamMessageSettings.all());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamVanish;
+
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+/// <summary>
+/// Default vanish backend using Bukkit's <c>Player#hideEntity</c> / <c>Player#showEntity</c>.
+/// </summary>
+/// <remarks>
+/// Hidden players also disappear from the viewer's tab list. Every call updates the server's entity tracker.
+/// </remarks>
+public final class BukkitVanishBackend implements IDreamVanishBackend {
+
+    @Override
+    public void hide(Entity target, Player viewer) {
+        viewer.hideEntity(DreamCore.DreamCore, target);
+    }
+
+    @Override
+    public void show(Entity target, Player viewer) {
+        viewer.showEntity(DreamCore.DreamCore, target);
+    }
+}
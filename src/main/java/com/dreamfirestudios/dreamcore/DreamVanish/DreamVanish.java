@@ -24,23 +24,20 @@
 package com.dreamfirestudios.dreamcore.DreamVanish;
 
 import com.dreamfirestudios.dreamcore.DreamCore;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-
 /// <summary>
 /// Static helpers for per-viewer vanish/visibility tracking.
 /// </summary>
 /// <remarks>
-/// This class records viewer → hidden-target intent in <see cref="DreamCore#DreamVanishs"/> (UUID → list of viewers).
-/// Call <see cref="#updateVanishOnAllPlayers()"/> to apply the intent using Bukkit’s hide/show API.
+/// Visibility is stored in <see cref="DreamCore#DreamVanishMatrix"/> and applied immediately: hiding or showing
+/// only calls Bukkit's hide/show API, and only fires an event, when the pair actually changes state.
+/// Joins, quits and late-loading entities are handled by <see cref="VanishListener"/>.
 /// </remarks>
 /// <example>
 /// <code>
 /// DreamVanish.hideTargetFromViewer(targetEntity, viewer);
-/// DreamVanish.updateVanishOnAllPlayers();
 /// </code>
 /// </example>
 public class DreamVanish {
@@ -52,13 +49,7 @@ public class DreamVanish {
     /// <param name="viewer">Viewer who should no longer see the entity.</param>
     public static void hideTargetFromViewer(Entity target, Player viewer) {
         if (target == null || viewer == null) return;
-
-        var hiddenViewers = DreamCore.DreamVanishs.computeIfAbsent(target.getUniqueId(), k -> new ArrayList<>());
-        if (!hiddenViewers.contains(viewer.getUniqueId())) {
-            hiddenViewers.add(viewer.getUniqueId());
-        }
-
-        new VanishHideTargetEvent(target, viewer);
+        if (DreamCore.DreamVanishMatrix.hide(target, viewer)) new VanishHideTargetEvent(target, viewer);
     }
 
     /// <summary>
@@ -68,16 +59,7 @@ public class DreamVanish {
     /// <param name="viewer">Viewer who should see the entity again.</param>
     public static void showTargetToViewer(Entity target, Player viewer) {
         if (target == null || viewer == null) return;
-
-        var hiddenViewers = DreamCore.DreamVanishs.get(target.getUniqueId());
-        if (hiddenViewers != null) {
-            hiddenViewers.remove(viewer.getUniqueId());
-            if (hiddenViewers.isEmpty()) {
-                DreamCore.DreamVanishs.remove(target.getUniqueId());
-            }
-        }
-
-        new VanishShowTargetEvent(target, viewer);
+        if (DreamCore.DreamVanishMatrix.show(target, viewer)) new VanishShowTargetEvent(target, viewer);
     }
 
     /// <summary>
@@ -88,37 +70,16 @@ public class DreamVanish {
     /// <returns>True if visible; false if hidden or if any argument is null.</returns>
     public static boolean canViewerSeeTarget(Entity target, Player viewer) {
         if (target == null || viewer == null) return false;
-
-        var hiddenViewers = DreamCore.DreamVanishs.get(target.getUniqueId());
-        return hiddenViewers == null || !hiddenViewers.contains(viewer.getUniqueId());
+        return !DreamCore.DreamVanishMatrix.isHidden(target.getUniqueId(), viewer);
     }
 
     /// <summary>
-    /// Applies the current vanish matrix to all online players (hide/show).
+    /// Applies hides that are still pending because their target was not loaded.
     /// </summary>
     /// <remarks>
-    /// Call on player join/quit/world change or periodically to reconcile visibility.
+    /// Changes are applied as they happen, so this is only a manual retry; entity loads already trigger it.
     /// </remarks>
     public static void updateVanishOnAllPlayers() {
-        var onlinePlayers = Bukkit.getOnlinePlayers();
-        var viewerHideMatrix = DreamCore.DreamVanishs;
-
-        viewerHideMatrix.forEach((targetUUID, hiddenViewers) -> {
-            var target = Bukkit.getEntity(targetUUID);
-            if (target == null) {
-                viewerHideMatrix.remove(targetUUID);
-                return;
-            }
-
-            for (var viewer : onlinePlayers) {
-                if (viewer.getUniqueId().equals(targetUUID)) continue;
-
-                if (hiddenViewers.contains(viewer.getUniqueId())) {
-                    viewer.hideEntity(DreamCore.DreamCore, target);
-                } else {
-                    viewer.showEntity(DreamCore.DreamCore, target);
-                }
-            }
-        });
+        DreamCore.DreamVanishMatrix.applyPending();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamVanish;
+
+import com.dreamfirestudios.dreamcore.DreamTimings.JfrVanishPass;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/// <summary>
+/// Per-viewer visibility matrix: for every hidden target, a bitset of the online viewers it is hidden from.
+/// </summary>
+/// <remarks>
+/// <list type="bullet">
+/// <item>Every online player owns a slot index; slots of players who quit are reused.</item>
+/// <item>Hiding and showing flip one bit and call Bukkit's hide/show right away, only when the bit actually
+/// changes.</item>
+/// <item>Hides that cannot be applied yet, because the target entity is not loaded, are kept as pending bits
+/// and applied when the entity is added to a world.</item>
+/// <item>When a viewer quits, the targets hidden from them are parked by UUID and restored on rejoin.</item>
+/// </list>
+/// Transitions are applied through an <see cref="IDreamVanishBackend"/>: <see cref="BukkitVanishBackend"/> by default,
+/// or <see cref="PacketVanishBackend"/> to hide through ProtocolLib without touching the entity tracker.
+/// Main thread only. <see cref="VanishListener"/> feeds joins, quits and entity loads into the matrix.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamVanishMatrix.hide(staff, viewer);
+/// boolean hidden = DreamCore.DreamVanishMatrix.isHidden(staff.getUniqueId(), viewer);
+/// </code>
+/// </example>
+public final class DreamVanishMatrix {
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    private Player[] viewers = new Player[16];
+    private final Map<UUID, Target> targets = new HashMap<>();
+    private final Map<UUID, Set<UUID>> parked = new HashMap<>();
+    @Getter private IDreamVanishBackend backend = new BukkitVanishBackend();
+    private final Map<UUID, List<UUID>> view = new AbstractMap<>() {
+        @Override public Set<Entry<UUID, List<UUID>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override public Iterator<Entry<UUID, List<UUID>>> iterator() {
+                    final Iterator<UUID> ids = targets.keySet().iterator();
+                    return new Iterator<>() {
+                        @Override public boolean hasNext() { return ids.hasNext(); }
+                        @Override public Entry<UUID, List<UUID>> next() {
+                            final UUID id = ids.next();
+                            return new SimpleImmutableEntry<>(id, hiddenViewerIds(id));
+                        }
+                    };
+                }
+                @Override public int size() { return targets.size(); }
+            };
+        }
+        @Override public boolean containsKey(Object key) { return targets.containsKey(key); }
+        @Override public List<UUID> get(Object key) { return key instanceof UUID id && targets.containsKey(id) ? hiddenViewerIds(id) : null; }
+    };
+
+    /// <summary>Viewers a target is hidden from, and the subset whose hide still has to be applied.</summary>
+    private static final class Target {
+        private final BitSet hidden = new BitSet();
+        private final BitSet pending = new BitSet();
+    }
+
+    /// <summary>
+    /// Hides a target from a viewer.
+    /// </summary>
+    /// <param name="target">Entity to hide.</param>
+    /// <param name="viewer">Viewer; offline viewers get the hide when they join.</param>
+    /// <returns><c>true</c> if the target was visible to the viewer before.</returns>
+    public boolean hide(Entity target, Player viewer) {
+        if (target == null || viewer == null) throw new IllegalArgumentException("Target and viewer cannot be null");
+        if (!viewer.isOnline()) return parked.computeIfAbsent(viewer.getUniqueId(), id -> new HashSet<>()).add(target.getUniqueId());
+        final int slot = slotOf(viewer);
+        final Target entry = targets.computeIfAbsent(target.getUniqueId(), id -> new Target());
+        if (entry.hidden.get(slot)) return false;
+        entry.hidden.set(slot);
+        applyHide(entry, slot, viewer, target);
+        return true;
+    }
+
+    /// <summary>
+    /// Shows a previously hidden target to a viewer.
+    /// </summary>
+    /// <param name="target">Entity to show.</param>
+    /// <param name="viewer">Viewer.</param>
+    /// <returns><c>true</c> if the target was hidden from the viewer before.</returns>
+    public boolean show(Entity target, Player viewer) {
+        if (target == null || viewer == null) throw new IllegalArgumentException("Target and viewer cannot be null");
+        if (!viewer.isOnline()) return removeParked(viewer.getUniqueId(), target.getUniqueId());
+        final Integer slot = slots.get(viewer.getUniqueId());
+        final Target entry = targets.get(target.getUniqueId());
+        if (slot == null || entry == null || !entry.hidden.get(slot)) return false;
+        entry.hidden.clear(slot);
+        final boolean applied = !entry.pending.get(slot);
+        entry.pending.clear(slot);
+        if (entry.hidden.isEmpty()) targets.remove(target.getUniqueId());
+        if (applied && viewer != target) backend.show(target, viewer);
+        return true;
+    }
+
+    /// <summary>
+    /// Checks whether a target is hidden from a viewer.
+    /// </summary>
+    /// <param name="targetId">Target entity UUID.</param>
+    /// <param name="viewer">Viewer.</param>
+    /// <returns><c>true</c> if hidden.</returns>
+    public boolean isHidden(UUID targetId, Player viewer) {
+        if (targetId == null || viewer == null) return false;
+        final Integer slot = slots.get(viewer.getUniqueId());
+        if (slot == null) {
+            final Set<UUID> hidden = parked.get(viewer.getUniqueId());
+            return hidden != null && hidden.contains(targetId);
+        }
+        final Target entry = targets.get(targetId);
+        return entry != null && entry.hidden.get(slot);
+    }
+
+    /// <returns>Online viewers a target is hidden from.</returns>
+    public List<Player> getHiddenFrom(UUID targetId) {
+        final Target entry = targetId == null ? null : targets.get(targetId);
+        if (entry == null) return List.of();
+        final List<Player> result = new ArrayList<>(entry.hidden.cardinality());
+        for (int slot = entry.hidden.nextSetBit(0); slot >= 0; slot = entry.hidden.nextSetBit(slot + 1)) result.add(viewers[slot]);
+        return result;
+    }
+
+    /// <summary>
+    /// Read-only live view of the matrix: target UUID → UUIDs of the online viewers it is hidden from.
+    /// </summary>
+    /// <returns>A view backed by the matrix; main thread only.</returns>
+    /// <remarks>Backs the deprecated <c>DreamCore.DreamVanishs</c> field; hide and show through this class instead.</remarks>
+    public Map<UUID, List<UUID>> asMap() {
+        return view;
+    }
+
+    /// <returns>Number of targets hidden from at least one online viewer.</returns>
+    public int getTargetCount() {
+        return targets.size();
+    }
+
+    /// <summary>
+    /// Retries every pending hide whose target is loaded now.
+    /// </summary>
+    /// <returns>Number of hides applied.</returns>
+    public int applyPending() {
+        int applied = 0;
+        for (Map.Entry<UUID, Target> e : targets.entrySet()) {
+            final Target entry = e.getValue();
+            if (entry.pending.isEmpty()) continue;
+            final Entity target = Bukkit.getEntity(e.getKey());
+            if (target == null) continue;
+            final var jfr = new JfrVanishPass();
+            jfr.begin();
+            final int count = entry.pending.cardinality();
+            applyPending(entry, target);
+            applied += count;
+            if (jfr.finish()) jfr.commit(e.getKey(), entry.hidden.cardinality(), count);
+        }
+        return applied;
+    }
+
+    /// <summary>
+    /// Switches the backend, moving every applied hide over to it.
+    /// </summary>
+    /// <param name="backend">The new backend.</param>
+    public void setBackend(IDreamVanishBackend backend) {
+        if (backend == null) throw new IllegalArgumentException("Backend cannot be null");
+        if (backend == this.backend) return;
+        forEachApplied(this.backend::show);
+        this.backend.close();
+        this.backend = backend;
+        backend.open();
+        forEachApplied(backend::hide);
+    }
+
+    /// <summary>
+    /// Gives a joining player a slot and restores the hides parked when they quit.
+    /// </summary>
+    /// <param name="viewer">The player that joined.</param>
+    public void onJoin(Player viewer) {
+        final int slot = slotOf(viewer);
+        final Set<UUID> hidden = parked.remove(viewer.getUniqueId());
+        if (hidden == null) return;
+        for (UUID targetId : hidden) {
+            final Target entry = targets.computeIfAbsent(targetId, id -> new Target());
+            entry.hidden.set(slot);
+            applyHide(entry, slot, viewer, Bukkit.getEntity(targetId));
+        }
+    }
+
+    /// <summary>
+    /// Parks the hides of a quitting player and frees their slot.
+    /// </summary>
+    /// <param name="viewer">The player that quit.</param>
+    public void onQuit(Player viewer) {
+        final Integer slot = slots.remove(viewer.getUniqueId());
+        if (slot == null) return;
+        final Set<UUID> hidden = new HashSet<>();
+        for (Iterator<Map.Entry<UUID, Target>> it = targets.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<UUID, Target> e = it.next();
+            final Target entry = e.getValue();
+            if (!entry.hidden.get(slot)) continue;
+            hidden.add(e.getKey());
+            entry.hidden.clear(slot);
+            entry.pending.clear(slot);
+            if (entry.hidden.isEmpty()) it.remove();
+        }
+        if (!hidden.isEmpty()) parked.put(viewer.getUniqueId(), hidden);
+        usedSlots.clear(slot);
+        viewers[slot] = null;
+        backend.onViewerQuit(viewer);
+    }
+
+    /// <summary>
+    /// Applies pending hides of an entity that was just added to a world.
+    /// </summary>
+    /// <param name="target">The loaded entity.</param>
+    public void onEntityLoad(Entity target) {
+        final Target entry = targets.get(target.getUniqueId());
+        if (entry == null) return;
+        if (entry.pending.cardinality() != entry.hidden.cardinality()) backend.onTargetLoad(target, getHiddenFrom(target.getUniqueId()));
+        if (!entry.pending.isEmpty()) applyPending(entry, target);
+    }
+
+    /// <summary>
+    /// Forgets a target that was removed for good, including hides parked for offline viewers.
+    /// </summary>
+    /// <param name="targetId">UUID of the removed entity.</param>
+    /// <remarks>Nothing is shown again: the entity is gone for every client already.</remarks>
+    public void onEntityRemoved(UUID targetId) {
+        final boolean known = targets.remove(targetId) != null;
+        parked.values().removeIf(hidden -> hidden.remove(targetId) && hidden.isEmpty());
+        if (known) backend.onTargetRemoved(targetId);
+    }
+
+    /// <summary>
+    /// Shows every hidden target again and forgets all state, including parked hides.
+    /// </summary>
+    public void clear() {
+        forEachApplied(backend::show);
+        targets.clear();
+        parked.clear();
+    }
+
+    private List<UUID> hiddenViewerIds(UUID targetId) {
+        final List<UUID> result = new ArrayList<>();
+        for (Player viewer : getHiddenFrom(targetId)) result.add(viewer.getUniqueId());
+        return result;
+    }
+
+    private void forEachApplied(BiConsumer<Entity, Player> action) {
+        for (Map.Entry<UUID, Target> e : targets.entrySet()) {
+            final Entity target = Bukkit.getEntity(e.getKey());
+            if (target == null) continue;
+            final BitSet applied = (BitSet) e.getValue().hidden.clone();
+            applied.andNot(e.getValue().pending);
+            for (int slot = applied.nextSetBit(0); slot >= 0; slot = applied.nextSetBit(slot + 1)) {
+                if (viewers[slot] != target) action.accept(target, viewers[slot]);
+            }
+        }
+    }
+
+    private void applyHide(Target entry, int slot, Player viewer, Entity target) {
+        if (target == null) {
+            entry.pending.set(slot);
+            return;
+        }
+        entry.pending.clear(slot);
+        if (viewer != target) backend.hide(target, viewer);
+    }
+
+    private void applyPending(Target entry, Entity target) {
+        for (int slot = entry.pending.nextSetBit(0); slot >= 0; slot = entry.pending.nextSetBit(slot + 1)) {
+            if (viewers[slot] != target) backend.hide(target, viewers[slot]);
+        }
+        entry.pending.clear();
+    }
+
+    /// <summary>Drops a parked hide of an offline viewer.</summary>
+    /// <returns><c>true</c> if it was parked.</returns>
+    private boolean removeParked(UUID viewerId, UUID targetId) {
+        final Set<UUID> hidden = parked.get(viewerId);
+        if (hidden == null || !hidden.remove(targetId)) return false;
+        if (hidden.isEmpty()) parked.remove(viewerId);
+        return true;
+    }
+
+    private int slotOf(Player viewer) {
+        final Integer known = slots.get(viewer.getUniqueId());
+        if (known != null) {
+            viewers[known] = viewer;
+            return known;
+        }
+        final int slot = usedSlots.nextClearBit(0);
+        if (slot >= viewers.length) viewers = Arrays.copyOf(viewers, viewers.length * 2);
+        usedSlots.set(slot);
+        viewers[slot] = viewer;
+        slots.put(viewer.getUniqueId(), slot);
+        return slot;
+    }
+}
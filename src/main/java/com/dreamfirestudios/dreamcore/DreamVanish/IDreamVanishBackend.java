@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamVanish;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.UUID;
+
+/// <summary>
+/// Applies the transitions of <see cref="DreamVanishMatrix"/> to clients.
+/// </summary>
+/// <remarks>
+/// The matrix only calls the backend when a viewer-target pair actually changes, never for a target hidden from
+/// itself, and only on the main thread.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamVanishMatrix.setBackend(new PacketVanishBackend());
+/// </code>
+/// </example>
+public interface IDreamVanishBackend {
+
+    /// <summary>Stops the viewer from seeing the target.</summary>
+    void hide(Entity target, Player viewer);
+
+    /// <summary>Lets the viewer see the target again.</summary>
+    void show(Entity target, Player viewer);
+
+    /// <summary>Called when a target with applied hides is added to a world again, e.g. after a relog.</summary>
+    /// <param name="target">The loaded entity.</param>
+    /// <param name="hiddenFrom">Online viewers it is hidden from.</param>
+    default void onTargetLoad(Entity target, List<Player> hiddenFrom) { }
+
+    /// <summary>Called after a target was removed for good (died, despawned); the matrix has already dropped it.</summary>
+    /// <param name="targetId">UUID of the removed target.</param>
+    default void onTargetRemoved(UUID targetId) { }
+
+    /// <summary>Called after a viewer quit; the matrix has already dropped their hides.</summary>
+    default void onViewerQuit(Player viewer) { }
+
+    /// <summary>Called when the backend is installed, before any hide.</summary>
+    default void open() { }
+
+    /// <summary>Called when the backend is replaced, after every hide was undone.</summary>
+    default void close() { }
+}
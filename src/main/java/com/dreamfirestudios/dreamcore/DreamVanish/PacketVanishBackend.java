@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamVanish;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import com.dreamfirestudios.dreamcore.DreamCore;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// <summary>
+/// Vanish backend that hides entities by filtering their packets per viewer through ProtocolLib.
+/// </summary>
+/// <remarks>
+/// <list type="bullet">
+/// <item>Hiding sends the viewer a destroy packet for the target; afterwards the target's spawn, metadata,
+/// movement, equipment and other entity packets to that viewer are cancelled.</item>
+/// <item>Showing asks ProtocolLib to re-send the target to the viewer through the entity tracker.</item>
+/// <item>The server's tracker is never changed, and hidden players stay in the viewer's tab list. Entity packets
+/// not filtered here are ignored by the client once the entity is destroyed.</item>
+/// </list>
+/// Packets go through one concurrent map lookup by entity ID, and none at all while nothing is hidden.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamVanishMatrix.setBackend(new PacketVanishBackend());
+/// </code>
+/// </example>
+public final class PacketVanishBackend implements IDreamVanishBackend {
+
+    /// <summary>Outgoing packets that carry a target's entity ID as their first integer.</summary>
+    private static final List<PacketType> FILTERED = List.of(
+            PacketType.Play.Server.SPAWN_ENTITY,
+            PacketType.Play.Server.ENTITY_METADATA,
+            PacketType.Play.Server.REL_ENTITY_MOVE,
+            PacketType.Play.Server.REL_ENTITY_MOVE_LOOK,
+            PacketType.Play.Server.ENTITY_LOOK,
+            PacketType.Play.Server.ENTITY_TELEPORT,
+            PacketType.Play.Server.ENTITY_HEAD_ROTATION,
+            PacketType.Play.Server.ENTITY_VELOCITY,
+            PacketType.Play.Server.ENTITY_EQUIPMENT,
+            PacketType.Play.Server.ENTITY_STATUS,
+            PacketType.Play.Server.ENTITY_EFFECT,
+            PacketType.Play.Server.REMOVE_ENTITY_EFFECT,
+            PacketType.Play.Server.UPDATE_ATTRIBUTES,
+            PacketType.Play.Server.ANIMATION,
+            PacketType.Play.Server.HURT_ANIMATION);
+
+    /// <summary>Entity ID → viewers it is hidden from; read on the network threads.</summary>
+    private final Map<Integer, Set<UUID>> hiddenByEntityId = new ConcurrentHashMap<>();
+    /// <summary>Target UUID → entity ID it was hidden under; main thread only.</summary>
+    private final Map<UUID, Integer> entityIds = new HashMap<>();
+    private PacketAdapter adapter;
+
+    @Override
+    public void open() {
+        adapter = new PacketAdapter(DreamCore.DreamCore, ListenerPriority.HIGH, FILTERED) {
+            @Override
+            public void onPacketSending(PacketEvent event) {
+                if (hiddenByEntityId.isEmpty() || event.isPlayerTemporary()) return;
+                final Set<UUID> viewers = hiddenByEntityId.get(event.getPacket().getIntegers().read(0));
+                if (viewers != null && viewers.contains(event.getPlayer().getUniqueId())) event.setCancelled(true);
+            }
+        };
+        DreamCore.ProtocolManager.addPacketListener(adapter);
+    }
+
+    @Override
+    public void close() {
+        if (adapter != null) DreamCore.ProtocolManager.removePacketListener(adapter);
+        adapter = null;
+        hiddenByEntityId.clear();
+        entityIds.clear();
+    }
+
+    @Override
+    public void hide(Entity target, Player viewer) {
+        final int entityId = target.getEntityId();
+        entityIds.put(target.getUniqueId(), entityId);
+        hiddenByEntityId.computeIfAbsent(entityId, id -> ConcurrentHashMap.newKeySet()).add(viewer.getUniqueId());
+        final PacketContainer destroy = DreamCore.ProtocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        destroy.getIntLists().write(0, List.of(entityId));
+        DreamCore.ProtocolManager.sendServerPacket(viewer, destroy);
+    }
+
+    @Override
+    public void show(Entity target, Player viewer) {
+        final Integer entityId = entityIds.get(target.getUniqueId());
+        if (entityId == null) return;
+        final Set<UUID> viewers = hiddenByEntityId.get(entityId);
+        if (viewers == null || !viewers.remove(viewer.getUniqueId())) return;
+        if (viewers.isEmpty()) {
+            hiddenByEntityId.remove(entityId);
+            entityIds.remove(target.getUniqueId());
+        }
+        DreamCore.ProtocolManager.updateEntity(target, List.of(viewer));
+    }
+
+    @Override
+    public void onTargetLoad(Entity target, List<Player> hiddenFrom) {
+        final Integer previous = entityIds.get(target.getUniqueId());
+        if (previous == null || previous == target.getEntityId()) return;
+        final Set<UUID> viewers = hiddenByEntityId.remove(previous);
+        entityIds.put(target.getUniqueId(), target.getEntityId());
+        if (viewers != null) hiddenByEntityId.put(target.getEntityId(), viewers);
+    }
+
+    @Override
+    public void onTargetRemoved(UUID targetId) {
+        final Integer entityId = entityIds.remove(targetId);
+        if (entityId != null) hiddenByEntityId.remove(entityId);
+    }
+
+    @Override
+    public void onViewerQuit(Player viewer) {
+        final UUID viewerId = viewer.getUniqueId();
+        entityIds.values().removeIf(entityId -> {
+            final Set<UUID> viewers = hiddenByEntityId.get(entityId);
+            if (viewers == null) return true;
+            viewers.remove(viewerId);
+            if (!viewers.isEmpty()) return false;
+            hiddenByEntityId.remove(entityId);
+            return true;
+        });
+    }
+}
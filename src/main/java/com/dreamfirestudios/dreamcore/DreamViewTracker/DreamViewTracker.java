@@ -0,0 +1,353 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamViewTracker;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/// <summary>
+/// Tracks, per registered object, the set of players inside its view range.
+/// </summary>
+/// <remarks>
+/// <list type="bullet">
+/// <item>Every object is filed under each chunk its range covers, so a player move only tests the objects of
+/// the player's current chunk instead of every object in the world.</item>
+/// <item>Players are re-evaluated when they move to another block, and after joins, teleports, respawns and
+/// world changes (see <see cref="ViewTrackerListener"/>).</item>
+/// <item>Objects use it to suspend work nobody can see: <see cref="#hasViewers(UUID)"/> to skip frames,
+/// <see cref="#update(UUID, Runnable)"/> to defer an update until the first viewer arrives, and an
+/// <see cref="IDreamViewListener"/> to react to viewers entering and leaving.</item>
+/// </list>
+/// Main thread only.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamCore.DreamViewTracker.track(id, location, 32, listener);
+/// if (!DreamCore.DreamViewTracker.hasViewers(id)) return; // skip the frame
+/// </code>
+/// </example>
+public final class DreamViewTracker {
+
+    /// <summary>Blocks covered by a display entity's view range of 1.0 (before the client's entity distance scaling).</summary>
+    public static final double DISPLAY_RANGE_UNIT = 64.0;
+
+    private static final IDreamViewListener NO_LISTENER = new IDreamViewListener() { };
+
+    private final Map<UUID, View> views = new HashMap<>();
+    private final Map<UUID, Map<Long, List<View>>> buckets = new HashMap<>();
+    private final Map<UUID, Set<View>> viewing = new HashMap<>();
+
+    /// <summary>A tracked object: its position, range, chunk footprint and current viewers.</summary>
+    private static final class View {
+        private final UUID id;
+        private final IDreamViewListener listener;
+        private final Set<UUID> viewers = new HashSet<>();
+        private UUID worldId;
+        private double x, y, z, range, rangeSquared;
+        private int minChunkX, minChunkZ, maxChunkX, maxChunkZ;
+        private Runnable pending;
+
+        private View(UUID id, IDreamViewListener listener) {
+            this.id = id;
+            this.listener = listener;
+        }
+
+        private boolean inRange(Location location) {
+            final double dx = location.getX() - x, dy = location.getY() - y, dz = location.getZ() - z;
+            return dx * dx + dy * dy + dz * dz <= rangeSquared;
+        }
+    }
+
+    /// <summary>
+    /// Starts tracking an object, or moves it if the id is already tracked, and evaluates nearby players right away.
+    /// </summary>
+    /// <param name="id">Object id, e.g. a hologram id or display entity UUID.</param>
+    /// <param name="location">Object location; its world must be set.</param>
+    /// <param name="range">View range in blocks, &gt; 0.</param>
+    /// <param name="listener">Viewer transition callbacks, or <c>null</c>.</param>
+    /// <exception cref="IllegalArgumentException">Thrown if the location has no world or the range is not positive.</exception>
+    public void track(UUID id, Location location, double range, IDreamViewListener listener) {
+        if (id == null || location == null || location.getWorld() == null) throw new IllegalArgumentException("Id and location with a world are required");
+        if (range <= 0) throw new IllegalArgumentException("range must be > 0");
+        View view = views.get(id);
+        if (view == null) {
+            view = new View(id, listener == null ? NO_LISTENER : listener);
+            views.put(id, view);
+        } else {
+            unfile(view);
+        }
+        place(view, location, range);
+        file(view);
+        revalidate(view, location.getWorld());
+    }
+
+    /// <summary>
+    /// Tracks a display entity with the range the client renders it at.
+    /// </summary>
+    /// <param name="display">Display entity.</param>
+    /// <remarks>
+    /// The entry is dropped again when the entity is removed (not when its chunk unloads), and follows the entity
+    /// when a <c>EntityTeleportEvent</c> moves it. Plugin teleports fire no event, so code that teleports a tracked
+    /// display calls <see cref="#move(UUID, Location)"/> as well.
+    /// </remarks>
+    public void trackDisplay(Display display) {
+        track(display.getUniqueId(), display.getLocation(), Math.max(1.0, display.getViewRange() * DISPLAY_RANGE_UNIT), null);
+    }
+
+    /// <summary>
+    /// Moves a tracked object and re-evaluates its viewers.
+    /// </summary>
+    /// <param name="id">Object id.</param>
+    /// <param name="location">New location.</param>
+    public void move(UUID id, Location location) {
+        final View view = views.get(id);
+        if (view != null) track(id, location, view.range, view.listener);
+    }
+
+    /// <summary>
+    /// Stops tracking an object. Listener callbacks are not invoked.
+    /// </summary>
+    /// <param name="id">Object id.</param>
+    public void untrack(UUID id) {
+        final View view = views.remove(id);
+        if (view == null) return;
+        unfile(view);
+        for (UUID viewerId : view.viewers) {
+            final Set<View> seen = viewing.get(viewerId);
+            if (seen != null) seen.remove(view);
+        }
+    }
+
+    /// <summary>Checks whether an object is tracked.</summary>
+    /// <param name="id">Object id.</param>
+    /// <returns><c>true</c> if tracked.</returns>
+    public boolean isTracked(UUID id) {
+        return views.containsKey(id);
+    }
+
+    /// <summary>
+    /// Checks whether anybody is in range of an object. Untracked objects count as viewed, so callers
+    /// never suspend work for objects the tracker does not know.
+    /// </summary>
+    /// <param name="id">Object id.</param>
+    /// <returns><c>true</c> if the object has viewers or is not tracked.</returns>
+    public boolean hasViewers(UUID id) {
+        final View view = views.get(id);
+        return view == null || !view.viewers.isEmpty();
+    }
+
+    /// <summary>Returns the players in range of an object.</summary>
+    /// <param name="id">Object id.</param>
+    /// <returns>Unmodifiable live view of the viewer UUIDs; empty if untracked.</returns>
+    public Set<UUID> getViewers(UUID id) {
+        final View view = views.get(id);
+        return view == null ? Set.of() : Collections.unmodifiableSet(view.viewers);
+    }
+
+    /// <summary>Number of tracked objects.</summary>
+    public int getTrackedCount() {
+        return views.size();
+    }
+
+    /// <summary>
+    /// Runs an update now if the object has viewers, otherwise keeps it until the first viewer arrives.
+    /// </summary>
+    /// <param name="id">Object id.</param>
+    /// <param name="update">Update to apply; a later deferred update replaces an earlier one.</param>
+    /// <remarks>Only the latest update is kept, so it should apply the full state rather than a delta.</remarks>
+    public void update(UUID id, Runnable update) {
+        final View view = views.get(id);
+        if (view == null || !view.viewers.isEmpty()) {
+            update.run();
+            return;
+        }
+        view.pending = update;
+    }
+
+    /// <summary>
+    /// Entity flavour of <see cref="#update(UUID, Runnable)"/> that survives chunk reloads.
+    /// </summary>
+    /// <typeparam name="T">Entity type.</typeparam>
+    /// <param name="entity">Entity to update.</param>
+    /// <param name="update">Update to apply to the entity.</param>
+    /// <remarks>
+    /// A deferred update keeps only the entity's UUID and looks the entity up again when it runs, since the
+    /// original object is invalid once its chunk has been unloaded and reloaded. It is dropped if the entity
+    /// no longer exists by then.
+    /// </remarks>
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> void update(T entity, Consumer<? super T> update) {
+        final UUID id = entity.getUniqueId();
+        final View view = views.get(id);
+        if (view == null || !view.viewers.isEmpty()) {
+            update.accept(entity);
+            return;
+        }
+        final Class<? extends Entity> type = entity.getClass();
+        view.pending = () -> {
+            final Entity current = Bukkit.getEntity(id);
+            if (type.isInstance(current)) update.accept((T) current);
+        };
+    }
+
+    /// <summary>
+    /// Re-evaluates which tracked objects a player can see at a location.
+    /// </summary>
+    /// <param name="player">Player.</param>
+    /// <param name="location">Player location, normally <c>player.getLocation()</c> or a move destination.</param>
+    public void evaluate(Player player, Location location) {
+        final World world = location.getWorld();
+        if (world == null) return;
+        final UUID playerId = player.getUniqueId();
+        Set<View> seen = viewing.get(playerId);
+
+        if (seen != null && !seen.isEmpty()) {
+            final List<View> left = new ArrayList<>();
+            for (View view : seen) {
+                if (!view.worldId.equals(world.getUID()) || !view.inRange(location)) left.add(view);
+            }
+            for (View view : left) leave(view, seen, player);
+        }
+
+        final Map<Long, List<View>> worldBuckets = buckets.get(world.getUID());
+        if (worldBuckets == null) return;
+        final List<View> candidates = worldBuckets.get(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        if (candidates == null) return;
+        // Indexed: an enter callback may untrack objects and shrink the bucket.
+        for (int i = 0; i < candidates.size(); i++) {
+            final View view = candidates.get(i);
+            if (seen != null && seen.contains(view)) continue;
+            if (!view.inRange(location)) continue;
+            if (seen == null) viewing.put(playerId, seen = new HashSet<>());
+            enter(view, seen, player);
+        }
+    }
+
+    /// <summary>
+    /// Removes a player from every object they view, invoking the leave callbacks.
+    /// </summary>
+    /// <param name="player">Player who quit, respawned, or is otherwise reset.</param>
+    public void forget(Player player) {
+        final Set<View> seen = viewing.remove(player.getUniqueId());
+        if (seen == null) return;
+        for (View view : new ArrayList<>(seen)) leave(view, seen, player);
+    }
+
+    /// <summary>Drops every tracked object and viewer without invoking callbacks.</summary>
+    /// <remarks>Called by DreamCore on disable.</remarks>
+    public void clear() {
+        views.clear();
+        buckets.clear();
+        viewing.clear();
+    }
+
+    private void enter(View view, Set<View> seen, Player player) {
+        seen.add(view);
+        view.viewers.add(player.getUniqueId());
+        view.listener.onViewerEnter(player);
+        final Runnable pending = view.pending;
+        if (pending != null && views.get(view.id) == view) {
+            view.pending = null;
+            pending.run();
+        }
+    }
+
+    private void leave(View view, Set<View> seen, Player player) {
+        seen.remove(view);
+        view.viewers.remove(player.getUniqueId());
+        view.listener.onViewerLeave(player);
+    }
+
+    /// <summary>Re-checks current viewers and nearby players after an object was placed or moved.</summary>
+    private void revalidate(View view, World world) {
+        for (UUID viewerId : new ArrayList<>(view.viewers)) {
+            final Player player = Bukkit.getPlayer(viewerId);
+            if (player == null) {
+                view.viewers.remove(viewerId);
+                continue;
+            }
+            final Location location = player.getLocation();
+            if (!world.equals(location.getWorld()) || !view.inRange(location)) leave(view, viewing.get(viewerId), player);
+        }
+        for (Player player : world.getPlayers()) {
+            if (view.viewers.contains(player.getUniqueId()) || !view.inRange(player.getLocation())) continue;
+            enter(view, viewing.computeIfAbsent(player.getUniqueId(), ignored -> new HashSet<>()), player);
+        }
+    }
+
+    private static void place(View view, Location location, double range) {
+        view.worldId = location.getWorld().getUID();
+        view.x = location.getX();
+        view.y = location.getY();
+        view.z = location.getZ();
+        view.range = range;
+        view.rangeSquared = range * range;
+        view.minChunkX = (int) Math.floor(view.x - range) >> 4;
+        view.minChunkZ = (int) Math.floor(view.z - range) >> 4;
+        view.maxChunkX = (int) Math.floor(view.x + range) >> 4;
+        view.maxChunkZ = (int) Math.floor(view.z + range) >> 4;
+    }
+
+    private void file(View view) {
+        final Map<Long, List<View>> worldBuckets = buckets.computeIfAbsent(view.worldId, ignored -> new HashMap<>());
+        for (int cx = view.minChunkX; cx <= view.maxChunkX; cx++) {
+            for (int cz = view.minChunkZ; cz <= view.maxChunkZ; cz++) {
+                worldBuckets.computeIfAbsent(chunkKey(cx, cz), ignored -> new ArrayList<>(4)).add(view);
+            }
+        }
+    }
+
+    private void unfile(View view) {
+        final Map<Long, List<View>> worldBuckets = buckets.get(view.worldId);
+        if (worldBuckets == null) return;
+        for (int cx = view.minChunkX; cx <= view.maxChunkX; cx++) {
+            for (int cz = view.minChunkZ; cz <= view.maxChunkZ; cz++) {
+                final long key = chunkKey(cx, cz);
+                final List<View> bucket = worldBuckets.get(key);
+                if (bucket == null) continue;
+                bucket.remove(view);
+                if (bucket.isEmpty()) worldBuckets.remove(key);
+            }
+        }
+        if (worldBuckets.isEmpty()) buckets.remove(view.worldId);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamViewTracker;
+
+import org.bukkit.entity.Player;
+
+/// <summary>
+/// Receives viewer transitions of an object registered with <see cref="DreamViewTracker"/>.
+/// </summary>
+/// <remarks>Called on the main thread. The player is still online in <see cref="#onViewerLeave(Player)"/>, also on quit.</remarks>
+public interface IDreamViewListener {
+
+    /// <summary>Called when a player comes into view range.</summary>
+    /// <param name="player">The new viewer.</param>
+    default void onViewerEnter(Player player) { }
+
+    /// <summary>Called when a player leaves view range, changes world, respawns or quits.</summary>
+    /// <param name="player">The former viewer.</param>
+    default void onViewerLeave(Player player) { }
+}
@@ -23,6 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamfireStorage;
 
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -116,7 +118,7 @@ public class DreamfireStorageManager {
      * </example>
      */
     public <T> DreamfireStorageObject<T> storeData(Object key, DreamfireStorageObject<T> obj, UUID uuid) {
-        if(!new StorageObjectAddedEvent(obj).isCancelled()){
+        if(!DreamEventDispatcher.isCancelled(StorageObjectAddedEvent.getHandlerList(), () -> new StorageObjectAddedEvent(obj))){
             getStorageMap(uuid).put(keyToString(key), obj);
         }
         return obj;
@@ -144,8 +146,8 @@ public class DreamfireStorageManager {
      * <param name="uuid">Player UUID, or <c>null</c> for global storage.</param>
      * <returns>The removed storage wrapper, or <c>null</c> if not present.</returns>
      * <remarks>
-     * Current behavior: the object is removed first; then <see cref="StorageObjectRemovedEvent"/> is fired.
-     * If that event is cancelled, this method still leaves the object removed (original logic retained).
+     * <see cref="StorageObjectRemovedEvent"/> is fired before the object is removed.
+     * If that event is cancelled, the object stays stored.
      * </remarks>
      * <example>
      * <code>
@@ -157,8 +159,8 @@ public class DreamfireStorageManager {
      * </example>
      */
     public DreamfireStorageObject<?> removeData(Object key, UUID uuid) {
-        var data = getStorageMap(uuid).remove(keyToString(key));
-        if(data != null && !new StorageObjectRemovedEvent(data).isCancelled()){
+        var data = getStorageMap(uuid).get(keyToString(key));
+        if(data != null && !DreamEventDispatcher.isCancelled(StorageObjectRemovedEvent.getHandlerList(), () -> new StorageObjectRemovedEvent(data))){
             getStorageMap(uuid).remove(keyToString(key));
         }
         return data;
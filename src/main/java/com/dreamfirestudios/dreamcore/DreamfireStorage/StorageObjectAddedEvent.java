@@ -23,9 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamfireStorage;
 
-import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -40,7 +39,7 @@ import org.jetbrains.annotations.NotNull;
  * <remarks>
  * <list type="bullet">
  *   <item>This event is <b>cancellable</b>. Cancelling prevents the put operation.</item>
- *   <item>The event is dispatched on the main thread via <c>BukkitScheduler#runTask</c>.</item>
+ *   <item>The event is dispatched synchronously, so cancellation is seen by the caller (off the main thread it is handed to the main thread and cannot cancel).</item>
  * </list>
  * </remarks>
  * <example>
@@ -66,13 +65,13 @@ public class StorageObjectAddedEvent extends Event implements Cancellable {
 
     /**
      * <summary>
-     * Constructs the event and schedules synchronous dispatch via the Bukkit plugin manager.
+     * Constructs the event and dispatches it synchronously via <see cref="DreamEventDispatcher#call(Event)"/>.
      * </summary>
      * <param name="storageObject">The object proposed for storage.</param>
      */
     public StorageObjectAddedEvent(final DreamfireStorageObject<?> storageObject) {
         this.storageObject = storageObject;
-        Bukkit.getScheduler().runTask(DreamCore.DreamCore, () -> {Bukkit.getPluginManager().callEvent(this);});
+        DreamEventDispatcher.call(this);
     }
 
     /** <returns>The static handler list (Bukkit requirement).</returns> */
@@ -23,9 +23,8 @@
  */
 package com.dreamfirestudios.dreamcore.DreamfireStorage;
 
-import com.dreamfirestudios.dreamcore.DreamCore;
+import com.dreamfirestudios.dreamcore.DreamEvent.DreamEventDispatcher;
 import lombok.Getter;
-import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -33,17 +32,15 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * <summary>
- * Fired after a <see cref="DreamfireStorageObject"/> has been removed from
+ * Fired before a <see cref="DreamfireStorageObject"/> is removed from
  * <see cref="DreamfireStorageManager"/>.
  * </summary>
  *
  * <remarks>
  * <list type="bullet">
- *   <item>This event is <b>cancellable</b>, but the current manager logic removes first, fires after.</item>
- *   <item>Because of that order, cancelling does not reinsert the object (behavior preserved as-is).</item>
- *   <item>The event is dispatched on the main thread via <c>BukkitScheduler#runTask</c>.</item>
+ *   <item>This event is <b>cancellable</b>. Cancelling keeps the object stored.</item>
+ *   <item>The event is dispatched synchronously, so cancellation is seen by the caller (off the main thread it is handed to the main thread and cannot cancel).</item>
  * </list>
- * If you want cancellation to prevent removal, I can rewrite the manager method to check the event first.
  * </remarks>
  * <example>
  * <code>
@@ -66,13 +63,13 @@ public class StorageObjectRemovedEvent extends Event implements Cancellable {
 
     /**
      * <summary>
-     * Constructs the event and schedules synchronous dispatch via the Bukkit plugin manager.
+     * Constructs the event and dispatches it synchronously via <see cref="DreamEventDispatcher#call(Event)"/>.
      * </summary>
      * <param name="storageObject">The object that was removed.</param>
      */
     public StorageObjectRemovedEvent(final DreamfireStorageObject<?> storageObject) {
         this.storageObject = storageObject;
-        Bukkit.getScheduler().runTask(DreamCore.DreamCore, () -> {Bukkit.getPluginManager().callEvent(this);});
+        DreamEventDispatcher.call(this);
     }
 
     /** <returns>The static handler list (Bukkit requirement).</returns> */
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// <summary>
+/// Round-trips <see cref="DreamBlockPos"/> packing, with the focus on negative coordinates and the edges of each field.
+/// </summary>
+class DreamBlockPosTest {
+
+    private static final int MAX_XZ = (1 << 25) - 1;
+    private static final int MIN_XZ = -(1 << 25);
+    private static final int MAX_Y = 2047;
+    private static final int MIN_Y = -2048;
+
+    @Test
+    void roundTripsNegativeCoordinates() {
+        assertRoundTrip(-1, -1, -1);
+        assertRoundTrip(-1, 0, 0);
+        assertRoundTrip(0, -1, 0);
+        assertRoundTrip(0, 0, -1);
+        assertRoundTrip(-30_000_000, -64, -30_000_000);
+        assertRoundTrip(-12345, -2000, 678);
+    }
+
+    @Test
+    void roundTripsFieldLimits() {
+        for (int x : new int[] {MIN_XZ, -1, 0, 1, MAX_XZ}) {
+            for (int y : new int[] {MIN_Y, -1, 0, 1, MAX_Y}) {
+                for (int z : new int[] {MIN_XZ, -1, 0, 1, MAX_XZ}) assertRoundTrip(x, y, z);
+            }
+        }
+    }
+
+    @Test
+    void neighboursAroundOriginGetDistinctKeys() {
+        Set<Long> keys = new HashSet<>();
+        for (int x = -2; x <= 2; x++) {
+            for (int y = -2; y <= 2; y++) {
+                for (int z = -2; z <= 2; z++) assertTrue(keys.add(DreamBlockPos.pack(x, y, z)), x + " " + y + " " + z);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsRandomCoordinates() {
+        Random random = new Random(0xD5EA11L);
+        for (int i = 0; i < 100_000; i++) {
+            int x = MIN_XZ + random.nextInt(MAX_XZ - MIN_XZ + 1);
+            int y = MIN_Y + random.nextInt(MAX_Y - MIN_Y + 1);
+            int z = MIN_XZ + random.nextInt(MAX_XZ - MIN_XZ + 1);
+            assertRoundTrip(x, y, z);
+        }
+    }
+
+    private static void assertRoundTrip(int x, int y, int z) {
+        long key = DreamBlockPos.pack(x, y, z);
+        assertEquals(x, DreamBlockPos.unpackX(key), "x of " + x + " " + y + " " + z);
+        assertEquals(y, DreamBlockPos.unpackY(key), "y of " + x + " " + y + " " + z);
+        assertEquals(z, DreamBlockPos.unpackZ(key), "z of " + x + " " + y + " " + z);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// <summary>
+/// Runs random put/remove/get sequences against <see cref="PackedPositionIntMap"/> and a <c>HashMap</c> side by side.
+/// </summary>
+class PackedPositionIntMapTest {
+
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            PackedPositionIntMap map = new PackedPositionIntMap(1);
+            Map<Long, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 20_000; i++) {
+                long key = DreamBlockPos.pack(random.nextInt(13) - 6, random.nextInt(13) - 6, random.nextInt(13) - 6);
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(orMissing(expected.put(key, i)), map.put(key, i, MISSING), "put, seed " + seed);
+                    case 2 -> assertEquals(orMissing(expected.remove(key)), map.remove(key, MISSING), "remove, seed " + seed);
+                    default -> {
+                        assertEquals(orMissing(expected.get(key)), map.getOrDefault(key, MISSING), "get, seed " + seed);
+                        assertEquals(expected.containsKey(key), map.containsKey(key), "containsKey, seed " + seed);
+                    }
+                }
+                assertEquals(expected.size(), map.size(), "size, seed " + seed);
+            }
+            assertSameContents(expected, map);
+        }
+    }
+
+    @Test
+    void matchesHashMapWhileGrowingAndDraining() {
+        Random random = new Random(11L);
+        PackedPositionIntMap map = new PackedPositionIntMap(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = DreamBlockPos.pack(random.nextInt(129) - 64, random.nextInt(129) - 64, random.nextInt(129) - 64);
+            assertEquals(orMissing(expected.put(key, i)), map.put(key, i, MISSING));
+        }
+        assertSameContents(expected, map);
+        for (Long key : expected.keySet().toArray(Long[]::new)) {
+            assertEquals((int) expected.remove(key), map.remove(key, MISSING));
+            if (expected.size() % 1_000 == 0) assertSameContents(expected, map);
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    private static int orMissing(Integer value) {
+        return value == null ? MISSING : value;
+    }
+
+    private static void assertSameContents(Map<Long, Integer> expected, PackedPositionIntMap map) {
+        assertEquals(expected.size(), map.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach((key, value) -> assertNull(actual.put(key, value), "duplicate key " + key));
+        assertEquals(expected, actual);
+    }
+}
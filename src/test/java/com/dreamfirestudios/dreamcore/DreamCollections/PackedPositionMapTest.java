@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// <summary>
+/// Runs random put/remove/get sequences against <see cref="PackedPositionMap"/> and a <c>HashMap</c> side by side.
+/// </summary>
+/// <remarks>
+/// Positions come from a small cube around the origin, so keys repeat, probe chains collide and removals shift entries
+/// back; the map starts at its minimum size so it rehashes many times on the way up.
+/// </remarks>
+class PackedPositionMapTest {
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        for (long seed = 1; seed <= 20; seed++) runRandom(seed, 20_000, 6);
+    }
+
+    @Test
+    void matchesHashMapWhileGrowingAndDraining() {
+        Random random = new Random(42L);
+        PackedPositionMap<Integer> map = new PackedPositionMap<>(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = randomKey(random, 64);
+            assertEquals(expected.put(key, i), map.put(key, i));
+        }
+        assertSameContents(expected, map);
+        for (Long key : expected.keySet().toArray(Long[]::new)) {
+            assertEquals(expected.remove(key), map.remove(key));
+            if (expected.size() % 1_000 == 0) assertSameContents(expected, map);
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void clearKeepsTheMapUsable() {
+        PackedPositionMap<String> map = new PackedPositionMap<>();
+        for (int x = -50; x < 50; x++) map.put(DreamBlockPos.pack(x, -x, x * 7), "v" + x);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(DreamBlockPos.pack(-1, 1, -7)));
+        map.put(DreamBlockPos.pack(-1, 1, -7), "again");
+        assertEquals("again", map.get(DreamBlockPos.pack(-1, 1, -7)));
+        assertEquals(1, map.size());
+    }
+
+    private static void runRandom(long seed, int operations, int radius) {
+        Random random = new Random(seed);
+        PackedPositionMap<Integer> map = new PackedPositionMap<>(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < operations; i++) {
+            long key = randomKey(random, radius);
+            switch (random.nextInt(5)) {
+                case 0, 1 -> assertEquals(expected.put(key, i), map.put(key, i), "put, seed " + seed);
+                case 2 -> assertEquals(expected.remove(key), map.remove(key), "remove, seed " + seed);
+                case 3 -> assertEquals(expected.putIfAbsent(key, i) == null, map.putIfAbsent(key, i), "putIfAbsent, seed " + seed);
+                default -> {
+                    assertEquals(expected.get(key), map.get(key), "get, seed " + seed);
+                    assertEquals(expected.containsKey(key), map.containsKey(key), "containsKey, seed " + seed);
+                }
+            }
+            assertEquals(expected.size(), map.size(), "size, seed " + seed);
+        }
+        assertSameContents(expected, map);
+    }
+
+    private static long randomKey(Random random, int radius) {
+        return DreamBlockPos.pack(random.nextInt(2 * radius + 1) - radius, random.nextInt(2 * radius + 1) - radius,
+                random.nextInt(2 * radius + 1) - radius);
+    }
+
+    private static void assertSameContents(Map<Long, Integer> expected, PackedPositionMap<Integer> map) {
+        assertEquals(expected.size(), map.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach((key, value) -> assertNull(actual.put(key, value), "duplicate key " + key));
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), map.values().size());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamcore.DreamCollections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// <summary>
+/// Runs random add/remove/contains sequences against <see cref="PackedPositionSet"/> and a <c>HashSet</c> side by side.
+/// </summary>
+class PackedPositionSetTest {
+
+    @Test
+    void matchesHashSetUnderRandomOperations() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            PackedPositionSet set = new PackedPositionSet(1);
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 20_000; i++) {
+                long key = DreamBlockPos.pack(random.nextInt(13) - 6, random.nextInt(13) - 6, random.nextInt(13) - 6);
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(expected.add(key), set.add(key), "add, seed " + seed);
+                    case 2 -> assertEquals(expected.remove(key), set.remove(key), "remove, seed " + seed);
+                    default -> assertEquals(expected.contains(key), set.contains(key), "contains, seed " + seed);
+                }
+                assertEquals(expected.size(), set.size(), "size, seed " + seed);
+            }
+            assertSameContents(expected, set);
+        }
+    }
+
+    @Test
+    void matchesHashSetWhileGrowingAndDraining() {
+        Random random = new Random(7L);
+        PackedPositionSet set = new PackedPositionSet(1);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = DreamBlockPos.pack(random.nextInt(129) - 64, random.nextInt(129) - 64, random.nextInt(129) - 64);
+            assertEquals(expected.add(key), set.add(key));
+        }
+        assertSameContents(expected, set);
+        for (Long key : expected.toArray(Long[]::new)) {
+            assertTrue(set.remove(key));
+            expected.remove(key);
+            if (expected.size() % 1_000 == 0) assertSameContents(expected, set);
+        }
+        assertTrue(set.isEmpty());
+    }
+
+    private static void assertSameContents(Set<Long> expected, PackedPositionSet set) {
+        assertEquals(expected.size(), set.size());
+        Set<Long> actual = new HashSet<>();
+        set.forEach(key -> assertTrue(actual.add(key), "duplicate key " + key));
+        assertEquals(expected, actual);
+    }
+}